@@ -0,0 +1,51 @@
+package software.amazon.emrserverless.application;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.emrserverless.EmrServerlessClient;
+
+/**
+ * The cached client of {@link ClientBuilder}, as warm invocations get it, against building a new client on every
+ * invocation, as the handlers did before clients were cached. The rebuilt client is evicted and closed again, its
+ * HTTP client is the shared Lambda one and stays open.
+ *
+ * Run with: mvn -Pjmh integration-test -Djmh.include=ClientBuilderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientBuilderBenchmark {
+
+    private static final Region REGION = Region.US_WEST_2;
+
+    @TearDown
+    public void tearDown() {
+        ClientBuilder.closeClients();
+    }
+
+    @Benchmark
+    public EmrServerlessClient cachedClient() {
+        return ClientBuilder.getClient(REGION, null);
+    }
+
+    @Benchmark
+    public EmrServerlessClient rebuiltClient() {
+        ClientBuilder.closeClients();
+        return ClientBuilder.getClient(REGION, null);
+    }
+}
@@ -0,0 +1,86 @@
+package software.amazon.emrserverless.application;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serializations per second of a resource model, the compact {@link LogSerializer} against toString as the handlers
+ * logged the model before.
+ *
+ * Run with: mvn -Pjmh integration-test -Djmh.include=LogSerializerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogSerializerBenchmark {
+
+    /**
+     * Runtime configuration properties of the model, each a redacted secret.
+     */
+    @Param({"20", "200"})
+    public int properties;
+
+    /**
+     * Tags of the model.
+     */
+    @Param({"50"})
+    public int tags;
+
+    private ResourceModel model;
+    private LogSerializer serializer;
+
+    @Setup
+    public void setup() {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (int index = 0; index < tags; index++) {
+            modelTags.add(Tag.builder().key("tag-" + index).value("value-" + index).build());
+        }
+        final Map<String, String> modelProperties = new HashMap<>();
+        for (int index = 0; index < properties; index++) {
+            modelProperties.put("spark.hadoop.secret" + index, "s3cr3t-value");
+        }
+        final Set<ConfigurationObject> runtimeConfiguration = new HashSet<>();
+        runtimeConfiguration.add(ConfigurationObject.builder()
+            .classification("spark-defaults")
+            .properties(modelProperties)
+            .build());
+        model = ResourceModel.builder()
+            .applicationId("00f0abcdefghijkl")
+            .arn("arn:aws:emr-serverless:us-east-1:123456789012:/applications/00f0abcdefghijkl")
+            .name("application")
+            .type("Spark")
+            .releaseLabel("emr-6.9.0")
+            .runtimeConfiguration(runtimeConfiguration)
+            .tags(modelTags)
+            .build();
+        serializer = new LogSerializer(LogSerializer.DEFAULT_MAX_ITEMS, LogSerializer.DEFAULT_MAX_LENGTH);
+    }
+
+    @Benchmark
+    public String toStringModel() {
+        return model.toString();
+    }
+
+    @Benchmark
+    public String serializeModel() {
+        return serializer.serialize(model);
+    }
+}
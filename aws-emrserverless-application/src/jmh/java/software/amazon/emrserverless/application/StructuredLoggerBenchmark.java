@@ -0,0 +1,91 @@
+package software.amazon.emrserverless.application;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.emrserverless.model.Application;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.awssdk.services.emrserverless.model.Configuration;
+import software.amazon.awssdk.services.emrserverless.model.GetApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.GetApplicationResponse;
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * Cost of the logging of a stabilization poll: the eager String.format of the whole request and response, as
+ * readActiveResource logged before, against the structured logger at INFO. The GC profiler reports the bytes
+ * allocated per poll as gc.alloc.rate.norm.
+ *
+ * Run with: mvn -Pjmh integration-test -Djmh.include=StructuredLoggerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StructuredLoggerBenchmark {
+
+    private GetApplicationRequest request;
+    private GetApplicationResponse response;
+    private String lastLine;
+    private Logger logger;
+    private StructuredLogger structuredLogger;
+
+    @Setup
+    public void setup() {
+        final Map<String, String> properties = new HashMap<>();
+        final Map<String, String> tags = new HashMap<>();
+        for (int index = 0; index < 20; index++) {
+            properties.put("spark.executor.property" + index, "value-" + index);
+            tags.put("tag-" + index, "value-" + index);
+        }
+        request = GetApplicationRequest.builder().applicationId("00f0abcdefghijkl").build();
+        response = GetApplicationResponse.builder()
+            .application(Application.builder()
+                .applicationId("00f0abcdefghijkl")
+                .arn("arn:aws:emr-serverless:us-east-1:123456789012:/applications/00f0abcdefghijkl")
+                .name("application")
+                .type("Spark")
+                .releaseLabel("emr-6.9.0")
+                .state(ApplicationState.CREATING)
+                .runtimeConfiguration(Configuration.builder()
+                    .classification("spark-defaults")
+                    .properties(properties)
+                    .build())
+                .tags(tags)
+                .build())
+            .build();
+        // Keeps the last line, so the logged lines can't be optimized away
+        logger = line -> lastLine = line;
+        structuredLogger = new StructuredLogger(logger, StructuredLogger.Level.INFO, StructuredLogger.DEFAULT_MAX_FIELD_LENGTH);
+    }
+
+    @Benchmark
+    public String eagerPoll() {
+        logger.log(String.format("[INFO] Invoking getApplication with request: %s", request));
+        logger.log(String.format("[INFO] Received getApplication response for requestId: %s, response: %s", null, response));
+        logger.log(String.format("[INFO] %s has successfully been read.", ResourceModel.TYPE_NAME));
+        return lastLine;
+    }
+
+    @Benchmark
+    public String structuredPoll() {
+        structuredLogger.debug("getApplication.request", fields -> fields.field("request", request));
+        structuredLogger.debug("getApplication.response", fields -> fields.field("response", response));
+        structuredLogger.info("getApplication.read", fields -> fields.field("applicationId", request.applicationId())
+            .field("state", response.application().stateAsString()));
+        return lastLine;
+    }
+}
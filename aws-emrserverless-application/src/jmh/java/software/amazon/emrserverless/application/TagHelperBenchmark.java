@@ -0,0 +1,98 @@
+package software.amazon.emrserverless.application;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * The single pass {@link TagHelper#diff} against the stream based generateTagsToAdd and generateTagsToRemove, and
+ * generateTagsForCreate against the merge through convertToMap it replaced, up to the limit of 50 tags with stack
+ * level tags propagated to the resource.
+ *
+ * Run with: mvn -Pjmh integration-test -Djmh.include=TagHelperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagHelperBenchmark {
+
+    /**
+     * Tags of the resource, a third of them redefined, a third kept and a third replaced by new tags in the update.
+     */
+    @Param({"10", "50"})
+    public int tagCount;
+
+    private Map<String, String> previousTags;
+    private Map<String, String> desiredTags;
+    private ResourceModel model;
+    private ResourceHandlerRequest<ResourceModel> request;
+
+    @Setup
+    public void setUp() {
+        previousTags = new HashMap<>();
+        desiredTags = new HashMap<>();
+        for (int index = 0; index < tagCount; index++) {
+            previousTags.put("tag-" + index, "value-" + index);
+            switch (index % 3) {
+                case 0:
+                    desiredTags.put("tag-" + index, "redefined-" + index);
+                    break;
+                case 1:
+                    desiredTags.put("tag-" + index, "value-" + index);
+                    break;
+                default:
+                    desiredTags.put("added-" + index, "value-" + index);
+            }
+        }
+        model = ResourceModel.builder().tags(TagHelper.convertToSet(desiredTags)).build();
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceTags(previousTags)
+            .desiredResourceState(model)
+            .build();
+    }
+
+    @Benchmark
+    public void streamDiff(final Blackhole blackhole) {
+        blackhole.consume(TagHelper.generateTagsToAdd(previousTags, desiredTags));
+        blackhole.consume(TagHelper.generateTagsToRemove(previousTags, desiredTags));
+    }
+
+    @Benchmark
+    public TagHelper.TagDiff singlePassDiff() {
+        return TagHelper.diff(previousTags, desiredTags);
+    }
+
+    @Benchmark
+    public Map<String, String> mergedTagsForCreate() {
+        final Map<String, String> tagMap = new HashMap<>();
+        if (request.getDesiredResourceTags() != null) {
+            tagMap.putAll(request.getDesiredResourceTags());
+        }
+        tagMap.putAll(TagHelper.convertToMap(model.getTags()));
+        return Collections.unmodifiableMap(tagMap);
+    }
+
+    @Benchmark
+    public Map<String, String> generateTagsForCreate() {
+        return TagHelper.generateTagsForCreate(model, request);
+    }
+}
@@ -0,0 +1,224 @@
+package software.amazon.emrserverless.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.emrserverless.model.Application;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationSummary;
+import software.amazon.awssdk.services.emrserverless.model.Architecture;
+import software.amazon.awssdk.services.emrserverless.model.AutoStartConfig;
+import software.amazon.awssdk.services.emrserverless.model.AutoStopConfig;
+import software.amazon.awssdk.services.emrserverless.model.CloudWatchLoggingConfiguration;
+import software.amazon.awssdk.services.emrserverless.model.Configuration;
+import software.amazon.awssdk.services.emrserverless.model.CreateApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.ImageConfiguration;
+import software.amazon.awssdk.services.emrserverless.model.InitialCapacityConfig;
+import software.amazon.awssdk.services.emrserverless.model.InteractiveConfiguration;
+import software.amazon.awssdk.services.emrserverless.model.ListApplicationsResponse;
+import software.amazon.awssdk.services.emrserverless.model.ManagedPersistenceMonitoringConfiguration;
+import software.amazon.awssdk.services.emrserverless.model.MaximumAllowedResources;
+import software.amazon.awssdk.services.emrserverless.model.MonitoringConfiguration;
+import software.amazon.awssdk.services.emrserverless.model.NetworkConfiguration;
+import software.amazon.awssdk.services.emrserverless.model.S3MonitoringConfiguration;
+import software.amazon.awssdk.services.emrserverless.model.SchedulerConfiguration;
+import software.amazon.awssdk.services.emrserverless.model.UpdateApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.WorkerResourceConfig;
+import software.amazon.awssdk.services.emrserverless.model.WorkerTypeSpecification;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Throughput and, with the GC profiler, allocation rate of the Translator round trips made by every Read, List and
+ * stabilization poll, over applications with many runtime configurations, log types and worker types.
+ *
+ * Run with: mvn -Pjmh integration-test
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private static final List<String> WORKER_TYPES = Arrays.asList("DRIVER", "EXECUTOR", "SPARK_DRIVER", "SPARK_EXECUTOR");
+    private static final List<String> LOG_TYPES = Arrays.asList("SPARK_DRIVER", "SPARK_EXECUTOR", "HIVE_DRIVER", "TEZ_TASK");
+
+    /**
+     * Runtime configurations of the application, each with nested configurations and properties.
+     */
+    @Param({"4", "32"})
+    public int runtimeConfigurations;
+
+    /**
+     * Applications in a ListApplications page, the service maximum is 50.
+     */
+    @Param({"50"})
+    public int pageSize;
+
+    private Application application;
+    private ResourceModel model;
+    private ResourceHandlerRequest<ResourceModel> createRequest;
+    private ResourceHandlerRequest<ResourceModel> updateRequest;
+    private ListApplicationsResponse listResponse;
+
+    @Setup
+    public void setUp() {
+        application = application("00f0abcdefghijkl", runtimeConfigurations, "emr-7.1.0");
+        model = Translator.translate(application);
+        createRequest = ResourceHandlerRequest.<ResourceModel>builder()
+            .clientRequestToken("client-request-token")
+            .desiredResourceState(model)
+            .desiredResourceTags(tags("stack-tag", 10))
+            .build();
+        updateRequest = ResourceHandlerRequest.<ResourceModel>builder()
+            .clientRequestToken("client-request-token")
+            .desiredResourceState(model)
+            .previousResourceState(Translator.translate(application("00f0abcdefghijkl", runtimeConfigurations + 1, "emr-7.0.0")))
+            .build();
+        final List<ApplicationSummary> summaries = new ArrayList<>(pageSize);
+        for (int index = 0; index < pageSize; index++) {
+            summaries.add(ApplicationSummary.builder()
+                .id(String.format("00f0abcdefgh%04d", index))
+                .arn("arn:aws:emr-serverless:us-east-1:123456789012:/applications/" + String.format("00f0abcdefgh%04d", index))
+                .name("application-" + index)
+                .releaseLabel("emr-7.1.0")
+                .type("Spark")
+                .state(ApplicationState.STARTED)
+                .build());
+        }
+        listResponse = ListApplicationsResponse.builder().applications(summaries).nextToken("next-token").build();
+    }
+
+    @Benchmark
+    public ResourceModel translateApplication() {
+        return Translator.translate(application);
+    }
+
+    @Benchmark
+    public CreateApplicationRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model, createRequest);
+    }
+
+    @Benchmark
+    public UpdateApplicationRequest translateToUpdateRequest() {
+        return Translator.translateToUpdateRequest(model, updateRequest);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListResponse() {
+        return Translator.translateFromListResponse(listResponse);
+    }
+
+    private static Application application(final String applicationId, final int runtimeConfigurations, final String releaseLabel) {
+        final Map<String, InitialCapacityConfig> initialCapacity = new HashMap<>();
+        final Map<String, WorkerTypeSpecification> workerTypeSpecifications = new HashMap<>();
+        for (final String workerType : WORKER_TYPES) {
+            initialCapacity.put(workerType, InitialCapacityConfig.builder()
+                .workerCount(4L)
+                .workerConfiguration(WorkerResourceConfig.builder()
+                    .cpu("4 vCPU")
+                    .memory("16 GB")
+                    .disk("200 GB")
+                    .diskType("SHUFFLE_OPTIMIZED")
+                    .build())
+                .build());
+            workerTypeSpecifications.put(workerType, WorkerTypeSpecification.builder()
+                .imageConfiguration(ImageConfiguration.builder()
+                    .imageUri("123456789012.dkr.ecr.us-east-1.amazonaws.com/spark:" + workerType.toLowerCase(Locale.ROOT))
+                    .build())
+                .build());
+        }
+        final Map<String, List<String>> logTypes = new HashMap<>();
+        for (final String workerType : WORKER_TYPES) {
+            logTypes.put(workerType, Arrays.asList("STDOUT", "STDERR"));
+        }
+        for (final String logType : LOG_TYPES) {
+            logTypes.put(logType, Arrays.asList("STDOUT", "STDERR", "SPARK_EVENT_LOGS"));
+        }
+        final List<Configuration> runtimeConfiguration = new ArrayList<>(runtimeConfigurations);
+        for (int index = 0; index < runtimeConfigurations; index++) {
+            runtimeConfiguration.add(Configuration.builder()
+                .classification("classification-" + index)
+                .properties(properties("spark.property" + index, 20))
+                .configurations(Configuration.builder()
+                    .classification("export-" + index)
+                    .properties(properties("ENV_" + index, 5))
+                    .build())
+                .build());
+        }
+        return Application.builder()
+            .applicationId(applicationId)
+            .arn("arn:aws:emr-serverless:us-east-1:123456789012:/applications/" + applicationId)
+            .name("application")
+            .type("Spark")
+            .releaseLabel(releaseLabel)
+            .state(ApplicationState.STARTED)
+            .architecture(Architecture.X86_64)
+            .initialCapacity(initialCapacity)
+            .maximumCapacity(MaximumAllowedResources.builder().cpu("400 vCPU").memory("3000 GB").disk("20000 GB").build())
+            .autoStartConfiguration(AutoStartConfig.builder().enabled(true).build())
+            .autoStopConfiguration(AutoStopConfig.builder().enabled(true).idleTimeoutMinutes(15).build())
+            .networkConfiguration(NetworkConfiguration.builder()
+                .subnetIds("subnet-1", "subnet-2", "subnet-3")
+                .securityGroupIds("sg-1", "sg-2")
+                .build())
+            .imageConfiguration(ImageConfiguration.builder()
+                .imageUri("123456789012.dkr.ecr.us-east-1.amazonaws.com/spark:latest")
+                .build())
+            .workerTypeSpecifications(workerTypeSpecifications)
+            .monitoringConfiguration(MonitoringConfiguration.builder()
+                .s3MonitoringConfiguration(S3MonitoringConfiguration.builder()
+                    .logUri("s3://bucket/logs/")
+                    .encryptionKeyArn("arn:aws:kms:us-east-1:123456789012:key/key")
+                    .build())
+                .managedPersistenceMonitoringConfiguration(ManagedPersistenceMonitoringConfiguration.builder()
+                    .enabled(true)
+                    .build())
+                .cloudWatchLoggingConfiguration(CloudWatchLoggingConfiguration.builder()
+                    .enabled(true)
+                    .logGroupName("/aws/emr-serverless")
+                    .logStreamNamePrefix("application")
+                    .logTypes(logTypes)
+                    .build())
+                .build())
+            .runtimeConfiguration(runtimeConfiguration)
+            .interactiveConfiguration(InteractiveConfiguration.builder().studioEnabled(true).livyEndpointEnabled(true).build())
+            .schedulerConfiguration(SchedulerConfiguration.builder().queueTimeoutMinutes(360).maxConcurrentRuns(50).build())
+            .tags(tags("tag", 40))
+            .build();
+    }
+
+    private static Map<String, String> properties(final String prefix, final int count) {
+        final Map<String, String> properties = new HashMap<>();
+        for (int index = 0; index < count; index++) {
+            properties.put(prefix + "." + index, "value-" + index);
+        }
+        return properties;
+    }
+
+    private static Map<String, String> tags(final String prefix, final int count) {
+        final Map<String, String> tags = new HashMap<>();
+        for (int index = 0; index < count; index++) {
+            tags.put(prefix + "-" + index, "value-" + index);
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,157 @@
+package software.amazon.emrserverless.application;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import software.amazon.awssdk.services.emrserverless.model.Application;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationSummary;
+import software.amazon.awssdk.services.emrserverless.model.GetApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.GetApplicationResponse;
+import software.amazon.awssdk.services.emrserverless.model.ResourceNotFoundException;
+
+/**
+ * Hydrates the application summaries of a ListApplications page into full resource models with GetApplication.
+ *
+ * At most maxConcurrency reads are in flight, the reads retry themselves while throttled, see
+ * {@link BaseHandlerStd#invokeAsyncWithRetries}. Resource models keep the order of the page. Applications that are
+ * gone by the time they are read are left out, applications whose read fails or doesn't finish before the deadline
+ * are returned as translated from their summary.
+ */
+final class ApplicationHydrator {
+
+    private final Function<GetApplicationRequest, CompletableFuture<GetApplicationResponse>> getApplication;
+    private final int maxConcurrency;
+    private final Clock clock;
+    private final StructuredLogger logger;
+
+    /**
+     * @param getApplication starts a GetApplication call, retried while throttled
+     * @param maxConcurrency number of reads in flight
+     * @param clock          clock the deadline is measured on
+     * @param logger         logger of the handler
+     */
+    ApplicationHydrator(final Function<GetApplicationRequest, CompletableFuture<GetApplicationResponse>> getApplication,
+                        final int maxConcurrency,
+                        final Clock clock,
+                        final StructuredLogger logger) {
+        this.getApplication = getApplication;
+        this.maxConcurrency = maxConcurrency;
+        this.clock = clock;
+        this.logger = logger;
+    }
+
+    /**
+     * hydrate
+     *
+     * @param summaries application summaries of a page
+     * @param deadline  epoch millis on the clock after which no read is started and hydration stops waiting
+     * @return resource models in page order
+     */
+    List<ResourceModel> hydrate(final List<ApplicationSummary> summaries, final long deadline) {
+        // Per summary: null while not hydrated, empty if the application is gone, else its full resource model
+        final AtomicReferenceArray<Optional<ResourceModel>> hydrated = new AtomicReferenceArray<>(summaries.size());
+        final AtomicInteger nextSummary = new AtomicInteger();
+        final CompletableFuture<?>[] lanes = new CompletableFuture<?>[Math.min(maxConcurrency, summaries.size())];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            lanes[lane] = hydrateNext(summaries, hydrated, nextSummary, deadline);
+        }
+        try {
+            CompletableFuture.allOf(lanes).get(Math.max(deadline - clock.millis(), 0), TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            logger.warn("hydration.timedOut", fields -> fields.field("applications", summaries.size()));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            logger.error("hydration.failed", fields -> fields.field("applications", summaries.size()).field("error", e.getCause()));
+        }
+
+        final List<ResourceModel> resourceModels = new ArrayList<>(summaries.size());
+        for (int index = 0; index < summaries.size(); index++) {
+            final Optional<ResourceModel> resourceModel = hydrated.get(index);
+            if (resourceModel == null) {
+                resourceModels.add(Translator.translateFromSummary(summaries.get(index)));
+            } else {
+                resourceModel.ifPresent(resourceModels::add);
+            }
+        }
+        return resourceModels;
+    }
+
+    // A lane reads one summary after the other, so the number of lanes bounds the reads in flight
+    private CompletableFuture<Void> hydrateNext(final List<ApplicationSummary> summaries,
+                                                final AtomicReferenceArray<Optional<ResourceModel>> hydrated,
+                                                final AtomicInteger nextSummary,
+                                                final long deadline) {
+        final int index = nextSummary.getAndIncrement();
+        if (index >= summaries.size() || clock.millis() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final ApplicationSummary summary = summaries.get(index);
+        return read(summary)
+                .handle((resourceModel, e) -> {
+                    // An unexpected failure falls back to the summary, the lane goes on with the next one
+                    if (e != null) {
+                        logger.error("hydration.applicationFailed", fields -> fields.field("applicationId", summary.id()).field("error", e));
+                    } else if (resourceModel != null) {
+                        hydrated.set(index, resourceModel);
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> hydrateNext(summaries, hydrated, nextSummary, deadline));
+    }
+
+    // Completes with the hydrated model, empty if the application is gone, or null to fall back to the summary
+    private CompletableFuture<Optional<ResourceModel>> read(final ApplicationSummary summary) {
+        final GetApplicationRequest request = Translator.translateToReadRequest(Translator.translateFromSummary(summary));
+        CompletableFuture<GetApplicationResponse> response;
+        try {
+            response = getApplication.apply(request);
+        } catch (final RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+        return response.handle((getApplicationResponse, e) -> e == null
+                ? toResourceModel(summary, getApplicationResponse)
+                : onReadFailure(summary, e));
+    }
+
+    private Optional<ResourceModel> onReadFailure(final ApplicationSummary summary, final Throwable failure) {
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (cause instanceof ResourceNotFoundException) {
+            return Optional.empty();
+        }
+        logger.error("hydration.applicationFailed", fields -> fields.field("applicationId", summary.id()).field("error", cause));
+        return null;
+    }
+
+    // A response that can't be translated falls back to the summary, as a failed read does
+    private Optional<ResourceModel> toResourceModel(final ApplicationSummary summary, final GetApplicationResponse response) {
+        final ApplicationState state = Optional.ofNullable(response)
+                .map(GetApplicationResponse::application)
+                .map(Application::state)
+                .orElse(null);
+        if (state == null) {
+            return null;
+        }
+        if (BaseHandlerStd.INACTIVE_APPLICATION_STATES.contains(state)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Translator.translateFromReadResponse(response));
+        } catch (final RuntimeException e) {
+            logger.error("hydration.applicationFailed", fields -> fields.field("applicationId", summary.id()).field("error", e));
+            return null;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package software.amazon.emrserverless.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+import com.google.common.collect.ImmutableMap;
+
+import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * Stabilization poll delay that adapts to the application state observed by the last poll.
+ *
+ * Every state has its own base delay, which is doubled for every further poll that observes the same state, capped
+ * at the maximum delay and spread with equal jitter. Once the time since the first poll exceeds the timeout the delay
+ * is {@link Duration#ZERO}, which makes the proxy fail the stabilization.
+ *
+ * The delay is rebuilt on every invocation, so the state and the attempt it was first observed at are kept in the
+ * {@link CallbackContext}, like the start of the stabilization. The proxy keeps the attempts there as well.
+ *
+ * While the learned {@link StateTransitionTimes} expect the observed state to reach the target state later, the delay
+ * waits until the expected completion instead.
+ */
+class ApplicationStateDelay implements Delay {
+
+    static final Duration MIN_DELAY = Duration.ofSeconds(1);
+    static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(30);
+    static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(20);
+    private static final int MAX_EXPONENT = 16;
+
+    // Creation usually takes tens of seconds, so CREATING starts with a longer base delay.
+    private static final Map<ApplicationState, Duration> CREATE_BASE_DELAYS =
+            ImmutableMap.<ApplicationState, Duration>builder()
+                    .put(ApplicationState.CREATING, Duration.ofSeconds(10))
+                    .put(ApplicationState.STARTING, Duration.ofSeconds(5))
+                    .put(ApplicationState.STOPPING, Duration.ofSeconds(5))
+                    .build();
+
+    // TERMINATED usually shows up right after the delete call, so poll fast and back off from there.
+    private static final Map<ApplicationState, Duration> DELETE_BASE_DELAYS =
+            ImmutableMap.<ApplicationState, Duration>builder()
+                    .put(ApplicationState.CREATED, Duration.ofSeconds(2))
+                    .put(ApplicationState.STOPPED, Duration.ofSeconds(2))
+                    .put(ApplicationState.STOPPING, Duration.ofSeconds(3))
+                    .put(ApplicationState.STARTED, Duration.ofSeconds(3))
+                    .build();
+
+    private final CallbackContext callbackContext;
+    private final Map<ApplicationState, Duration> baseDelays;
+    private final String targetState;
+    private final Duration defaultBaseDelay;
+    private final Duration maxDelay;
+    private final Duration timeout;
+    private final Clock clock;
+    private final DoubleSupplier jitter;
+
+    ApplicationStateDelay(final CallbackContext callbackContext,
+                          final Map<ApplicationState, Duration> baseDelays,
+                          final String targetState,
+                          final Duration defaultBaseDelay,
+                          final Duration maxDelay,
+                          final Duration timeout,
+                          final Clock clock,
+                          final DoubleSupplier jitter) {
+        this.callbackContext = callbackContext;
+        this.baseDelays = baseDelays;
+        this.targetState = targetState;
+        this.defaultBaseDelay = defaultBaseDelay;
+        this.maxDelay = maxDelay;
+        this.timeout = timeout;
+        this.clock = clock;
+        this.jitter = jitter;
+    }
+
+    static ApplicationStateDelay forCreate(final CallbackContext callbackContext) {
+        return new ApplicationStateDelay(callbackContext, CREATE_BASE_DELAYS, ApplicationState.CREATED.toString(), MIN_DELAY,
+                DEFAULT_MAX_DELAY, DEFAULT_TIMEOUT, Clock.systemUTC(), () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    static ApplicationStateDelay forDelete(final CallbackContext callbackContext) {
+        return new ApplicationStateDelay(callbackContext, DELETE_BASE_DELAYS, ApplicationState.TERMINATED.toString(), MIN_DELAY,
+                DEFAULT_MAX_DELAY, DEFAULT_TIMEOUT, Clock.systemUTC(), () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        final long now = clock.millis();
+        if (callbackContext.getStabilizationStartTime() == null) {
+            callbackContext.setStabilizationStartTime(now);
+        }
+        final long remaining = timeout.toMillis() - (now - callbackContext.getStabilizationStartTime());
+        if (remaining <= 0) {
+            return Duration.ZERO;
+        }
+
+        final Optional<Duration> expectedRemaining = StateTransitionTimes.expectedRemaining(callbackContext, targetState, now);
+        if (expectedRemaining.isPresent()) {
+            return Duration.ofMillis(Math.min(expectedRemaining.get().toMillis(), remaining));
+        }
+
+        final String observedState = callbackContext.getObservedApplicationState();
+        if (callbackContext.getPollDelayStateAttempt() == null
+                || !Objects.equals(observedState, callbackContext.getPollDelayState())) {
+            callbackContext.setPollDelayState(observedState);
+            callbackContext.setPollDelayStateAttempt(attempt);
+        }
+        final ApplicationState state = observedState == null ? null : ApplicationState.fromValue(observedState);
+        final int exponent = Math.min(Math.max(attempt - callbackContext.getPollDelayStateAttempt(), 0), MAX_EXPONENT);
+        final long base = (state == null ? defaultBaseDelay : baseDelays.getOrDefault(state, defaultBaseDelay)).toMillis();
+        final long capped = Math.min(maxDelay.toMillis(), base << exponent);
+        final long jittered = capped / 2 + (long) (jitter.getAsDouble() * (capped / 2));
+
+        // The proxy sleeps in whole seconds, anything below a second would poll without waiting
+        return Duration.ofMillis(Math.max(MIN_DELAY.toMillis(), Math.min(jittered, remaining)));
+    }
+}
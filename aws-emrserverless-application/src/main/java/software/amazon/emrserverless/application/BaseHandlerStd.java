@@ -1,36 +1,37 @@
 package software.amazon.emrserverless.application;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 
 import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.AwsResponseMetadata;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.exception.RetryableException;
+import software.amazon.awssdk.services.emrserverless.EmrServerlessAsyncClient;
 import software.amazon.awssdk.services.emrserverless.EmrServerlessClient;
 import software.amazon.awssdk.services.emrserverless.model.Application;
 import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
-import software.amazon.awssdk.services.emrserverless.model.ConflictException;
 import software.amazon.awssdk.services.emrserverless.model.CreateApplicationRequest;
 import software.amazon.awssdk.services.emrserverless.model.DeleteApplicationRequest;
-import software.amazon.awssdk.services.emrserverless.model.EmrServerlessException;
-import software.amazon.awssdk.services.emrserverless.model.EmrServerlessResponseMetadata;
 import software.amazon.awssdk.services.emrserverless.model.GetApplicationRequest;
 import software.amazon.awssdk.services.emrserverless.model.GetApplicationResponse;
-import software.amazon.awssdk.services.emrserverless.model.InternalServerException;
 import software.amazon.awssdk.services.emrserverless.model.ListApplicationsRequest;
 import software.amazon.awssdk.services.emrserverless.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.emrserverless.model.TagResourceRequest;
 import software.amazon.awssdk.services.emrserverless.model.UntagResourceRequest;
 import software.amazon.awssdk.services.emrserverless.model.UpdateApplicationRequest;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -38,6 +39,28 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+
+    /**
+     * How handlers invoke EMR Serverless operations.
+     */
+    enum ExecutionMode {
+        /**
+         * Blocking calls on the sync client.
+         */
+        SYNC,
+        /**
+         * Calls on the async client, handlers compose the returned futures and only block where the result is needed.
+         */
+        ASYNC
+    }
+
+    /**
+     * Environment variable holding the {@link ExecutionMode} of the handlers, SYNC if unset or unknown.
+     */
+    static final String EXECUTION_MODE_ENVIRONMENT_VARIABLE = "EXECUTION_MODE";
+
+    private static final ExecutionMode CONFIGURED_EXECUTION_MODE = parseExecutionMode(System.getenv(EXECUTION_MODE_ENVIRONMENT_VARIABLE));
+
     static final Map<Class<? extends AwsRequest>, String> REQUEST_TO_OPERATION =
             ImmutableMap.<Class<? extends AwsRequest>, String>builder()
                     .put(GetApplicationRequest.class, "GetApplication")
@@ -49,11 +72,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     .put(UntagResourceRequest.class, "UntagResource")
                     .build();
 
-    static final Set<Class<? extends Exception>> RETRYABLE_EXCEPTIONS =
-            ImmutableSet.<Class<? extends Exception>>builder()
-                    .add(ConflictException.class)
-                    .add(InternalServerException.class)
-                    .build();
+    private static final String UNKNOWN_OPERATION = "Unknown";
 
     static final List<ApplicationState> INACTIVE_APPLICATION_STATES = Lists.newArrayList(ApplicationState.TERMINATED,
         ApplicationState.UNKNOWN_TO_SDK_VERSION);
@@ -66,8 +85,47 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         ApplicationState.STOPPING);
 
     static  final String ACCESS_DENIED_ERROR_CODE = "AccessDeniedException";
+
+    /**
+     * Error code of the exception a stabilization raises once the application can no longer reach the desired state.
+     */
+    static final String NOT_STABILIZED_ERROR_CODE = "NotStabilized";
     
-    Logger logger;
+    StructuredLogger logger;
+
+    /**
+     * Latest GetApplication response per application id within the current request. Mutating calls invalidate the
+     * entry of the application they touch.
+     */
+    final Map<String, GetApplicationResponse> readMemo = new ConcurrentHashMap<>();
+
+    /**
+     * Proxy of the async client for the current request, used where independent calls can overlap. The async client
+     * is only built on first use.
+     */
+    ProxyClient<EmrServerlessAsyncClient> asyncProxyClient;
+
+    /**
+     * Client every operation of the handler is invoked on, see {@link #invoke}. Set from
+     * {@link #EXECUTION_MODE_ENVIRONMENT_VARIABLE}.
+     */
+    ExecutionMode executionMode = CONFIGURED_EXECUTION_MODE;
+
+    static ExecutionMode parseExecutionMode(final String executionMode) {
+        if (executionMode == null) {
+            return ExecutionMode.SYNC;
+        }
+        try {
+            return ExecutionMode.valueOf(executionMode.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            return ExecutionMode.SYNC;
+        }
+    }
+
+    /**
+     * Paces and retries the calls of the current request on the token bucket of its account, see {@link #invoke}.
+     */
+    ThrottlingRetry throttlingRetry = ThrottlingRetry.forAccount(null);
 
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -75,6 +133,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
+        readMemo.clear();
+        asyncProxyClient = proxy.newProxy(ClientBuilder::getAsyncClient);
+        throttlingRetry = ThrottlingRetry.forAccount(request.getAwsAccountId());
         return handleRequest(
                 proxy,
                 request,
@@ -93,7 +154,39 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
      */
     protected GetApplicationResponse readActiveResource(final GetApplicationRequest request,
                                                   final ProxyClient<EmrServerlessClient> proxyClient) throws ResourceNotFoundException {
-        GetApplicationResponse response = readResource(request, proxyClient);
+        return requireActive(request, readResource(request, proxyClient));
+    }
+
+    /***
+     * Same as readActiveResource, but serves the application from the read memo if it was already read within the
+     * current request and no mutating call invalidated it since.
+     * @param request
+     * @param proxyClient
+     * @return GetApplicationResponse
+     * @throws ResourceNotFoundException
+     */
+    protected GetApplicationResponse readActiveResourceMemoized(final GetApplicationRequest request,
+                                                                final ProxyClient<EmrServerlessClient> proxyClient) throws ResourceNotFoundException {
+        final GetApplicationResponse memoized = request.applicationId() == null ? null : readMemo.get(request.applicationId());
+        if (memoized == null) {
+            return readActiveResource(request, proxyClient);
+        }
+        logger.debug("getApplication.memoized", fields -> fields.field("applicationId", request.applicationId()));
+        return requireActive(request, memoized);
+    }
+
+    /**
+     * Drops the memoized read of the application, must be called around every call that mutates it.
+     * @param applicationId
+     */
+    protected void invalidateReadMemo(final String applicationId) {
+        if (applicationId != null) {
+            readMemo.remove(applicationId);
+        }
+    }
+
+    private GetApplicationResponse requireActive(final GetApplicationRequest request,
+                                                 final GetApplicationResponse response) throws ResourceNotFoundException {
         final ApplicationState applicationState = Optional.ofNullable(response)
             .map(GetApplicationResponse::application)
             .map(Application::state)
@@ -118,24 +211,166 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 .map(AwsRequest::getClass)
                 .map(REQUEST_TO_OPERATION::get)
                 .orElse(null);
-        logger.log(String.format("[ERROR] handleError for %s, error: %s", operation, e));
-        if (isRetryableException(e) && callbackContext.getRetryAttempts() > 0 && !callbackContext.isStabilizationFailed()) {
-            // this will allow failed operation to retry
+        logger.error("handleError", fields -> fields.field("operation", operation).field("error", e));
+        if (e instanceof CircuitOpenException) {
+            // the call wasn't made, retry it from a callback once the circuit lets a probe through
+            final int callbackDelaySeconds = ((CircuitOpenException) e).getCallbackDelaySeconds();
+            logger.info("circuit.open", fields -> fields.field("operation", operation)
+                .field("callbackDelaySeconds", callbackDelaySeconds));
+            return ProgressEvent.defaultInProgressHandler(callbackContext, callbackDelaySeconds, resourceModel);
+        }
+        final ErrorClassification classification = ErrorClassificationTable.classify(operation, e);
+        final String retriedOperation = Optional.ofNullable(operation).orElse(UNKNOWN_OPERATION);
+        final int retries = callbackContext.getOperationRetries().getOrDefault(retriedOperation, 0);
+        if (classification.isRetryable() && retries + 1 < classification.getMaxAttempts() && callbackContext.getRetryAttempts() > 0) {
+            // this will allow failed operation to retry, after the delay of its classification
             callbackContext.retryAttempts = callbackContext.getRetryAttempts() - 1;
+            callbackContext.getOperationRetries().put(retriedOperation, retries + 1);
+            callbackContext.setRetryDelaySeconds((int) classification.retryDelay(retries).getSeconds());
             throw RetryableException.create(e.getMessage(), e);
         }
 
-        BaseHandlerException ex = (e instanceof EmrServerlessException)
-                ? Translator.translate((EmrServerlessException) e, operation, resourceModel.getApplicationId(), callbackContext)
-                : new CfnGeneralServiceException(operation, e);
+        BaseHandlerException ex = Translator.translate(classification.getErrorCode(), e, operation, resourceModel.getApplicationId());
         return ProgressEvent.failed(resourceModel, callbackContext, ex.getErrorCode(), ex.getMessage());
     }
 
-    protected boolean isRetryableException(final Exception e) {
-        return Optional.ofNullable(e)
-                .map(Exception::getClass)
-                .map(RETRYABLE_EXCEPTIONS::contains)
-                .orElse(false);
+    /***
+     * Delay of a call chain without a backoff delay of its own, waits before retries as classified by handleError.
+     * @param callbackContext
+     * @return Delay of the chain
+     */
+    protected Delay retryDelay(final CallbackContext callbackContext) {
+        return retryDelay(callbackContext, RetryDelay.DEFAULT_CHAIN_DELAY);
+    }
+
+    /***
+     * Delay of a call chain that waits before retries as classified by handleError, and otherwise as the chain delay.
+     * @param callbackContext
+     * @param chainDelay delay of the chain, e.g. between stabilization polls
+     * @return Delay of the chain
+     */
+    protected Delay retryDelay(final CallbackContext callbackContext, final Delay chainDelay) {
+        return new RetryDelay(callbackContext, chainDelay);
+    }
+
+    /***
+     * Invokes the operation on the client selected by the execution mode and waits for its response. Failures of async
+     * calls are rethrown unwrapped, so both modes surface the same exceptions. The call is paced by the token bucket of
+     * the account and retried with backoff while it is throttled.
+     * @param operation
+     * @param request
+     * @param proxyClient sync client proxy, used in SYNC mode
+     * @return response of the operation
+     * @throws CircuitOpenException if the circuit of the operation is open
+     */
+    protected <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT invoke(
+            final ServiceOperation<RequestT, ResponseT> operation,
+            final RequestT request,
+            final ProxyClient<EmrServerlessClient> proxyClient) {
+        final CircuitBreaker circuitBreaker = acquireCircuit(operation);
+        final ResponseT response;
+        try {
+            response = throttlingRetry.call(() -> {
+                if (executionMode == ExecutionMode.ASYNC) {
+                    try {
+                        return callAsync(operation, request).join();
+                    } catch (final CompletionException e) {
+                        throw unwrap(e);
+                    }
+                }
+                return proxyClient.injectCredentialsAndInvokeV2(request, serviceRequest -> operation.call(proxyClient.client(), serviceRequest));
+            });
+        } catch (final RuntimeException e) {
+            circuitBreaker.onFailure(e);
+            throw e;
+        }
+        circuitBreaker.onSuccess();
+        return response;
+    }
+
+    /***
+     * Starts the operation on the async client, regardless of the execution mode, for calls that can overlap. The call
+     * waits for a token of the account without blocking, but isn't retried when throttled, callers decide how to
+     * handle its failure.
+     * @param operation
+     * @param request
+     * @return future of the response, completes exceptionally on failure, with a CircuitOpenException if the circuit
+     * of the operation is open
+     */
+    protected <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> invokeAsync(
+            final ServiceOperation<RequestT, ResponseT> operation,
+            final RequestT request) {
+        return throttlingRetry.startAsync(() -> attemptAsync(operation, request));
+    }
+
+    /***
+     * Same as invokeAsync, but the call is retried with backoff while it is throttled, see
+     * {@link ThrottlingRetry#callAsync}.
+     * @param operation
+     * @param request
+     * @return future of the response
+     */
+    protected <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> invokeAsyncWithRetries(
+            final ServiceOperation<RequestT, ResponseT> operation,
+            final RequestT request) {
+        return throttlingRetry.callAsync(() -> attemptAsync(operation, request));
+    }
+
+    // Single attempt of an async call, rejected while the circuit of the operation is open
+    private <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> attemptAsync(
+            final ServiceOperation<RequestT, ResponseT> operation,
+            final RequestT request) {
+        final CircuitBreaker circuitBreaker = acquireCircuit(operation);
+        return callAsync(operation, request).whenComplete((response, e) -> {
+            if (e == null) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure(e);
+            }
+        });
+    }
+
+    // Breaker of the operation, once it let the call through
+    private static CircuitBreaker acquireCircuit(final ServiceOperation<?, ?> operation) {
+        final CircuitBreaker circuitBreaker = CircuitBreaker.forOperation(operation.getName());
+        if (!circuitBreaker.tryAcquire()) {
+            throw new CircuitOpenException(operation.getName(), circuitBreaker.remainingOpen());
+        }
+        return circuitBreaker;
+    }
+
+    private <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> callAsync(
+            final ServiceOperation<RequestT, ResponseT> operation,
+            final RequestT request) {
+        return asyncProxyClient.injectCredentialsAndInvokeV2Async(request,
+                serviceRequest -> operation.callAsync(asyncProxyClient.client(), serviceRequest));
+    }
+
+    /***
+     * Runs the handler within the current request, on the same clients and in the same execution mode.
+     * @param handler
+     * @return the handler
+     */
+    protected <HandlerT extends BaseHandlerStd> HandlerT nested(final HandlerT handler) {
+        handler.asyncProxyClient = asyncProxyClient;
+        handler.executionMode = executionMode;
+        handler.throttlingRetry = throttlingRetry;
+        return handler;
+    }
+
+    /***
+     * Failure a future completed exceptionally with, without the CompletionException wrapping it.
+     * @param future completed future
+     * @return failure of the future, null if it completed normally
+     */
+    static RuntimeException failureOf(final CompletableFuture<?> future) {
+        final Throwable failure = future.handle((response, e) -> e).join();
+        return failure == null ? null : unwrap(failure);
+    }
+
+    private static RuntimeException unwrap(final Throwable failure) {
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause);
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -154,21 +389,29 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
      */
     private GetApplicationResponse readResource(final GetApplicationRequest request,
                                                 final ProxyClient<EmrServerlessClient> proxyClient) throws ResourceNotFoundException {
-        GetApplicationResponse response;
+        final GetApplicationResponse response;
         try {
-            logger.log(String.format("[INFO] Invoking getApplication with request: %s", request));
-            response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::getApplication);
-
-            final String requestId = Optional.ofNullable(response)
-                .map(GetApplicationResponse::responseMetadata)
-                .map(EmrServerlessResponseMetadata::requestId)
-                .orElse(null);
-            logger.log(String.format("[INFO] Received getApplication response for requestId: %s, response: %s", requestId, response));
+            logger.debug("getApplication.request", fields -> fields.field("request", request));
+            response = invoke(ServiceOperation.GET_APPLICATION, request, proxyClient);
+            logger.debug("getApplication.response", fields -> fields.field("requestId", requestIdOf(response))
+                .field("application", response == null ? null : LogSerializer.of(response.application())));
+            if (response != null && request.applicationId() != null) {
+                readMemo.put(request.applicationId(), response);
+            }
         } catch (final AwsServiceException e) {
-            logger.log(String.format("[ERROR] Exception thrown while calling getApplication with request: %s", request));
+            logger.error("getApplication.failed", fields -> fields.field("applicationId", request.applicationId())
+                .field("error", e.getMessage()));
             throw e;
         }
-        logger.log(String.format("[INFO] %s has successfully been read.", ResourceModel.TYPE_NAME));
+        logger.info("getApplication.read", fields -> fields.field("applicationId", request.applicationId())
+            .field("state", response == null || response.application() == null ? null : response.application().stateAsString()));
         return response;
     }
+
+    static String requestIdOf(final AwsResponse response) {
+        return Optional.ofNullable(response)
+            .map(AwsResponse::responseMetadata)
+            .map(AwsResponseMetadata::requestId)
+            .orElse(null);
+    }
 }
@@ -3,6 +3,8 @@ package software.amazon.emrserverless.application;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -12,8 +14,16 @@ import java.util.Set;
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
     Integer retryAttempts = 5;
-    boolean stabilizationFailed;
+    Map<String, Integer> operationRetries = new HashMap<>();
+    Integer retryDelaySeconds;
     String applicationArn;
     Map<String, String> tagsToAdd = Collections.emptyMap();
     Set<String> tagsToRemove = Collections.emptySet();
+    boolean tagsReadFromApplication;
+    String observedApplicationState;
+    Long observedStateSince;
+    Long stabilizationStartTime;
+    String pollDelayState;
+    Integer pollDelayStateAttempt;
+    Map<String, List<Integer>> stateTransitionHistograms;
 }
@@ -0,0 +1,225 @@
+package software.amazon.emrserverless.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.services.emrserverless.model.InternalServerException;
+
+/**
+ * Circuit breaker of an EMR Serverless operation, shared by all handlers in the container.
+ *
+ * The breaker keeps the outcomes of the last windowSize calls. It opens once at least minimumCalls are recorded and the
+ * share of failures reaches failureRateThreshold, and rejects calls while open. After openDuration it half-opens and
+ * lets a single probe call through: the breaker closes if the probe succeeds and opens again if it fails.
+ *
+ * Only failures that point at a degraded endpoint count: server errors and calls that didn't get a response. Client
+ * errors and throttling are answers of a healthy service and count as successful calls.
+ *
+ * The breakers of {@link #forOperation} take their parameters from the CIRCUIT_* environment variables, falling back
+ * to the defaults if a variable is unset or invalid.
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    static final int DEFAULT_WINDOW_SIZE = 20;
+    static final int DEFAULT_MINIMUM_CALLS = 10;
+    static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+    static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    static final String WINDOW_SIZE_ENVIRONMENT_VARIABLE = "CIRCUIT_WINDOW_SIZE";
+    static final String MINIMUM_CALLS_ENVIRONMENT_VARIABLE = "CIRCUIT_MINIMUM_CALLS";
+    static final String FAILURE_RATE_THRESHOLD_ENVIRONMENT_VARIABLE = "CIRCUIT_FAILURE_RATE_THRESHOLD";
+    static final String OPEN_DURATION_MILLIS_ENVIRONMENT_VARIABLE = "CIRCUIT_OPEN_DURATION_MILLIS";
+
+    private static final int CONFIGURED_WINDOW_SIZE =
+            parsePositive(System.getenv(WINDOW_SIZE_ENVIRONMENT_VARIABLE), DEFAULT_WINDOW_SIZE);
+    private static final int CONFIGURED_MINIMUM_CALLS =
+            parsePositive(System.getenv(MINIMUM_CALLS_ENVIRONMENT_VARIABLE), DEFAULT_MINIMUM_CALLS);
+    private static final double CONFIGURED_FAILURE_RATE_THRESHOLD =
+            parseFailureRateThreshold(System.getenv(FAILURE_RATE_THRESHOLD_ENVIRONMENT_VARIABLE));
+    private static final Duration CONFIGURED_OPEN_DURATION = Duration.ofMillis(
+            parsePositive(System.getenv(OPEN_DURATION_MILLIS_ENVIRONMENT_VARIABLE), (int) DEFAULT_OPEN_DURATION.toMillis()));
+
+    private static final ConcurrentMap<String, CircuitBreaker> OPERATION_BREAKERS = new ConcurrentHashMap<>();
+
+    private final boolean[] failedCalls;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int nextCall;
+    private int recordedCalls;
+    private int failures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    /**
+     * @param windowSize           number of most recent calls the failure rate is computed over
+     * @param minimumCalls         number of recorded calls below which the breaker doesn't open
+     * @param failureRateThreshold share of failed calls in the window, between 0 and 1, at which the breaker opens
+     * @param openDuration         time the breaker rejects calls for before it lets a probe through
+     * @param clock                clock the open duration is measured on
+     */
+    CircuitBreaker(final int windowSize,
+                   final int minimumCalls,
+                   final double failureRateThreshold,
+                   final Duration openDuration,
+                   final Clock clock) {
+        this.failedCalls = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * @param operation name of the operation, as in {@link BaseHandlerStd#REQUEST_TO_OPERATION}
+     * @return breaker of the operation in this container, with the configured parameters
+     */
+    static CircuitBreaker forOperation(final String operation) {
+        return OPERATION_BREAKERS.computeIfAbsent(operation, name -> new CircuitBreaker(CONFIGURED_WINDOW_SIZE,
+                CONFIGURED_MINIMUM_CALLS, CONFIGURED_FAILURE_RATE_THRESHOLD, CONFIGURED_OPEN_DURATION, Clock.systemUTC()));
+    }
+
+    static int parsePositive(final String value, final int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            final int parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : defaultValue;
+        } catch (final NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    static double parseFailureRateThreshold(final String threshold) {
+        if (threshold == null) {
+            return DEFAULT_FAILURE_RATE_THRESHOLD;
+        }
+        try {
+            final double parsed = Double.parseDouble(threshold.trim());
+            return parsed > 0 && parsed <= 1 ? parsed : DEFAULT_FAILURE_RATE_THRESHOLD;
+        } catch (final NumberFormatException e) {
+            return DEFAULT_FAILURE_RATE_THRESHOLD;
+        }
+    }
+
+    /**
+     * Drops the breakers of the container, all operations start closed again.
+     */
+    static void clear() {
+        OPERATION_BREAKERS.clear();
+    }
+
+    /**
+     * @return whether the call may be made. Callers that get true must report the outcome of the call
+     */
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN && clock.millis() - openedAt >= openDuration.toMillis()) {
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * @param failure failure of the call, possibly wrapped in a CompletionException
+     */
+    synchronized void onFailure(final Throwable failure) {
+        if (!isServiceFailure(failure)) {
+            onSuccess();
+        } else if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls >= minimumCalls && failures >= failureRateThreshold * recordedCalls) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * @return time until the breaker lets a probe through, zero unless open
+     */
+    synchronized Duration remainingOpen() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMillis(Math.max(openDuration.toMillis() - (clock.millis() - openedAt), 0));
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @param failure failure of a call, possibly wrapped in a CompletionException
+     * @return whether the failure points at a degraded endpoint
+     */
+    static boolean isServiceFailure(final Throwable failure) {
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (cause instanceof InternalServerException || cause instanceof SdkClientException) {
+            return true;
+        }
+        return cause instanceof SdkServiceException
+                && ((SdkServiceException) cause).statusCode() >= 500
+                && !((SdkServiceException) cause).isThrottlingException();
+    }
+
+    private void record(final boolean failed) {
+        if (recordedCalls == failedCalls.length) {
+            failures -= failedCalls[nextCall] ? 1 : 0;
+        } else {
+            recordedCalls++;
+        }
+        failedCalls[nextCall] = failed;
+        failures += failed ? 1 : 0;
+        nextCall = (nextCall + 1) % failedCalls.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.millis();
+        probeInFlight = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        nextCall = 0;
+        recordedCalls = 0;
+        failures = 0;
+        probeInFlight = false;
+    }
+}
@@ -0,0 +1,35 @@
+package software.amazon.emrserverless.application;
+
+import java.time.Duration;
+
+/**
+ * Thrown instead of calling an operation whose {@link CircuitBreaker} is open.
+ */
+final class CircuitOpenException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String operation;
+    private final Duration retryAfter;
+
+    CircuitOpenException(final String operation, final Duration retryAfter) {
+        super(String.format("Circuit of %s is open, not calling it for %d ms", operation, retryAfter.toMillis()));
+        this.operation = operation;
+        this.retryAfter = retryAfter;
+    }
+
+    String getOperation() {
+        return operation;
+    }
+
+    Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * @return time until the circuit lets a probe through in whole seconds, rounded up to at least a second
+     */
+    int getCallbackDelaySeconds() {
+        return (int) Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
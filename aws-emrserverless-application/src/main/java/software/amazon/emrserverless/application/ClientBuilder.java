@@ -1,21 +1,151 @@
 package software.amazon.emrserverless.application;
 
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.conditions.AndRetryCondition;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.core.retry.conditions.RetryOnThrottlingCondition;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.emrserverless.EmrServerlessAsyncClient;
+import software.amazon.awssdk.services.emrserverless.EmrServerlessAsyncClientBuilder;
 import software.amazon.awssdk.services.emrserverless.EmrServerlessClient;
+import software.amazon.awssdk.services.emrserverless.EmrServerlessClientBuilder;
 import software.amazon.cloudformation.LambdaWrapper;
 
 /**
  * Creates the Client for EMR Serverless SDK.
+ *
+ * Clients are cached per region and endpoint override for the lifetime of the container, so warm invocations
+ * reuse the already initialized interceptor chain, endpoint resolver and signer instead of rebuilding them.
+ *
+ * The clients keep the SDK default retries for connection, IO, 5xx and clock skew failures, but don't retry
+ * throttling: throttled calls are retried by {@link ThrottlingRetry} only, see there for how many attempts a call gets
+ * in total.
+ *
+ * Tests can plug in other clients, e.g. an in-memory EMR Serverless, with {@link #overrideClients}; the handlers then
+ * call those instead of the service.
  */
 public class ClientBuilder {
 
+  private static final ConcurrentMap<ClientKey, EmrServerlessClient> CLIENTS = new ConcurrentHashMap<>();
+  private static final ConcurrentMap<ClientKey, EmrServerlessAsyncClient> ASYNC_CLIENTS = new ConcurrentHashMap<>();
+
+  private static final RetryCondition THROTTLING = RetryOnThrottlingCondition.create();
+
+  static final RetryPolicy RETRY_POLICY = RetryPolicy.builder()
+          .retryCondition(AndRetryCondition.create(
+                  RetryCondition.defaultRetryCondition(),
+                  context -> !THROTTLING.shouldRetry(context)))
+          .build();
+
+  private static final ClientOverrideConfiguration OVERRIDE_CONFIGURATION = ClientOverrideConfiguration.builder()
+          .retryPolicy(RETRY_POLICY)
+          .build();
+
+  private static volatile EmrServerlessClient clientOverride;
+  private static volatile EmrServerlessAsyncClient asyncClientOverride;
+
   /**
-   * Creates static EMR Serverless Client to call API.
+   * Returns the container scoped EMR Serverless Client to call API.
    * @return EmrServerless client
    */
   public static EmrServerlessClient getClient() {
-    return EmrServerlessClient.builder()
+    final EmrServerlessClient override = clientOverride;
+    return override != null ? override : getClient(null, null);
+  }
+
+  /**
+   * Returns the cached EMR Serverless Client for the given region and endpoint override, creating it on first use.
+   * @param region region of the client, null to resolve it from the environment
+   * @param endpointOverride endpoint override of the client, null to use the default endpoint
+   * @return EmrServerless client
+   */
+  static EmrServerlessClient getClient(final Region region, final URI endpointOverride) {
+    return CLIENTS.computeIfAbsent(new ClientKey(region, endpointOverride), ClientBuilder::buildClient);
+  }
+
+  /**
+   * Returns the container scoped EMR Serverless async Client to call API.
+   * @return EmrServerless async client
+   */
+  public static EmrServerlessAsyncClient getAsyncClient() {
+    final EmrServerlessAsyncClient override = asyncClientOverride;
+    return override != null ? override : getAsyncClient(null, null);
+  }
+
+  /**
+   * Makes {@link #getClient()} and {@link #getAsyncClient()} return the given clients instead of the cached ones,
+   * until the override is reset by passing null. The overriding clients are not closed by {@link #closeClients()}.
+   * @param client sync client to return, null to reset
+   * @param asyncClient async client to return, null to reset
+   */
+  static void overrideClients(final EmrServerlessClient client, final EmrServerlessAsyncClient asyncClient) {
+    clientOverride = client;
+    asyncClientOverride = asyncClient;
+  }
+
+  /**
+   * Returns the cached EMR Serverless async Client for the given region and endpoint override, creating it on first
+   * use. Async clients own their Netty HTTP client.
+   * @param region region of the client, null to resolve it from the environment
+   * @param endpointOverride endpoint override of the client, null to use the default endpoint
+   * @return EmrServerless async client
+   */
+  static EmrServerlessAsyncClient getAsyncClient(final Region region, final URI endpointOverride) {
+    return ASYNC_CLIENTS.computeIfAbsent(new ClientKey(region, endpointOverride), ClientBuilder::buildAsyncClient);
+  }
+
+  /**
+   * Closes and evicts all cached clients. The shared Lambda HTTP client is not owned by the cached sync clients and
+   * stays open.
+   */
+  static void closeClients() {
+    CLIENTS.keySet().forEach(key -> {
+      final EmrServerlessClient client = CLIENTS.remove(key);
+      if (client != null) {
+        client.close();
+      }
+    });
+    ASYNC_CLIENTS.keySet().forEach(key -> {
+      final EmrServerlessAsyncClient client = ASYNC_CLIENTS.remove(key);
+      if (client != null) {
+        client.close();
+      }
+    });
+  }
+
+  private static EmrServerlessClient buildClient(final ClientKey key) {
+    final EmrServerlessClientBuilder builder = EmrServerlessClient.builder()
             .httpClient(LambdaWrapper.HTTP_CLIENT)
-            .build();
+            .overrideConfiguration(OVERRIDE_CONFIGURATION);
+    if (key.getRegion() != null) {
+      builder.region(key.getRegion());
+    }
+    if (key.getEndpointOverride() != null) {
+      builder.endpointOverride(key.getEndpointOverride());
+    }
+    return builder.build();
+  }
+
+  private static EmrServerlessAsyncClient buildAsyncClient(final ClientKey key) {
+    final EmrServerlessAsyncClientBuilder builder = EmrServerlessAsyncClient.builder()
+            .overrideConfiguration(OVERRIDE_CONFIGURATION);
+    if (key.getRegion() != null) {
+      builder.region(key.getRegion());
+    }
+    if (key.getEndpointOverride() != null) {
+      builder.endpointOverride(key.getEndpointOverride());
+    }
+    return builder.build();
   }
 
+  @lombok.Value
+  private static class ClientKey {
+    Region region;
+    URI endpointOverride;
+  }
 }
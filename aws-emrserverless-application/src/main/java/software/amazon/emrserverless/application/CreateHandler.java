@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import com.google.common.collect.Lists;
 
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.emrserverless.EmrServerlessClient;
 import software.amazon.awssdk.services.emrserverless.model.Application;
@@ -15,6 +16,7 @@ import software.amazon.awssdk.services.emrserverless.model.GetApplicationRespons
 import software.amazon.awssdk.services.emrserverless.model.InternalServerException;
 import software.amazon.awssdk.services.emrserverless.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -33,10 +35,10 @@ public class CreateHandler extends BaseHandlerStd {
             final CallbackContext callbackContext,
             final ProxyClient<EmrServerlessClient> proxyClient,
             final Logger logger) {
-        this.logger = logger;
+        this.logger = StructuredLogger.of(logger);
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress -> createApplication(proxy, request, progress.getResourceModel(), proxyClient, callbackContext))
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> readCreatedApplication(proxy, progress.getResourceModel(), proxyClient, callbackContext));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createApplication(final AmazonWebServicesClientProxy proxy,
@@ -46,9 +48,11 @@ public class CreateHandler extends BaseHandlerStd {
                                                                             final CallbackContext callbackContext) {
         return proxy.initiate("AWS-EMRServerless-Application::Create", proxyClient, resourceModel,callbackContext)
                 .translateToServiceRequest((model -> Translator.translateToCreateRequest(model, request)))
+                .backoffDelay(retryDelay(callbackContext, stabilizationDelay(callbackContext)))
                 .makeServiceCall((createApplicationRequest, proxyInvocationClient) -> {
                     CreateApplicationResponse createApplicationResponse = callCreateApplication(createApplicationRequest, proxyInvocationClient);
                     resourceModel.setApplicationId(createApplicationResponse.applicationId());
+                    StateTransitionTimes.observe(callbackContext, ApplicationState.CREATING.toString(), System.currentTimeMillis());
                     return createApplicationResponse;
                 })
                 .stabilize((awsRequest, awsResponse, proxyInvocation, model, context) -> isStabilizedForCreate(model, proxyInvocation, context))
@@ -57,15 +61,35 @@ public class CreateHandler extends BaseHandlerStd {
     }
 
 
+    // Stabilization has already read the application in a terminal state, so the final read is served by the read memo
+    private ProgressEvent<ResourceModel, CallbackContext> readCreatedApplication(final AmazonWebServicesClientProxy proxy,
+                                                                                 final ResourceModel resourceModel,
+                                                                                 final ProxyClient<EmrServerlessClient> proxyClient,
+                                                                                 final CallbackContext callbackContext) {
+        return proxy.initiate("AWS-EMRServerless-Application::Create::Read", proxyClient, resourceModel, callbackContext)
+                .translateToServiceRequest(Translator::translateToReadRequest)
+                .backoffDelay(retryDelay(callbackContext))
+                .makeServiceCall(this::readActiveResourceMemoized)
+                .handleError(this::handleError)
+                .done(readResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(readResponse)));
+    }
+
+    // Polling delay of the create stabilization, adapts to the application state observed by the last poll
+    protected Delay stabilizationDelay(final CallbackContext callbackContext) {
+        return ApplicationStateDelay.forCreate(callbackContext);
+    }
+
      //Calls downstream service to create the application resource
     private CreateApplicationResponse callCreateApplication(final CreateApplicationRequest createApplicationRequest,
                                                            final ProxyClient<EmrServerlessClient> proxyClient) {
         try {
-            CreateApplicationResponse response = proxyClient.injectCredentialsAndInvokeV2(createApplicationRequest, proxyClient.client()::createApplication);
-            logger.log(String.format("[INFO] %s has successfully been created.", ResourceModel.TYPE_NAME));
+            CreateApplicationResponse response = invoke(ServiceOperation.CREATE_APPLICATION, createApplicationRequest, proxyClient);
+            logger.info("createApplication.created", fields -> fields.field("applicationId", response.applicationId()));
             return response;
         } catch (AwsServiceException exception) {
-            logger.log(String.format("Failed to create application: %s for request %s", exception.getMessage(), createApplicationRequest));
+            logger.error("createApplication.failed", fields -> fields.field("name", createApplicationRequest.name())
+                .field("error", exception.getMessage()));
+            logger.debug("createApplication.failedRequest", fields -> fields.field("request", createApplicationRequest));
             throw  exception;
         }
     }
@@ -75,6 +99,10 @@ public class CreateHandler extends BaseHandlerStd {
                                           final ProxyClient<EmrServerlessClient> proxyClient,
                                           final CallbackContext context) {
 
+        if (StateTransitionTimes.expectedRemaining(context, ApplicationState.CREATED.toString(), System.currentTimeMillis()).isPresent()) {
+            // Application isn't expected to be created yet, skip the poll
+            return false;
+        }
         GetApplicationResponse response = null;
         try {
             response = readActiveResource(Translator.translateToReadRequest(model), proxyClient);
@@ -82,13 +110,14 @@ public class CreateHandler extends BaseHandlerStd {
                 .map(GetApplicationResponse::application)
                 .map(Application::state)
                 .orElse(ApplicationState.UNKNOWN_TO_SDK_VERSION);
+            StateTransitionTimes.observe(context, applicationState.toString(), System.currentTimeMillis());
             if (DESIRED_CREATE_END_STATES.contains(applicationState)) {
                 return true;
             }
         } catch (ResourceNotFoundException e) {
-            context.setStabilizationFailed(true);
             throw InternalServerException.builder()
                 .message(String.format(HandlerErrorCode.NotStabilized.getMessage(), ResourceModel.TYPE_NAME, model.getApplicationId()))
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode(NOT_STABILIZED_ERROR_CODE).build())
                 .build();
         }
         return false;
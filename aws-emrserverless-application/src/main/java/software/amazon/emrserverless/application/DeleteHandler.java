@@ -1,9 +1,15 @@
 package software.amazon.emrserverless.application;
 
+import java.util.Optional;
+
 import software.amazon.awssdk.services.emrserverless.EmrServerlessClient;
+import software.amazon.awssdk.services.emrserverless.model.Application;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.awssdk.services.emrserverless.model.DeleteApplicationResponse;
 import software.amazon.awssdk.services.emrserverless.model.GetApplicationResponse;
 import software.amazon.awssdk.services.emrserverless.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -19,7 +25,7 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<EmrServerlessClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.logger = StructuredLogger.of(logger);
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress -> deleteApplicationPreCheck(proxy, progress.getResourceModel(), proxyClient, progress.getCallbackContext()))
             .then(progress -> deleteApplication(proxy, progress.getResourceModel(), proxyClient, progress.getCallbackContext()));
@@ -32,9 +38,17 @@ public class DeleteHandler extends BaseHandlerStd {
         return proxy.initiate("AWS-EMRServerless-Application::Delete::PreDeletionCheck", proxyClient, resourceModel,
             callbackContext)
             .translateToServiceRequest(Translator::translateToReadRequest)
-            .makeServiceCall(this::readActiveResource)
+            .backoffDelay(retryDelay(callbackContext))
+            .makeServiceCall((awsRequest, client) -> {
+                final GetApplicationResponse response = readActiveResource(awsRequest, client);
+                // Observed here rather than in done, the proxy replays this response into done on every callback
+                Optional.ofNullable(response.application())
+                    .map(Application::stateAsString)
+                    .ifPresent(state -> StateTransitionTimes.observe(callbackContext, state, System.currentTimeMillis()));
+                return response;
+            })
             .handleError(this::handleError)
-            .done((awsRequest, awsResponse, client, model, context) -> ProgressEvent.progress(model, context));
+            .progress();
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> deleteApplication(final AmazonWebServicesClientProxy proxy,
@@ -44,28 +58,55 @@ public class DeleteHandler extends BaseHandlerStd {
 
         return proxy.initiate("AWS-EMRServerless-Application::Delete", client, resourceModel, callbackContext)
             .translateToServiceRequest(Translator::translateToDeleteRequest)
-            .makeServiceCall((awsRequest, proxyClient) -> proxyClient.injectCredentialsAndInvokeV2(awsRequest,
-                proxyClient.client()::deleteApplication))
-            .stabilize((awsRequest, awsResponse, proxyClient, model, context) -> isStabilized(proxyClient, model))
+            .backoffDelay(retryDelay(callbackContext, stabilizationDelay(callbackContext)))
+            .makeServiceCall((awsRequest, proxyClient) -> {
+                final DeleteApplicationResponse response = invoke(ServiceOperation.DELETE_APPLICATION, awsRequest, proxyClient);
+                // Transition to TERMINATED starts with the delete call
+                callbackContext.setObservedStateSince(System.currentTimeMillis());
+                return response;
+            })
+            .stabilize((awsRequest, awsResponse, proxyClient, model, context) -> isStabilized(proxyClient, model, context))
             .handleError(this::handleError)
             .done((awsRequest) -> ProgressEvent.<ResourceModel, CallbackContext>builder().status(OperationStatus.SUCCESS).build());
     }
 
+    /**
+     * Polling delay of the delete stabilization, adapts to the application state observed by the last poll.
+     *
+     * @param callbackContext CallbackContext object
+     * @return Delay between stabilization polls
+     */
+    protected Delay stabilizationDelay(final CallbackContext callbackContext) {
+        return ApplicationStateDelay.forDelete(callbackContext);
+    }
+
     /**
      * Stabilization for Delete operation.
      *
-     * @param proxyClient   object to call API
-     * @param resourceModel ResourceModel object
+     * @param proxyClient     object to call API
+     * @param resourceModel   ResourceModel object
+     * @param callbackContext CallbackContext object, records the observed application state
      * @return boolean true if stabilized else false
      */
     public boolean isStabilized(final ProxyClient<EmrServerlessClient> proxyClient,
-                                final ResourceModel resourceModel) {
+                                final ResourceModel resourceModel,
+                                final CallbackContext callbackContext) {
 
+        if (StateTransitionTimes.expectedRemaining(callbackContext, ApplicationState.TERMINATED.toString(),
+            System.currentTimeMillis()).isPresent()) {
+            // Application isn't expected to be terminated yet, skip the poll
+            return false;
+        }
         try {
-            readActiveResource(Translator.translateToReadRequest(resourceModel), proxyClient);
+            final GetApplicationResponse response = readActiveResource(Translator.translateToReadRequest(resourceModel), proxyClient);
+            Optional.ofNullable(response)
+                .map(GetApplicationResponse::application)
+                .map(Application::stateAsString)
+                .ifPresent(state -> StateTransitionTimes.observe(callbackContext, state, System.currentTimeMillis()));
             return false; //Return false if response is for active resource is returned
         } catch (ResourceNotFoundException e) {
             //Delete is stabilized when ResourceNotFound, i.e. resource is successfully deleted
+            StateTransitionTimes.observe(callbackContext, ApplicationState.TERMINATED.toString(), System.currentTimeMillis());
             return true;
         }
     }
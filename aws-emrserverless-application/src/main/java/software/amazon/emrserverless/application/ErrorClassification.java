@@ -0,0 +1,57 @@
+package software.amazon.emrserverless.application;
+
+import java.time.Duration;
+
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+/**
+ * How handlers treat a failed call: the handler error code it fails with and, if retryable, how often and how far
+ * apart it is retried. See {@link ErrorClassificationTable}.
+ */
+@lombok.Getter
+@lombok.EqualsAndHashCode
+@lombok.ToString
+final class ErrorClassification {
+
+    static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(10);
+
+    private final HandlerErrorCode errorCode;
+    private final boolean retryable;
+    private final int maxAttempts;
+    private final Duration baseDelay;
+
+    private ErrorClassification(final HandlerErrorCode errorCode, final boolean retryable, final int maxAttempts, final Duration baseDelay) {
+        this.errorCode = errorCode;
+        this.retryable = retryable;
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+    }
+
+    /**
+     * @param errorCode handler error code the call fails with right away
+     */
+    static ErrorClassification terminal(final HandlerErrorCode errorCode) {
+        return new ErrorClassification(errorCode, false, 1, Duration.ZERO);
+    }
+
+    /**
+     * @param errorCode   handler error code the call fails with once its attempts are exhausted
+     * @param maxAttempts attempts including the first call
+     * @param baseDelay   delay before the first retry, doubled for every further retry
+     */
+    static ErrorClassification retryable(final HandlerErrorCode errorCode, final int maxAttempts, final Duration baseDelay) {
+        return new ErrorClassification(errorCode, true, maxAttempts, baseDelay);
+    }
+
+    /**
+     * Exponential delay before a retry, capped at {@link #MAX_RETRY_DELAY}. The proxy waits in whole seconds, so the
+     * delay is rounded up to at least a second.
+     *
+     * @param retry number of retries made so far, starting at 0
+     * @return delay before the next retry
+     */
+    Duration retryDelay(final int retry) {
+        final long millis = Math.min(MAX_RETRY_DELAY.toMillis(), baseDelay.toMillis() << Math.min(retry, 16));
+        return Duration.ofSeconds(Math.max(1, (millis + 999) / 1000));
+    }
+}
@@ -0,0 +1,124 @@
+package software.amazon.emrserverless.application;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.Table;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.emrserverless.model.ConflictException;
+import software.amazon.awssdk.services.emrserverless.model.InternalServerException;
+import software.amazon.awssdk.services.emrserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.emrserverless.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.emrserverless.model.ValidationException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+import static software.amazon.emrserverless.application.BaseHandlerStd.ACCESS_DENIED_ERROR_CODE;
+import static software.amazon.emrserverless.application.BaseHandlerStd.NOT_STABILIZED_ERROR_CODE;
+
+/**
+ * Classification of every failure handlers can see, per operation of {@link BaseHandlerStd#REQUEST_TO_OPERATION}.
+ *
+ * Each operation has a table keyed by exception class and AWS error code, precomputed from the rules below, so
+ * classifying a failure takes at most a few hash lookups:
+ * <ol>
+ *     <li>the exception class together with its error code</li>
+ *     <li>the exception class with {@link #ANY_ERROR_CODE}</li>
+ *     <li>the error code on any exception class, keyed by {@link Throwable}</li>
+ *     <li>throttling as classified by the SDK, e.g. HTTP 429</li>
+ *     <li>{@link #GENERAL_SERVICE_ERROR} for everything else</li>
+ * </ol>
+ */
+final class ErrorClassificationTable {
+
+    static final String ANY_ERROR_CODE = "*";
+
+    static final ErrorClassification GENERAL_SERVICE_ERROR = ErrorClassification.terminal(HandlerErrorCode.GeneralServiceException);
+    // Throttled calls are already retried by ThrottlingRetry, retrying them again across handler attempts would multiply the calls
+    static final ErrorClassification THROTTLING = ErrorClassification.terminal(HandlerErrorCode.Throttling);
+
+    private static final Table<Class<? extends Throwable>, String, ErrorClassification> DEFAULT_RULES =
+            ImmutableTable.<Class<? extends Throwable>, String, ErrorClassification>builder()
+                    .put(ValidationException.class, ANY_ERROR_CODE, ErrorClassification.terminal(HandlerErrorCode.InvalidRequest))
+                    .put(ResourceNotFoundException.class, ANY_ERROR_CODE, ErrorClassification.terminal(HandlerErrorCode.NotFound))
+                    .put(InternalServerException.class, ANY_ERROR_CODE,
+                            ErrorClassification.retryable(HandlerErrorCode.ServiceInternalError, 6, Duration.ofSeconds(1)))
+                    // Raised by the stabilization itself once the application turned inactive, waiting longer won't help
+                    .put(InternalServerException.class, NOT_STABILIZED_ERROR_CODE, ErrorClassification.terminal(HandlerErrorCode.NotStabilized))
+                    .put(ServiceQuotaExceededException.class, ANY_ERROR_CODE, ErrorClassification.terminal(HandlerErrorCode.ServiceLimitExceeded))
+                    .put(ConflictException.class, ANY_ERROR_CODE,
+                            ErrorClassification.retryable(HandlerErrorCode.ResourceConflict, 6, Duration.ofSeconds(1)))
+                    .put(Throwable.class, "ThrottlingException", THROTTLING)
+                    .put(Throwable.class, "Throttling", THROTTLING)
+                    .put(Throwable.class, "TooManyRequestsException", THROTTLING)
+                    .put(Throwable.class, ACCESS_DENIED_ERROR_CODE, ErrorClassification.terminal(HandlerErrorCode.AccessDenied))
+                    .build();
+
+    // Rules of an operation that differ from the defaults
+    private static final Map<String, Table<Class<? extends Throwable>, String, ErrorClassification>> OPERATION_RULES =
+            ImmutableMap.of(
+                    // CloudFormation retries a failed list itself, a list shouldn't hold the handler for long
+                    "ListApplications", ImmutableTable.<Class<? extends Throwable>, String, ErrorClassification>of(InternalServerException.class, ANY_ERROR_CODE,
+                            ErrorClassification.retryable(HandlerErrorCode.ServiceInternalError, 3, Duration.ofSeconds(1))));
+
+    private static final Map<String, Table<Class<? extends Throwable>, String, ErrorClassification>> TABLES = buildTables();
+
+    private ErrorClassificationTable() {
+    }
+
+    /**
+     * @param operation name of the failed operation, null if unknown
+     * @param failure   failure of the call, possibly wrapped in a CompletionException
+     * @return classification of the failure for the operation
+     */
+    static ErrorClassification classify(final String operation, final Throwable failure) {
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (cause == null) {
+            return GENERAL_SERVICE_ERROR;
+        }
+        final Table<Class<? extends Throwable>, String, ErrorClassification> table =
+                TABLES.getOrDefault(operation, DEFAULT_RULES);
+        final String errorCode = errorCode(cause);
+        ErrorClassification classification = errorCode == null ? null : table.get(cause.getClass(), errorCode);
+        if (classification == null) {
+            classification = table.get(cause.getClass(), ANY_ERROR_CODE);
+        }
+        if (classification == null && errorCode != null) {
+            classification = table.get(Throwable.class, errorCode);
+        }
+        if (classification == null && ThrottlingRetry.isThrottling(cause)) {
+            classification = THROTTLING;
+        }
+        return classification == null ? GENERAL_SERVICE_ERROR : classification;
+    }
+
+    // Without error details the message is taken as error code, as some errors only carry the code in their message
+    private static String errorCode(final Throwable e) {
+        if (!(e instanceof AwsServiceException)) {
+            return null;
+        }
+        return Optional.ofNullable(((AwsServiceException) e).awsErrorDetails())
+                .map(AwsErrorDetails::errorCode)
+                .orElse(e.getMessage());
+    }
+
+    private static Map<String, Table<Class<? extends Throwable>, String, ErrorClassification>> buildTables() {
+        final ImmutableMap.Builder<String, Table<Class<? extends Throwable>, String, ErrorClassification>> tables = ImmutableMap.builder();
+        for (final String operation : BaseHandlerStd.REQUEST_TO_OPERATION.values()) {
+            final Table<Class<? extends Throwable>, String, ErrorClassification> overrides =
+                    OPERATION_RULES.getOrDefault(operation, ImmutableTable.of());
+            final ImmutableTable.Builder<Class<? extends Throwable>, String, ErrorClassification> table = ImmutableTable.builder();
+            DEFAULT_RULES.cellSet().stream()
+                    .filter(cell -> !overrides.contains(cell.getRowKey(), cell.getColumnKey()))
+                    .forEach(table::put);
+            overrides.cellSet().forEach(table::put);
+            tables.put(operation, table.build());
+        }
+        return tables.build();
+    }
+}
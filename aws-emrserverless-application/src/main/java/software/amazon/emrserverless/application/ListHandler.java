@@ -1,9 +1,12 @@
 package software.amazon.emrserverless.application;
 
-import java.util.Optional;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import software.amazon.awssdk.services.emrserverless.EmrServerlessClient;
-import software.amazon.awssdk.services.emrserverless.model.EmrServerlessResponseMetadata;
 import software.amazon.awssdk.services.emrserverless.model.ListApplicationsRequest;
 import software.amazon.awssdk.services.emrserverless.model.ListApplicationsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -15,6 +18,81 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ListHandler extends BaseHandlerStd {
 
+    /**
+     * Page size requested from ListApplications, the maximum the service allows, so listing takes as few calls as it
+     * can.
+     */
+    static final int DEFAULT_MAX_RESULTS = 50;
+
+    /**
+     * Environment variables holding the result budget and the time budget in milliseconds of the public constructor,
+     * 0 if unset or invalid.
+     */
+    static final String RESULT_BUDGET_ENVIRONMENT_VARIABLE = "LIST_RESULT_BUDGET";
+    static final String TIME_BUDGET_MILLIS_ENVIRONMENT_VARIABLE = "LIST_TIME_BUDGET_MILLIS";
+
+    /**
+     * Environment variable holding the hydration concurrency of the public constructor, 0 if unset or invalid.
+     */
+    static final String HYDRATION_CONCURRENCY_ENVIRONMENT_VARIABLE = "LIST_HYDRATION_CONCURRENCY";
+
+    /**
+     * Time hydration may take without a time budget. Covers a read that waits the longest for a token and is throttled
+     * on every attempt: 4 token waits of 2s and 0.7s of backoff, see {@link ThrottlingRetry}.
+     */
+    static final Duration DEFAULT_HYDRATION_TIME_BUDGET = Duration.ofSeconds(10);
+
+    private final int maxResults;
+    private final int resultBudget;
+    private final Duration timeBudget;
+    private final Clock clock;
+    private final int hydrationConcurrency;
+
+    public ListHandler() {
+        // A budget of no results returns the first page only
+        this(DEFAULT_MAX_RESULTS,
+            parseBudget(System.getenv(RESULT_BUDGET_ENVIRONMENT_VARIABLE)),
+            Duration.ofMillis(parseBudget(System.getenv(TIME_BUDGET_MILLIS_ENVIRONMENT_VARIABLE))),
+            Clock.systemUTC(),
+            parseBudget(System.getenv(HYDRATION_CONCURRENCY_ENVIRONMENT_VARIABLE)));
+    }
+
+    /**
+     * @param maxResults   page size requested from ListApplications
+     * @param resultBudget number of resource models after which no further page is requested, pages are sized so the
+     *                     response never exceeds it
+     * @param timeBudget   time since the start of the request after which no further page is requested
+     * @param clock        clock the time budget is measured on
+     */
+    ListHandler(final int maxResults, final int resultBudget, final Duration timeBudget, final Clock clock) {
+        this(maxResults, resultBudget, timeBudget, clock, 0);
+    }
+
+    /**
+     * @param hydrationConcurrency number of GetApplication calls in flight to return full resource models instead of
+     *                             the application summaries, hydration stops at the time budget, or after
+     *                             {@link #DEFAULT_HYDRATION_TIME_BUDGET} without one. 0 to list summaries
+     */
+    ListHandler(final int maxResults, final int resultBudget, final Duration timeBudget, final Clock clock,
+                final int hydrationConcurrency) {
+        this.maxResults = maxResults;
+        this.resultBudget = resultBudget;
+        this.timeBudget = timeBudget;
+        this.clock = clock;
+        this.hydrationConcurrency = hydrationConcurrency;
+    }
+
+    static int parseBudget(final String budget) {
+        if (budget == null) {
+            return 0;
+        }
+        try {
+            return Math.max(Integer.parseInt(budget.trim()), 0);
+        } catch (final NumberFormatException e) {
+            return 0;
+        }
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -22,36 +100,93 @@ public class ListHandler extends BaseHandlerStd {
         final ProxyClient<EmrServerlessClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.logger = StructuredLogger.of(logger);
 
-        logger.log(String.format("[INFO] List handler request: %s", request));
+        this.logger.debug("list.request", fields -> fields.field("request", LogSerializer.of(request)));
 
+        final long start = clock.millis();
+        final long deadline = start + timeBudget.toMillis();
+        final long hydrationDeadline = start + (timeBudget.isZero() ? DEFAULT_HYDRATION_TIME_BUDGET : timeBudget).toMillis();
+        final ApplicationHydrator hydrator = hydrationConcurrency > 0
+            ? new ApplicationHydrator(getApplicationRequest -> invokeAsyncWithRetries(ServiceOperation.GET_APPLICATION, getApplicationRequest),
+                hydrationConcurrency, clock, this.logger)
+            : null;
         return proxy.initiate("AWS-EMRServerless-Application::List", proxyClient, request.getDesiredResourceState(), callbackContext)
-            .translateToServiceRequest(model -> Translator.translateToListRequest(request.getNextToken(), ACTIVE_APPLICATION_STATES))
+            .translateToServiceRequest(model -> Translator.translateToListRequest(request.getNextToken(), ACTIVE_APPLICATION_STATES, pageSize(0)))
+            .backoffDelay(retryDelay(callbackContext))
             .makeServiceCall(this::callListApplications)
             .handleError(this::handleError)
-            .done((awsResponse) -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(Translator.translateFromListResponse(awsResponse))
-                .nextToken(awsResponse.nextToken())
-                .status(OperationStatus.SUCCESS)
-                .build());
+            .done((awsResponse) -> listWithinBudget(awsResponse, hydrator, deadline, hydrationDeadline));
+    }
+
+    // Keeps paging from the first page until a budget is reached. The next page is requested before the current one is
+    // translated, the returned nextToken is the one of the last page whose resource models are in the response. Pages
+    // are translated straight into the list of the response, which holds at most the result budget.
+    private ProgressEvent<ResourceModel, CallbackContext> listWithinBudget(final ListApplicationsResponse firstPage,
+                                                                           final ApplicationHydrator hydrator,
+                                                                           final long deadline,
+                                                                           final long hydrationDeadline) {
+        final List<ResourceModel> resourceModels = new ArrayList<>();
+        ListApplicationsResponse page = firstPage;
+        while (true) {
+            final int listedResourceModels = resourceModels.size() + page.applications().size();
+            final CompletableFuture<ListApplicationsResponse> nextPage = hasBudgetForNextPage(page, listedResourceModels, deadline)
+                ? prefetchListApplications(Translator.translateToListRequest(page.nextToken(), ACTIVE_APPLICATION_STATES,
+                    pageSize(listedResourceModels)))
+                : null;
+            if (hydrator == null) {
+                Translator.translateFromListResponse(page, resourceModels);
+            } else {
+                resourceModels.addAll(hydrator.hydrate(page.applications(), hydrationDeadline));
+            }
+            if (nextPage == null) {
+                break;
+            }
+            final RuntimeException failure = failureOf(nextPage);
+            if (failure != null) {
+                // The models listed so far are returned, the failed page is requested again on resumption
+                final int returnedResourceModels = resourceModels.size();
+                logger.error("listApplications.prefetchFailed", fields -> fields.field("resourceModels", returnedResourceModels)
+                    .field("error", failure.getMessage()));
+                break;
+            }
+            page = nextPage.join();
+        }
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+            .resourceModels(resourceModels)
+            .nextToken(page.nextToken())
+            .status(OperationStatus.SUCCESS)
+            .build();
+    }
+
+    private boolean hasBudgetForNextPage(final ListApplicationsResponse page, final int listedResourceModels, final long deadline) {
+        return page.nextToken() != null
+            && listedResourceModels < resultBudget
+            && clock.millis() < deadline;
+    }
+
+    // Page size that keeps the response within the result budget, a budget of no results only limits the first page
+    private int pageSize(final int listedResourceModels) {
+        return resultBudget > 0 ? Math.min(maxResults, resultBudget - listedResourceModels) : maxResults;
+    }
+
+    private CompletableFuture<ListApplicationsResponse> prefetchListApplications(final ListApplicationsRequest request) {
+        logger.debug("listApplications.prefetch", fields -> fields.field("request", request));
+        return invokeAsync(ServiceOperation.LIST_APPLICATIONS, request);
     }
 
     private ListApplicationsResponse callListApplications(final ListApplicationsRequest request,
                                                           final ProxyClient<EmrServerlessClient> proxyClient) {
 
-        ListApplicationsResponse response;
+        final ListApplicationsResponse response;
         try {
-            logger.log(String.format("[INFO] Invoking ListApplications with request: %s", request));
-            response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::listApplications);
-
-            final String requestId = Optional.ofNullable(response)
-                .map(ListApplicationsResponse::responseMetadata)
-                .map(EmrServerlessResponseMetadata::requestId)
-                .orElse(null);
-            logger.log(String.format("[INFO] Received ListApplications requestId: %s response: %s", requestId, response));
+            logger.debug("listApplications.request", fields -> fields.field("request", request));
+            response = invoke(ServiceOperation.LIST_APPLICATIONS, request, proxyClient);
+            logger.debug("listApplications.response", fields -> fields.field("requestId", requestIdOf(response)).field("response", response));
+            logger.info("listApplications.listed", fields -> fields.field("requestId", requestIdOf(response))
+                .field("applications", response == null ? 0 : response.applications().size()));
         } catch (final Exception e) {
-            logger.log(String.format("[ERROR] Exception thrown while invoking ListApplications, error: %s", e.getMessage(), e));
+            logger.error("listApplications.failed", fields -> fields.field("error", e.getMessage()));
             throw e;
         }
         return response;
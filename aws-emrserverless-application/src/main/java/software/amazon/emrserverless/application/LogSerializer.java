@@ -0,0 +1,254 @@
+package software.amazon.emrserverless.application;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.awssdk.services.emrserverless.model.Application;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Compact, redaction aware serialization of resource models, handler requests and SDK applications for logging.
+ *
+ * The properties of runtime configurations are a SensitivePropertiesMap and only logged by their count, collections
+ * are cut after a maximum number of items and the whole serialization after a maximum length. Serializations are
+ * written into a buffer which is reused across calls, so an instance is not thread safe; {@link #of(ResourceModel)} and
+ * its overloads use one instance per thread.
+ */
+final class LogSerializer {
+
+    static final int DEFAULT_MAX_ITEMS = 10;
+    static final int DEFAULT_MAX_LENGTH = StructuredLogger.DEFAULT_MAX_FIELD_LENGTH;
+
+    private static final String TRUNCATED = "...(truncated)";
+    private static final ThreadLocal<LogSerializer> PER_THREAD =
+        ThreadLocal.withInitial(() -> new LogSerializer(DEFAULT_MAX_ITEMS, DEFAULT_MAX_LENGTH));
+
+    private final StringBuilder buffer = new StringBuilder(256);
+    private final int maxItems;
+    private final int maxLength;
+
+    /**
+     * @param maxItems  items of a collection or map after which it is cut
+     * @param maxLength characters after which a serialization is cut
+     */
+    LogSerializer(final int maxItems, final int maxLength) {
+        this.maxItems = maxItems;
+        this.maxLength = maxLength;
+    }
+
+    static String of(final ResourceModel model) {
+        return PER_THREAD.get().serialize(model);
+    }
+
+    static String of(final ResourceHandlerRequest<ResourceModel> request) {
+        return PER_THREAD.get().serialize(request);
+    }
+
+    static String of(final Application application) {
+        return PER_THREAD.get().serialize(application);
+    }
+
+    String serialize(final ResourceModel model) {
+        buffer.setLength(0);
+        writeModel(model);
+        return finish();
+    }
+
+    String serialize(final ResourceHandlerRequest<ResourceModel> request) {
+        buffer.setLength(0);
+        if (request == null) {
+            buffer.append("null");
+            return finish();
+        }
+        buffer.append("Request{");
+        field("clientRequestToken", request.getClientRequestToken());
+        field("logicalResourceIdentifier", request.getLogicalResourceIdentifier());
+        field("stackId", request.getStackId());
+        field("region", request.getRegion());
+        field("nextToken", request.getNextToken());
+        map("desiredResourceTags", request.getDesiredResourceTags());
+        map("previousResourceTags", request.getPreviousResourceTags());
+        if (request.getDesiredResourceState() != null) {
+            name("desiredResourceState");
+            writeModel(request.getDesiredResourceState());
+        }
+        if (request.getPreviousResourceState() != null) {
+            name("previousResourceState");
+            writeModel(request.getPreviousResourceState());
+        }
+        buffer.append('}');
+        return finish();
+    }
+
+    String serialize(final Application application) {
+        buffer.setLength(0);
+        if (application == null) {
+            buffer.append("null");
+            return finish();
+        }
+        buffer.append("Application{");
+        field("applicationId", application.applicationId());
+        field("name", application.name());
+        field("arn", application.arn());
+        field("releaseLabel", application.releaseLabel());
+        field("type", application.type());
+        field("state", application.stateAsString());
+        field("stateDetails", application.stateDetails());
+        field("architecture", application.architectureAsString());
+        map("initialCapacity", application.hasInitialCapacity() ? application.initialCapacity() : null);
+        field("maximumCapacity", application.maximumCapacity());
+        field("autoStartConfiguration", application.autoStartConfiguration());
+        field("autoStopConfiguration", application.autoStopConfiguration());
+        field("networkConfiguration", application.networkConfiguration());
+        field("imageConfiguration", application.imageConfiguration());
+        map("workerTypeSpecifications", application.hasWorkerTypeSpecifications() ? application.workerTypeSpecifications() : null);
+        if (application.hasRuntimeConfiguration()) {
+            name("runtimeConfiguration");
+            writeConfigurations(application.runtimeConfiguration());
+        }
+        field("monitoringConfiguration", application.monitoringConfiguration());
+        field("interactiveConfiguration", application.interactiveConfiguration());
+        field("schedulerConfiguration", application.schedulerConfiguration());
+        map("tags", application.hasTags() ? application.tags() : null);
+        buffer.append('}');
+        return finish();
+    }
+
+    private void writeModel(final ResourceModel model) {
+        if (model == null) {
+            buffer.append("null");
+            return;
+        }
+        buffer.append("ResourceModel{");
+        field("applicationId", model.getApplicationId());
+        field("name", model.getName());
+        field("arn", model.getArn());
+        field("releaseLabel", model.getReleaseLabel());
+        field("type", model.getType());
+        field("architecture", model.getArchitecture());
+        if (model.getInitialCapacity() != null) {
+            name("initialCapacity");
+            items(model.getInitialCapacity(), pair -> buffer.append(pair.getKey()).append('=').append(pair.getValue()));
+        }
+        field("maximumCapacity", model.getMaximumCapacity());
+        field("autoStartConfiguration", model.getAutoStartConfiguration());
+        field("autoStopConfiguration", model.getAutoStopConfiguration());
+        if (model.getNetworkConfiguration() != null) {
+            name("networkConfiguration");
+            buffer.append("{subnetIds=");
+            items(model.getNetworkConfiguration().getSubnetIds(), buffer::append);
+            buffer.append(", securityGroupIds=");
+            items(model.getNetworkConfiguration().getSecurityGroupIds(), buffer::append);
+            buffer.append('}');
+        }
+        field("imageConfiguration", model.getImageConfiguration());
+        map("workerTypeSpecifications", model.getWorkerTypeSpecifications());
+        if (model.getRuntimeConfiguration() != null) {
+            name("runtimeConfiguration");
+            writeConfigurationObjects(model.getRuntimeConfiguration());
+        }
+        field("monitoringConfiguration", model.getMonitoringConfiguration());
+        field("interactiveConfiguration", model.getInteractiveConfiguration());
+        field("schedulerConfiguration", model.getSchedulerConfiguration());
+        if (model.getTags() != null) {
+            name("tags");
+            items(model.getTags(), tag -> buffer.append(tag.getKey()).append('=').append(tag.getValue()));
+        }
+        buffer.append('}');
+    }
+
+    private void writeConfigurationObjects(final Collection<ConfigurationObject> configurations) {
+        items(configurations, configuration -> {
+            buffer.append("{classification=").append(configuration.getClassification());
+            redactedProperties(configuration.getProperties());
+            if (configuration.getConfigurations() != null) {
+                buffer.append(", configurations=");
+                writeConfigurationObjects(configuration.getConfigurations());
+            }
+            buffer.append('}');
+        });
+    }
+
+    private void writeConfigurations(final List<software.amazon.awssdk.services.emrserverless.model.Configuration> configurations) {
+        items(configurations, configuration -> {
+            buffer.append("{classification=").append(configuration.classification());
+            redactedProperties(configuration.hasProperties() ? configuration.properties() : null);
+            if (configuration.hasConfigurations()) {
+                buffer.append(", configurations=");
+                writeConfigurations(configuration.configurations());
+            }
+            buffer.append('}');
+        });
+    }
+
+    /**
+     * Writes the number of properties only, their keys and values are a SensitivePropertiesMap.
+     */
+    private void redactedProperties(final Map<String, String> properties) {
+        if (properties != null) {
+            buffer.append(", properties=(").append(properties.size()).append(" redacted)");
+        }
+    }
+
+    private void field(final String name, final Object value) {
+        if (value != null) {
+            name(name);
+            buffer.append(value);
+        }
+    }
+
+    private void map(final String name, final Map<String, ?> map) {
+        if (map != null) {
+            name(name);
+            items(map.entrySet(), entry -> buffer.append(entry.getKey()).append('=').append(entry.getValue()));
+        }
+    }
+
+    private void name(final String name) {
+        final char last = buffer.charAt(buffer.length() - 1);
+        if (last != '{') {
+            buffer.append(", ");
+        }
+        buffer.append(name).append('=');
+    }
+
+    /**
+     * Writes the first {@link #maxItems} items of a collection followed by the number of items left out, stops early
+     * once the serialization is over its maximum length.
+     */
+    private <T> void items(final Collection<T> items, final ItemWriter<T> writer) {
+        if (items == null) {
+            buffer.append("null");
+            return;
+        }
+        buffer.append('[');
+        final Iterator<T> iterator = items.iterator();
+        int written = 0;
+        while (iterator.hasNext() && written < maxItems && buffer.length() <= maxLength) {
+            if (written > 0) {
+                buffer.append(", ");
+            }
+            writer.write(iterator.next());
+            written++;
+        }
+        if (written < items.size()) {
+            buffer.append(written > 0 ? ", " : "").append("...(").append(items.size() - written).append(" more)");
+        }
+        buffer.append(']');
+    }
+
+    private String finish() {
+        if (buffer.length() > maxLength) {
+            buffer.setLength(maxLength);
+            buffer.append(TRUNCATED);
+        }
+        return buffer.toString();
+    }
+
+    @FunctionalInterface
+    private interface ItemWriter<T> {
+        void write(T item);
+    }
+}
@@ -21,9 +21,9 @@ public class ReadHandler extends BaseHandlerStd {
             final ProxyClient<EmrServerlessClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
+        this.logger = StructuredLogger.of(logger);
 
-        logger.log(String.format("[INFO] Read handler request: %s", request));
+        this.logger.debug("read.request", fields -> fields.field("request", LogSerializer.of(request)));
 
         final ResourceModel model = request.getDesiredResourceState();
         if (StringUtils.isEmpty(model.getApplicationId())) {
@@ -31,6 +31,7 @@ public class ReadHandler extends BaseHandlerStd {
         }
         return proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToReadRequest)
+                .backoffDelay(retryDelay(callbackContext))
                 .makeServiceCall(this::readActiveResource)
                 .handleError(this::handleError)
                 .done(readResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(readResponse)));
@@ -0,0 +1,84 @@
+package software.amazon.emrserverless.application;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Structural diff of the properties UpdateApplication can change between two resource models.
+ *
+ * Create-only properties (Name, Type), read-only properties (Arn, ApplicationId) and Tags, which are handled by the
+ * tag operations, are not part of the diff.
+ */
+final class ResourceModelDiff {
+
+    /**
+     * Property name in the resource schema to its getter, in schema order.
+     */
+    static final Map<String, Function<ResourceModel, Object>> MUTABLE_PROPERTIES =
+            ImmutableMap.<String, Function<ResourceModel, Object>>builder()
+                    .put("Architecture", ResourceModel::getArchitecture)
+                    .put("ReleaseLabel", ResourceModel::getReleaseLabel)
+                    .put("InitialCapacity", ResourceModel::getInitialCapacity)
+                    .put("MaximumCapacity", ResourceModel::getMaximumCapacity)
+                    .put("AutoStartConfiguration", ResourceModel::getAutoStartConfiguration)
+                    .put("AutoStopConfiguration", ResourceModel::getAutoStopConfiguration)
+                    .put("ImageConfiguration", ResourceModel::getImageConfiguration)
+                    .put("MonitoringConfiguration", ResourceModel::getMonitoringConfiguration)
+                    .put("RuntimeConfiguration", ResourceModel::getRuntimeConfiguration)
+                    .put("InteractiveConfiguration", ResourceModel::getInteractiveConfiguration)
+                    .put("NetworkConfiguration", ResourceModel::getNetworkConfiguration)
+                    .put("WorkerTypeSpecifications", ResourceModel::getWorkerTypeSpecifications)
+                    .put("SchedulerConfiguration", ResourceModel::getSchedulerConfiguration)
+                    .build();
+
+    private ResourceModelDiff() {
+    }
+
+    /**
+     * changedProperties
+     *
+     * Determines the mutable properties whose values differ between the previous and the desired model. Empty
+     * collections and maps are equivalent to absent ones.
+     *
+     * @param previousModel previous resource model, null if unknown
+     * @param desiredModel  desired resource model
+     * @return names of the changed properties in schema order, all mutable properties if the previous model is unknown
+     */
+    static Set<String> changedProperties(final ResourceModel previousModel, final ResourceModel desiredModel) {
+        if (previousModel == null || desiredModel == null) {
+            return MUTABLE_PROPERTIES.keySet();
+        }
+        final Set<String> changed = new LinkedHashSet<>();
+        MUTABLE_PROPERTIES.forEach((property, getter) -> {
+            if (!Objects.equals(normalize(getter.apply(previousModel)), normalize(getter.apply(desiredModel)))) {
+                changed.add(property);
+            }
+        });
+        return changed;
+    }
+
+    /**
+     * hasMutableChanges
+     *
+     * Determines whether UpdateApplication is needed to move from the previous to the desired model.
+     */
+    static boolean hasMutableChanges(final ResourceModel previousModel, final ResourceModel desiredModel) {
+        return !changedProperties(previousModel, desiredModel).isEmpty();
+    }
+
+    private static Object normalize(final Object value) {
+        if (value instanceof Collection && ((Collection<?>) value).isEmpty()) {
+            return null;
+        }
+        if (value instanceof Map && ((Map<?, ?>) value).isEmpty()) {
+            return null;
+        }
+        return value;
+    }
+}
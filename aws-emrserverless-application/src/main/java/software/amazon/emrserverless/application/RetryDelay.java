@@ -0,0 +1,40 @@
+package software.amazon.emrserverless.application;
+
+import java.time.Duration;
+
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+/**
+ * Delay of a call chain that waits before a retry as long as handleError asked for, see
+ * {@link ErrorClassification#retryDelay}, and otherwise as long as the delay of the chain, e.g. between stabilization
+ * polls.
+ */
+final class RetryDelay implements Delay {
+
+    /**
+     * Delay the proxy uses for chains without a backoff delay of their own.
+     */
+    static final Delay DEFAULT_CHAIN_DELAY = Constant.of()
+            .delay(Duration.ofSeconds(5))
+            .timeout(Duration.ofMinutes(20))
+            .build();
+
+    private final CallbackContext callbackContext;
+    private final Delay chainDelay;
+
+    RetryDelay(final CallbackContext callbackContext, final Delay chainDelay) {
+        this.callbackContext = callbackContext;
+        this.chainDelay = chainDelay;
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        final Integer retryDelaySeconds = callbackContext.getRetryDelaySeconds();
+        if (retryDelaySeconds == null) {
+            return chainDelay.nextDelay(attempt);
+        }
+        callbackContext.setRetryDelaySeconds(null);
+        return Duration.ofSeconds(retryDelaySeconds);
+    }
+}
@@ -0,0 +1,75 @@
+package software.amazon.emrserverless.application;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.emrserverless.EmrServerlessAsyncClient;
+import software.amazon.awssdk.services.emrserverless.EmrServerlessClient;
+import software.amazon.awssdk.services.emrserverless.model.CreateApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.CreateApplicationResponse;
+import software.amazon.awssdk.services.emrserverless.model.DeleteApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.DeleteApplicationResponse;
+import software.amazon.awssdk.services.emrserverless.model.GetApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.GetApplicationResponse;
+import software.amazon.awssdk.services.emrserverless.model.ListApplicationsRequest;
+import software.amazon.awssdk.services.emrserverless.model.ListApplicationsResponse;
+import software.amazon.awssdk.services.emrserverless.model.TagResourceRequest;
+import software.amazon.awssdk.services.emrserverless.model.TagResourceResponse;
+import software.amazon.awssdk.services.emrserverless.model.UntagResourceRequest;
+import software.amazon.awssdk.services.emrserverless.model.UntagResourceResponse;
+import software.amazon.awssdk.services.emrserverless.model.UpdateApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.UpdateApplicationResponse;
+
+/**
+ * An EMR Serverless API operation, bound to both the sync and the async client, so handlers can invoke it in either
+ * {@link BaseHandlerStd.ExecutionMode}.
+ *
+ * @param <RequestT>  request of the operation
+ * @param <ResponseT> response of the operation
+ */
+final class ServiceOperation<RequestT extends AwsRequest, ResponseT extends AwsResponse> {
+
+    static final ServiceOperation<GetApplicationRequest, GetApplicationResponse> GET_APPLICATION =
+            new ServiceOperation<>("GetApplication", EmrServerlessClient::getApplication, EmrServerlessAsyncClient::getApplication);
+    static final ServiceOperation<CreateApplicationRequest, CreateApplicationResponse> CREATE_APPLICATION =
+            new ServiceOperation<>("CreateApplication", EmrServerlessClient::createApplication, EmrServerlessAsyncClient::createApplication);
+    static final ServiceOperation<UpdateApplicationRequest, UpdateApplicationResponse> UPDATE_APPLICATION =
+            new ServiceOperation<>("UpdateApplication", EmrServerlessClient::updateApplication, EmrServerlessAsyncClient::updateApplication);
+    static final ServiceOperation<DeleteApplicationRequest, DeleteApplicationResponse> DELETE_APPLICATION =
+            new ServiceOperation<>("DeleteApplication", EmrServerlessClient::deleteApplication, EmrServerlessAsyncClient::deleteApplication);
+    static final ServiceOperation<ListApplicationsRequest, ListApplicationsResponse> LIST_APPLICATIONS =
+            new ServiceOperation<>("ListApplications", EmrServerlessClient::listApplications, EmrServerlessAsyncClient::listApplications);
+    static final ServiceOperation<TagResourceRequest, TagResourceResponse> TAG_RESOURCE =
+            new ServiceOperation<>("TagResource", EmrServerlessClient::tagResource, EmrServerlessAsyncClient::tagResource);
+    static final ServiceOperation<UntagResourceRequest, UntagResourceResponse> UNTAG_RESOURCE =
+            new ServiceOperation<>("UntagResource", EmrServerlessClient::untagResource, EmrServerlessAsyncClient::untagResource);
+
+    private final String name;
+    private final BiFunction<EmrServerlessClient, RequestT, ResponseT> syncCall;
+    private final BiFunction<EmrServerlessAsyncClient, RequestT, CompletableFuture<ResponseT>> asyncCall;
+
+    private ServiceOperation(final String name,
+                             final BiFunction<EmrServerlessClient, RequestT, ResponseT> syncCall,
+                             final BiFunction<EmrServerlessAsyncClient, RequestT, CompletableFuture<ResponseT>> asyncCall) {
+        this.name = name;
+        this.syncCall = syncCall;
+        this.asyncCall = asyncCall;
+    }
+
+    /**
+     * @return name of the operation, as in {@link BaseHandlerStd#REQUEST_TO_OPERATION}
+     */
+    String getName() {
+        return name;
+    }
+
+    ResponseT call(final EmrServerlessClient client, final RequestT request) {
+        return syncCall.apply(client, request);
+    }
+
+    CompletableFuture<ResponseT> callAsync(final EmrServerlessAsyncClient client, final RequestT request) {
+        return asyncCall.apply(client, request);
+    }
+}
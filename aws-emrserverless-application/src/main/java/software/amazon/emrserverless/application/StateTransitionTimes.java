@@ -0,0 +1,185 @@
+package software.amazon.emrserverless.application;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Learned durations of application state transitions, e.g. CREATING->CREATED.
+ *
+ * Durations are kept as histograms with exponentially growing buckets, both in the CallbackContext, so they survive
+ * re-invocations of the same operation, and in a container wide cache shared by all operations handled by the
+ * container. Estimates prefer the container cache and fall back to the CallbackContext.
+ */
+final class StateTransitionTimes {
+
+    /**
+     * Upper bounds of the histogram buckets in seconds, the last bucket is unbounded.
+     */
+    static final long[] BUCKET_UPPER_BOUNDS_SECONDS = {2, 4, 8, 16, 32, 64, 128, 256, 512, 1024};
+    static final int BUCKET_COUNT = BUCKET_UPPER_BOUNDS_SECONDS.length + 1;
+
+    // Once a histogram holds more samples all counts are halved, so old samples fade out
+    private static final int MAX_SAMPLES = 256;
+
+    // Histograms in this cache are never mutated, updates replace them
+    private static final ConcurrentMap<String, int[]> CONTAINER_HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private StateTransitionTimes() {
+    }
+
+    static String transition(final String fromState, final String toState) {
+        return fromState + "->" + toState;
+    }
+
+    /**
+     * Records the application state seen by a poll. If the state differs from the previously observed one, the time
+     * spent in the previous state is recorded as a sample of that transition.
+     *
+     * @param callbackContext CallbackContext object
+     * @param state           observed application state
+     * @param nowMillis       time of the observation in epoch millis
+     */
+    static void observe(final CallbackContext callbackContext, final String state, final long nowMillis) {
+        final String previousState = callbackContext.getObservedApplicationState();
+        if (Objects.equals(previousState, state)) {
+            return;
+        }
+        if (previousState != null && callbackContext.getObservedStateSince() != null) {
+            record(callbackContext, transition(previousState, state), nowMillis - callbackContext.getObservedStateSince());
+        }
+        callbackContext.setObservedApplicationState(state);
+        callbackContext.setObservedStateSince(nowMillis);
+    }
+
+    /**
+     * Time left until the observed application state is expected to transition into the target state.
+     *
+     * @param callbackContext CallbackContext object
+     * @param targetState     state the stabilization waits for
+     * @param nowMillis       current time in epoch millis
+     * @return remaining time, empty if there are no samples or the transition is already overdue
+     */
+    static Optional<Duration> expectedRemaining(final CallbackContext callbackContext,
+                                                final String targetState,
+                                                final long nowMillis) {
+        final String state = callbackContext.getObservedApplicationState();
+        final Long since = callbackContext.getObservedStateSince();
+        if (state == null || since == null) {
+            return Optional.empty();
+        }
+        return expected(callbackContext, transition(state, targetState))
+                .map(expected -> expected.minusMillis(nowMillis - since))
+                .filter(remaining -> remaining.compareTo(ApplicationStateDelay.MIN_DELAY) >= 0);
+    }
+
+    /**
+     * Median duration of the transition, interpolated within its histogram bucket.
+     *
+     * @param callbackContext CallbackContext object
+     * @param transition      transition key
+     * @return expected duration, empty if there are no samples
+     */
+    static Optional<Duration> expected(final CallbackContext callbackContext, final String transition) {
+        int[] counts = CONTAINER_HISTOGRAMS.get(transition);
+        if (counts == null) {
+            counts = Optional.ofNullable(callbackContext.getStateTransitionHistograms())
+                    .map(histograms -> histograms.get(transition))
+                    .map(StateTransitionTimes::toArray)
+                    .orElse(null);
+        }
+        final int total = counts == null ? 0 : Arrays.stream(counts).sum();
+        if (total == 0) {
+            return Optional.empty();
+        }
+
+        final double median = total / 2.0;
+        int cumulative = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            if (counts[bucket] > 0 && cumulative + counts[bucket] >= median) {
+                final double lower = lowerBoundSeconds(bucket);
+                final double upper = bucket < BUCKET_UPPER_BOUNDS_SECONDS.length ? BUCKET_UPPER_BOUNDS_SECONDS[bucket] : lower * 2;
+                final double fraction = (median - cumulative) / counts[bucket];
+                return Optional.of(Duration.ofMillis((long) ((lower + fraction * (upper - lower)) * 1000)));
+            }
+            cumulative += counts[bucket];
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Records a sample of the transition in the CallbackContext and in the container cache.
+     *
+     * @param callbackContext CallbackContext object
+     * @param transition      transition key
+     * @param elapsedMillis   duration of the transition
+     */
+    static void record(final CallbackContext callbackContext, final String transition, final long elapsedMillis) {
+        final int bucket = bucketOf(elapsedMillis);
+
+        final Map<String, List<Integer>> histograms = callbackContext.getStateTransitionHistograms() == null
+                ? new HashMap<>()
+                : new HashMap<>(callbackContext.getStateTransitionHistograms());
+        final int[] contextCounts = Optional.ofNullable(histograms.get(transition))
+                .map(StateTransitionTimes::toArray)
+                .orElseGet(() -> new int[BUCKET_COUNT]);
+        histograms.put(transition, toList(increment(contextCounts, bucket)));
+        callbackContext.setStateTransitionHistograms(histograms);
+
+        CONTAINER_HISTOGRAMS.compute(transition, (key, counts) -> increment(counts == null ? new int[BUCKET_COUNT] : counts, bucket));
+    }
+
+    /**
+     * Drops the container cache.
+     */
+    static void clear() {
+        CONTAINER_HISTOGRAMS.clear();
+    }
+
+    static int bucketOf(final long elapsedMillis) {
+        final long seconds = Math.max(elapsedMillis, 0) / 1000;
+        for (int bucket = 0; bucket < BUCKET_UPPER_BOUNDS_SECONDS.length; bucket++) {
+            if (seconds < BUCKET_UPPER_BOUNDS_SECONDS[bucket]) {
+                return bucket;
+            }
+        }
+        return BUCKET_UPPER_BOUNDS_SECONDS.length;
+    }
+
+    private static double lowerBoundSeconds(final int bucket) {
+        return bucket == 0 ? 0 : BUCKET_UPPER_BOUNDS_SECONDS[bucket - 1];
+    }
+
+    // Returns a new histogram, the given one is left untouched
+    private static int[] increment(final int[] counts, final int bucket) {
+        final int[] incremented = Arrays.copyOf(counts, BUCKET_COUNT);
+        incremented[bucket]++;
+        if (Arrays.stream(incremented).sum() > MAX_SAMPLES) {
+            for (int i = 0; i < incremented.length; i++) {
+                incremented[i] = incremented[i] / 2;
+            }
+        }
+        return incremented;
+    }
+
+    private static int[] toArray(final List<Integer> counts) {
+        final int[] array = new int[BUCKET_COUNT];
+        for (int i = 0; i < Math.min(counts.size(), BUCKET_COUNT); i++) {
+            array[i] = counts.get(i) == null ? 0 : counts.get(i);
+        }
+        return array;
+    }
+
+    private static List<Integer> toList(final int[] counts) {
+        final List<Integer> list = new ArrayList<>(counts.length);
+        Arrays.stream(counts).forEach(list::add);
+        return list;
+    }
+}
@@ -0,0 +1,184 @@
+package software.amazon.emrserverless.application;
+
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * Level gated, structured logging on top of the RPDK {@link Logger}.
+ *
+ * Every entry is logged as a single line JSON object holding its level, its event and its fields. Fields are supplied
+ * lazily and only evaluated once the level of the entry is enabled, so entries below the level, e.g. DEBUG dumps of
+ * whole requests and responses, neither format nor allocate anything. Each field value is capped at a maximum length.
+ */
+final class StructuredLogger {
+
+    enum Level {
+        DEBUG,
+        INFO,
+        WARN,
+        ERROR
+    }
+
+    /**
+     * Environment variable holding the level, {@link #DEFAULT_LEVEL} if unset or unknown.
+     */
+    static final String LEVEL_ENVIRONMENT_VARIABLE = "LOG_LEVEL";
+    static final Level DEFAULT_LEVEL = Level.INFO;
+    static final int DEFAULT_MAX_FIELD_LENGTH = 2048;
+
+    private static final Level CONFIGURED_LEVEL = parseLevel(System.getenv(LEVEL_ENVIRONMENT_VARIABLE));
+
+    private final Logger logger;
+    private final Level level;
+    private final int maxFieldLength;
+
+    /**
+     * @param logger         logger entries are written to
+     * @param level          lowest level logged
+     * @param maxFieldLength characters of a field value after which it is truncated
+     */
+    StructuredLogger(final Logger logger, final Level level, final int maxFieldLength) {
+        this.logger = logger;
+        this.level = level;
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    /**
+     * @return structured logger on top of the given one, at the configured level
+     */
+    static StructuredLogger of(final Logger logger) {
+        return new StructuredLogger(logger, CONFIGURED_LEVEL, DEFAULT_MAX_FIELD_LENGTH);
+    }
+
+    static Level parseLevel(final String level) {
+        if (level == null) {
+            return DEFAULT_LEVEL;
+        }
+        try {
+            return Level.valueOf(level.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            return DEFAULT_LEVEL;
+        }
+    }
+
+    boolean isEnabled(final Level entryLevel) {
+        return logger != null && entryLevel.compareTo(level) >= 0;
+    }
+
+    void debug(final String event, final Consumer<Entry> fields) {
+        log(Level.DEBUG, event, fields);
+    }
+
+    void info(final String event) {
+        log(Level.INFO, event, null);
+    }
+
+    void info(final String event, final Consumer<Entry> fields) {
+        log(Level.INFO, event, fields);
+    }
+
+    void warn(final String event, final Consumer<Entry> fields) {
+        log(Level.WARN, event, fields);
+    }
+
+    void error(final String event, final Consumer<Entry> fields) {
+        log(Level.ERROR, event, fields);
+    }
+
+    /**
+     * Logs an entry if its level is enabled.
+     *
+     * @param entryLevel level of the entry
+     * @param event      name of the logged event
+     * @param fields     adds the fields of the entry, only called if the level is enabled, may be null
+     */
+    void log(final Level entryLevel, final String event, final Consumer<Entry> fields) {
+        if (!isEnabled(entryLevel)) {
+            return;
+        }
+        final Entry entry = new Entry(maxFieldLength);
+        entry.field("level", entryLevel.name());
+        entry.field("event", event);
+        if (fields != null) {
+            fields.accept(entry);
+        }
+        logger.log(entry.toJson());
+    }
+
+    /**
+     * Fields of a single entry, written as JSON in the order they are added.
+     */
+    static final class Entry {
+
+        private final StringBuilder json = new StringBuilder(128).append('{');
+        private final int maxFieldLength;
+
+        private Entry(final int maxFieldLength) {
+            this.maxFieldLength = maxFieldLength;
+        }
+
+        /**
+         * Adds a field, numbers and booleans are written as such, other values by their string representation.
+         *
+         * @param name  name of the field
+         * @param value value of the field, may be null
+         * @return this entry
+         */
+        Entry field(final String name, final Object value) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            appendString(name, Integer.MAX_VALUE);
+            json.append(':');
+            if (value == null) {
+                json.append("null");
+            } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long) {
+                json.append(value);
+            } else {
+                appendString(value.toString(), maxFieldLength);
+            }
+            return this;
+        }
+
+        String toJson() {
+            return json.toString() + '}';
+        }
+
+        private void appendString(final String value, final int maxLength) {
+            final int length = Math.min(value.length(), maxLength);
+            json.append('"');
+            for (int index = 0; index < length; index++) {
+                final char c = value.charAt(index);
+                switch (c) {
+                    case '"':
+                        json.append("\\\"");
+                        break;
+                    case '\\':
+                        json.append("\\\\");
+                        break;
+                    case '\n':
+                        json.append("\\n");
+                        break;
+                    case '\r':
+                        json.append("\\r");
+                        break;
+                    case '\t':
+                        json.append("\\t");
+                        break;
+                    default:
+                        if (c < 0x20) {
+                            json.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            json.append(c);
+                        }
+                }
+            }
+            if (value.length() > length) {
+                json.append("...(").append(value.length() - length).append(" more chars)");
+            }
+            json.append('"');
+        }
+    }
+}
@@ -3,6 +3,7 @@ package software.amazon.emrserverless.application;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -85,6 +86,23 @@ public class TagHelper {
             .collect(Collectors.toSet());
     }
 
+    /**
+     * generatePreviouslyAppliedTags
+     *
+     * Determines the tags applied to the resource by the previous operation, stack-level tags
+     * overridden by the tags defined on the previous resource model.
+     */
+    public static Map<String, String> generatePreviouslyAppliedTags(final ResourceHandlerRequest<ResourceModel> handlerRequest) {
+        final Map<String, String> tagMap = new HashMap<>();
+        if (handlerRequest.getPreviousResourceTags() != null) {
+            tagMap.putAll(handlerRequest.getPreviousResourceTags());
+        }
+        if (handlerRequest.getPreviousResourceState() != null) {
+            tagMap.putAll(convertToMap(handlerRequest.getPreviousResourceState().getTags()));
+        }
+        return Collections.unmodifiableMap(tagMap);
+    }
+
     /**
      * generateTagsForCreate
      *
@@ -92,12 +110,81 @@ public class TagHelper {
      * This only includes user defined tags.
      */
     public static final Map<String, String> generateTagsForCreate(final ResourceModel resourceModel, final ResourceHandlerRequest<ResourceModel> handlerRequest) {
-        final Map<String, String> tagMap = new HashMap<>();
-        if (handlerRequest.getDesiredResourceTags() != null) {
-            tagMap.putAll(handlerRequest.getDesiredResourceTags());
+        final Map<String, String> desiredResourceTags = handlerRequest.getDesiredResourceTags();
+        final Set<Tag> modelTags = resourceModel.getTags();
+        final Map<String, String> tagMap = new HashMap<>(capacityFor(
+            (desiredResourceTags == null ? 0 : desiredResourceTags.size()) + (modelTags == null ? 0 : modelTags.size())));
+        if (desiredResourceTags != null) {
+            tagMap.putAll(desiredResourceTags);
+        }
+        if (modelTags != null) {
+            // same as putAll(convertToMap(modelTags)), without the intermediate map
+            for (final Tag tag : modelTags) {
+                if (tag.getValue() != null) {
+                    tagMap.put(tag.getKey(), tag.getValue());
+                }
+            }
         }
-        tagMap.putAll(convertToMap(resourceModel.getTags()));
         return Collections.unmodifiableMap(tagMap);
     }
 
+    /**
+     * diff
+     *
+     * Determines both the tags to add and the tags to remove in a single pass over each map, giving the same
+     * results as generateTagsToAdd and generateTagsToRemove. Absent maps are treated as empty.
+     *
+     * @param previousTags tags currently applied to the resource
+     * @param desiredTags  tags the resource should have
+     * @return tags to add or redefine and names of the tags to remove
+     */
+    public static TagDiff diff(final Map<String, String> previousTags, final Map<String, String> desiredTags) {
+        final Map<String, String> previous = previousTags == null ? Collections.emptyMap() : previousTags;
+        final Map<String, String> desired = desiredTags == null ? Collections.emptyMap() : desiredTags;
+        final Map<String, String> tagsToAdd = new HashMap<>(capacityFor(desired.size()));
+        for (final Map.Entry<String, String> tag : desired.entrySet()) {
+            final String previousValue = previous.get(tag.getKey());
+            if (!Objects.equals(previousValue, tag.getValue()) || (previousValue == null && !previous.containsKey(tag.getKey()))) {
+                tagsToAdd.put(tag.getKey(), tag.getValue());
+            }
+        }
+        final Set<String> tagsToRemove = new HashSet<>(capacityFor(previous.size()));
+        for (final String tagName : previous.keySet()) {
+            if (!desired.containsKey(tagName)) {
+                tagsToRemove.add(tagName);
+            }
+        }
+        return new TagDiff(tagsToAdd, tagsToRemove);
+    }
+
+    private static int capacityFor(final int size) {
+        return size < 3 ? size + 1 : (int) (size / 0.75f) + 1;
+    }
+
+    /**
+     * Result of {@link #diff}: the tags to add or redefine and the names of the tags to remove.
+     */
+    public static final class TagDiff {
+
+        private final Map<String, String> tagsToAdd;
+        private final Set<String> tagsToRemove;
+
+        private TagDiff(final Map<String, String> tagsToAdd, final Set<String> tagsToRemove) {
+            this.tagsToAdd = tagsToAdd;
+            this.tagsToRemove = tagsToRemove;
+        }
+
+        public Map<String, String> getTagsToAdd() {
+            return tagsToAdd;
+        }
+
+        public Set<String> getTagsToRemove() {
+            return tagsToRemove;
+        }
+
+        public boolean isEmpty() {
+            return tagsToAdd.isEmpty() && tagsToRemove.isEmpty();
+        }
+    }
+
 }
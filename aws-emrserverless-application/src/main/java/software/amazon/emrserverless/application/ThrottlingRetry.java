@@ -0,0 +1,231 @@
+package software.amazon.emrserverless.application;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+
+/**
+ * Paces EMR Serverless calls through the token bucket of the account and retries the calls the service throttled.
+ *
+ * A call is throttled if the service answered with HTTP 429 or one of the throttling error codes, such as
+ * ThrottlingException. Throttled calls are retried up to maxAttempts with exponential backoff and full jitter, and
+ * drain the bucket so that the other calls of the account in the container slow down as well. The buckets are shared
+ * by all handlers in the container.
+ *
+ * This is the only place a throttled call is retried: the SDK clients of {@link ClientBuilder} don't retry
+ * throttling, and {@link ErrorClassificationTable#THROTTLING} fails the handler once the retries here are exhausted. A
+ * throttled call is therefore made at most {@link #DEFAULT_MAX_ATTEMPTS} times in total.
+ */
+final class ThrottlingRetry {
+
+    static final int DEFAULT_MAX_ATTEMPTS = 4;
+    static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(100);
+    static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(5);
+    static final Duration DEFAULT_MAX_TOKEN_WAIT = Duration.ofSeconds(2);
+    static final int DEFAULT_BUCKET_CAPACITY = 50;
+    static final double DEFAULT_BUCKET_TOKENS_PER_SECOND = 25;
+
+    private static final ConcurrentMap<String, TokenBucket> ACCOUNT_BUCKETS = new ConcurrentHashMap<>();
+
+    // Starts the delayed attempts of async calls in the container, the calls themselves run on the async client
+    private static final ScheduledExecutorService ASYNC_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("throttling-retry-%d").build());
+
+    /**
+     * Sleeps between attempts, replaceable so tests don't have to.
+     */
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    /**
+     * Runs a task after a delay without blocking the caller, replaceable so tests don't have to wait.
+     */
+    interface Scheduler {
+        void schedule(Runnable task, long millis);
+    }
+
+    private final TokenBucket bucket;
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Duration maxTokenWait;
+    private final DoubleSupplier jitter;
+    private final Sleeper sleeper;
+    private final Scheduler scheduler;
+
+    ThrottlingRetry(final TokenBucket bucket,
+                    final int maxAttempts,
+                    final Duration baseDelay,
+                    final Duration maxDelay,
+                    final Duration maxTokenWait,
+                    final DoubleSupplier jitter,
+                    final Sleeper sleeper,
+                    final Scheduler scheduler) {
+        this.bucket = bucket;
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.maxTokenWait = maxTokenWait;
+        this.jitter = jitter;
+        this.sleeper = sleeper;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @param awsAccountId account the calls are made in, null if unknown
+     * @return retry with the defaults, on the bucket of the account in this container
+     */
+    static ThrottlingRetry forAccount(final String awsAccountId) {
+        final TokenBucket bucket = ACCOUNT_BUCKETS.computeIfAbsent(Optional.ofNullable(awsAccountId).orElse(""),
+                account -> new TokenBucket(DEFAULT_BUCKET_CAPACITY, DEFAULT_BUCKET_TOKENS_PER_SECOND, System::nanoTime));
+        return new ThrottlingRetry(bucket, DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY, DEFAULT_MAX_TOKEN_WAIT,
+                () -> ThreadLocalRandom.current().nextDouble(), Thread::sleep,
+                (task, millis) -> ASYNC_SCHEDULER.schedule(task, millis, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Makes the call once a token is available, and again while the service throttles it.
+     *
+     * @param call call to EMR Serverless
+     * @return response of the first call that isn't throttled
+     * @throws RuntimeException failure of the call, the last throttling failure once the attempts are exhausted
+     */
+    <T> T call(final Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            final long tokenWait = reserveToken();
+            if (tokenWait > 0) {
+                sleep(tokenWait);
+            }
+            try {
+                return call.get();
+            } catch (final RuntimeException e) {
+                if (!isThrottling(e)) {
+                    throw e;
+                }
+                bucket.drain();
+                if (attempt >= maxAttempts || !sleep(backoff(attempt))) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #call} for calls on the async client. The waits for a token and the backoffs
+     * are scheduled rather than slept, so neither the caller nor the thread completing the call is held up.
+     *
+     * @param call starts the call to EMR Serverless
+     * @return future of the response of the first call that isn't throttled, completes exceptionally with the failure
+     * of the call, the last throttling failure once the attempts are exhausted
+     */
+    <T> CompletableFuture<T> callAsync(final Supplier<CompletableFuture<T>> call) {
+        return attemptAsync(call, 1, maxAttempts);
+    }
+
+    /**
+     * Same as {@link #callAsync}, but the call isn't retried when throttled, for callers that handle its failure.
+     *
+     * @param call starts the call to EMR Serverless
+     * @return future of the response of the call
+     */
+    <T> CompletableFuture<T> startAsync(final Supplier<CompletableFuture<T>> call) {
+        return attemptAsync(call, 1, 1);
+    }
+
+    /**
+     * Full jitter: a uniformly random delay between 0 and the exponential delay of the attempt, capped at maxDelay.
+     *
+     * @param attempt attempt that was throttled, starting at 1
+     * @return millis to wait before the next attempt
+     */
+    long backoff(final int attempt) {
+        final long capped = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << Math.min(attempt - 1, 16));
+        return (long) (jitter.getAsDouble() * capped);
+    }
+
+    /**
+     * @param failure failure of a call, possibly wrapped in a CompletionException
+     * @return whether the service throttled the call
+     */
+    static boolean isThrottling(final Throwable failure) {
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof AwsServiceException && ((AwsServiceException) cause).isThrottlingException();
+    }
+
+    private <T> CompletableFuture<T> attemptAsync(final Supplier<CompletableFuture<T>> call,
+                                                  final int attempt,
+                                                  final int attempts) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        runAfter(reserveToken(), () -> start(call).whenComplete((response, e) -> {
+            if (!isThrottling(e)) {
+                completeWith(result, response, e);
+                return;
+            }
+            bucket.drain();
+            if (attempt >= attempts) {
+                result.completeExceptionally(e);
+                return;
+            }
+            runAfter(backoff(attempt), () -> attemptAsync(call, attempt + 1, attempts)
+                    .whenComplete((retried, retryFailure) -> completeWith(result, retried, retryFailure)));
+        }));
+        return result;
+    }
+
+    // Takes or reserves a token of the bucket, returns the millis to wait before calling
+    private long reserveToken() {
+        final long waitNanos = bucket.reserve(maxTokenWait.toNanos());
+        return waitNanos > 0 ? TimeUnit.NANOSECONDS.toMillis(waitNanos) + 1 : 0;
+    }
+
+    private static <T> void completeWith(final CompletableFuture<T> result, final T response, final Throwable failure) {
+        if (failure == null) {
+            result.complete(response);
+        } else {
+            result.completeExceptionally(failure);
+        }
+    }
+
+    private static <T> CompletableFuture<T> start(final Supplier<CompletableFuture<T>> call) {
+        try {
+            return call.get();
+        } catch (final RuntimeException e) {
+            final CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    private void runAfter(final long millis, final Runnable task) {
+        if (millis > 0) {
+            scheduler.schedule(task, millis);
+        } else {
+            task.run();
+        }
+    }
+
+    // Returns false if interrupted, the caller gives up rather than retrying right away
+    private boolean sleep(final long millis) {
+        try {
+            sleeper.sleep(millis);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package software.amazon.emrserverless.application;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side token bucket pacing the calls to EMR Serverless. It holds up to capacity tokens, refilled at a constant
+ * rate, and every call takes one. Callers that find the bucket empty wait for the next token, up to a maximum wait
+ * after which they call anyway, so a burst of handlers is spread out rather than failed.
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoTime;
+
+    private double tokens;
+    private long refilledAt;
+
+    /**
+     * @param capacity        maximum number of tokens, the size of a burst that is not paced
+     * @param tokensPerSecond rate tokens are refilled at
+     * @param nanoTime        monotonic clock in nanoseconds
+     */
+    TokenBucket(final int capacity, final double tokensPerSecond, final LongSupplier nanoTime) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.nanoTime = nanoTime;
+        this.tokens = capacity;
+        this.refilledAt = nanoTime.getAsLong();
+    }
+
+    /**
+     * Takes a token, or reserves the next one if the bucket is empty.
+     *
+     * @param maxWaitNanos longest the caller is willing to wait for a token
+     * @return nanoseconds the caller has to wait before calling, at most maxWaitNanos. A caller that would have to wait
+     *         longer doesn't reserve a token and calls after maxWaitNanos regardless
+     */
+    synchronized long reserve(final long maxWaitNanos) {
+        refill();
+        final long waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+        if (waitNanos > maxWaitNanos) {
+            return maxWaitNanos;
+        }
+        // Tokens go negative for reservations, each waiting caller pushes the next one a token further out
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    /**
+     * Empties the bucket once the service throttled a call, so every caller of the container slows down to the refill
+     * rate until the bucket has refilled.
+     */
+    synchronized void drain() {
+        refill();
+        tokens = Math.min(tokens, 0);
+    }
+
+    synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        final long now = nanoTime.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+    }
+}
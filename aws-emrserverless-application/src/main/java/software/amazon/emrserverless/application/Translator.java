@@ -7,34 +7,31 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 import org.apache.commons.lang3.StringUtils;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 
 import software.amazon.awssdk.services.emrserverless.model.Application;
 import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationSummary;
 import software.amazon.awssdk.services.emrserverless.model.Architecture;
-import software.amazon.awssdk.services.emrserverless.model.ConflictException;
 import software.amazon.awssdk.services.emrserverless.model.CreateApplicationRequest;
 import software.amazon.awssdk.services.emrserverless.model.DeleteApplicationRequest;
-import software.amazon.awssdk.services.emrserverless.model.EmrServerlessException;
 import software.amazon.awssdk.services.emrserverless.model.GetApplicationRequest;
 import software.amazon.awssdk.services.emrserverless.model.GetApplicationResponse;
 import software.amazon.awssdk.services.emrserverless.model.ImageConfiguration;
 import software.amazon.awssdk.services.emrserverless.model.ImageConfigurationInput;
-import software.amazon.awssdk.services.emrserverless.model.InternalServerException;
 import software.amazon.awssdk.services.emrserverless.model.ListApplicationsRequest;
 import software.amazon.awssdk.services.emrserverless.model.ListApplicationsResponse;
-import software.amazon.awssdk.services.emrserverless.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.emrserverless.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.emrserverless.model.TagResourceRequest;
 import software.amazon.awssdk.services.emrserverless.model.UntagResourceRequest;
 import software.amazon.awssdk.services.emrserverless.model.UpdateApplicationRequest;
-import software.amazon.awssdk.services.emrserverless.model.ValidationException;
 import software.amazon.awssdk.services.emrserverless.model.WorkerTypeSpecification;
 import software.amazon.awssdk.services.emrserverless.model.WorkerTypeSpecificationInput;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
@@ -46,10 +43,10 @@ import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import static software.amazon.emrserverless.application.BaseHandlerStd.ACCESS_DENIED_ERROR_CODE;
-
 /**
  * This class is a centralized placeholder for
  * - api request construction
@@ -444,48 +441,40 @@ public class Translator {
     }
 
     /**
-     * Translate emr-serverless exceptions to cloud-formation handler exceptions.
+     * Translate a failure classified by the {@link ErrorClassificationTable} to a cloud-formation handler exception.
      *
-     * @param exception  Emr-serverless exception
+     * @param errorCode  Handler error code the failure is classified as
+     * @param exception  Failure of the call
      * @param operation  Operation for which the exception is thrown.
      * @param resourceId Resource identifier for which the operation is invoked.
      * @return Translated cfn handler exception
      */
-    static BaseHandlerException translate(final EmrServerlessException exception, final String operation, final String resourceId,
-                                          final CallbackContext callbackContext) {
-        return Optional.ofNullable(exception)
-            .map(e -> {
-                if (e instanceof ValidationException) {
-                    return new CfnInvalidRequestException(e.getMessage(), e);
-                } else if (e instanceof ResourceNotFoundException) {
-                    return StringUtils.isEmpty(resourceId)
-                        ? new CfnNotFoundException(e)
-                        : new CfnNotFoundException(ResourceModel.TYPE_NAME, resourceId);
-                } else if (e instanceof InternalServerException && callbackContext.isStabilizationFailed()) {
-                    return new CfnNotStabilizedException(ResourceModel.TYPE_NAME, resourceId, e);
-                } else if (e instanceof InternalServerException) {
-                    return new CfnServiceInternalErrorException(operation, e);
-                } else if (e instanceof ServiceQuotaExceededException) {
-                    return new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, e.getMessage(), e);
-                } else if (e instanceof ConflictException) {
-                    return StringUtils.isEmpty(resourceId)
-                        ? new CfnResourceConflictException(e)
-                        : new CfnResourceConflictException(ResourceModel.TYPE_NAME, resourceId, e.getMessage(), e);
-                } else if (StringUtils.equals(ACCESS_DENIED_ERROR_CODE,  getErrorCode(e))) {
-                    return new CfnAccessDeniedException(ResourceModel.TYPE_NAME, e);
-                } else {
-                    return new CfnGeneralServiceException(operation, e);
-                }
-            })
-            .orElse(null);
-    }
-
-    private static String getErrorCode(Exception e) {
-        if (e instanceof EmrServerlessException && ((EmrServerlessException) e).awsErrorDetails() != null)
-        {
-            return ((EmrServerlessException) e).awsErrorDetails().errorCode();
+    static BaseHandlerException translate(final HandlerErrorCode errorCode, final Exception exception, final String operation,
+                                          final String resourceId) {
+        switch (errorCode) {
+            case InvalidRequest:
+                return new CfnInvalidRequestException(exception.getMessage(), exception);
+            case NotFound:
+                return StringUtils.isEmpty(resourceId)
+                    ? new CfnNotFoundException(exception)
+                    : new CfnNotFoundException(ResourceModel.TYPE_NAME, resourceId);
+            case NotStabilized:
+                return new CfnNotStabilizedException(ResourceModel.TYPE_NAME, resourceId, exception);
+            case ServiceInternalError:
+                return new CfnServiceInternalErrorException(operation, exception);
+            case ServiceLimitExceeded:
+                return new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, exception.getMessage(), exception);
+            case ResourceConflict:
+                return StringUtils.isEmpty(resourceId)
+                    ? new CfnResourceConflictException(exception)
+                    : new CfnResourceConflictException(ResourceModel.TYPE_NAME, resourceId, exception.getMessage(), exception);
+            case Throttling:
+                return new CfnThrottlingException(operation, exception);
+            case AccessDenied:
+                return new CfnAccessDeniedException(ResourceModel.TYPE_NAME, exception);
+            default:
+                return new CfnGeneralServiceException(operation, exception);
         }
-        return e.getMessage();
     }
 
     private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
@@ -594,7 +583,31 @@ public class Translator {
     }
 
     /**
-     * Request to update properties of a previously created resource.
+     * Sets the section of the UpdateApplicationRequest that corresponds to a mutable property of the resource schema,
+     * keyed like {@link ResourceModelDiff#MUTABLE_PROPERTIES}.
+     */
+    static final Map<String, BiConsumer<UpdateApplicationRequest.Builder, ResourceModel>> UPDATE_REQUEST_SECTIONS =
+            ImmutableMap.<String, BiConsumer<UpdateApplicationRequest.Builder, ResourceModel>>builder()
+                    .put("Architecture", (builder, model) -> builder.architecture(translate(model.getArchitecture())))
+                    .put("ReleaseLabel", (builder, model) -> builder.releaseLabel(model.getReleaseLabel()))
+                    .put("InitialCapacity", (builder, model) -> builder.initialCapacity(translate(model.getInitialCapacity())))
+                    .put("MaximumCapacity", (builder, model) -> builder.maximumCapacity(translate(model.getMaximumCapacity())))
+                    .put("AutoStartConfiguration", (builder, model) -> builder.autoStartConfiguration(translate(model.getAutoStartConfiguration())))
+                    .put("AutoStopConfiguration", (builder, model) -> builder.autoStopConfiguration(translate(model.getAutoStopConfiguration())))
+                    .put("ImageConfiguration", (builder, model) -> builder.imageConfiguration(translate(model.getImageConfiguration())))
+                    .put("MonitoringConfiguration", (builder, model) -> builder.monitoringConfiguration(translate(model.getMonitoringConfiguration())))
+                    .put("RuntimeConfiguration", (builder, model) -> builder.runtimeConfiguration(model.getRuntimeConfiguration() == null ? null :
+                            model.getRuntimeConfiguration().stream().map(Translator::translate)
+                                    .collect(Collectors.toList())))
+                    .put("InteractiveConfiguration", (builder, model) -> builder.interactiveConfiguration(translate(model.getInteractiveConfiguration())))
+                    .put("NetworkConfiguration", (builder, model) -> builder.networkConfiguration(translate(model.getNetworkConfiguration())))
+                    .put("WorkerTypeSpecifications", (builder, model) -> builder.workerTypeSpecifications(translateToWorkerTypeSpecMap(model.getWorkerTypeSpecifications())))
+                    .put("SchedulerConfiguration", (builder, model) -> builder.schedulerConfiguration(translate(model.getSchedulerConfiguration())))
+                    .build();
+
+    /**
+     * Request to update properties of a previously created resource. Only the sections that changed compared to the
+     * previous resource state are sent, all of them if the previous state is unknown.
      *
      * @param model   resource model
      * @param request request
@@ -602,24 +615,12 @@ public class Translator {
      */
     static UpdateApplicationRequest translateToUpdateRequest(final ResourceModel model,
                                                              final ResourceHandlerRequest<ResourceModel> request) {
-        return UpdateApplicationRequest.builder()
+        final UpdateApplicationRequest.Builder builder = UpdateApplicationRequest.builder()
                 .applicationId(model.getApplicationId())
-                .releaseLabel(model.getReleaseLabel())
-                .clientToken(request.getClientRequestToken())
-                .autoStartConfiguration(translate(model.getAutoStartConfiguration()))
-                .autoStopConfiguration(translate(model.getAutoStopConfiguration()))
-                .initialCapacity(translate(model.getInitialCapacity()))
-                .maximumCapacity(translate(model.getMaximumCapacity()))
-                .networkConfiguration(translate(model.getNetworkConfiguration()))
-                .architecture(translate(model.getArchitecture()))
-                .imageConfiguration(translate(model.getImageConfiguration()))
-                .workerTypeSpecifications(translateToWorkerTypeSpecMap(model.getWorkerTypeSpecifications()))
-                .monitoringConfiguration(translate(model.getMonitoringConfiguration()))
-                .runtimeConfiguration(model.getRuntimeConfiguration() == null ? null:
-                        model.getRuntimeConfiguration().stream().map(Translator::translate)
-                                .collect(Collectors.toList()))
-                .schedulerConfiguration(translate(model.getSchedulerConfiguration()))         
-                .build();
+                .clientToken(request.getClientRequestToken());
+        ResourceModelDiff.changedProperties(request.getPreviousResourceState(), model)
+                .forEach(property -> UPDATE_REQUEST_SECTIONS.get(property).accept(builder, model));
+        return builder.build();
     }
 
     private static software.amazon.awssdk.services.emrserverless.model.SchedulerConfiguration translate(SchedulerConfiguration schedulerConfiguration) {
@@ -705,13 +706,17 @@ public class Translator {
      * Request to list resources.
      *
      * @param nextToken token passed to the aws service list resources request
+     * @param maxResults maximum number of applications in the page, null for the service default
      * @return awsRequest the aws service request to list resources within aws account
      */
-    static ListApplicationsRequest translateToListRequest(final String nextToken, final List<ApplicationState> applicationStates) {
+    static ListApplicationsRequest translateToListRequest(final String nextToken,
+                                                          final List<ApplicationState> applicationStates,
+                                                          final Integer maxResults) {
 
         return ListApplicationsRequest.builder()
             .states(applicationStates)
             .nextToken(nextToken)
+            .maxResults(maxResults)
             .build();
     }
 
@@ -722,15 +727,39 @@ public class Translator {
      * @return list of resource models
      */
     static List<ResourceModel> translateFromListResponse(final ListApplicationsResponse awsResponse) {
-        return streamOfOrEmpty(awsResponse.applications())
-            .map(resource -> ResourceModel.builder()
-                .applicationId(resource.id())
-                .arn(resource.arn())
-                .name(resource.name())
-                .releaseLabel(resource.releaseLabel())
-                .type(resource.type())
-                .build())
-            .collect(Collectors.toList());
+        final List<ResourceModel> resourceModels = new ArrayList<>(awsResponse.applications().size());
+        translateFromListResponse(awsResponse, resourceModels);
+        return resourceModels;
+    }
+
+    /**
+     * Translates resource objects from sdk into resource models (primary identifier only), appended to the given list
+     * without an intermediate copy.
+     *
+     * @param awsResponse    the aws service describe resource response
+     * @param resourceModels list the resource models are appended to
+     */
+    static void translateFromListResponse(final ListApplicationsResponse awsResponse,
+                                          final List<ResourceModel> resourceModels) {
+        for (final ApplicationSummary resource : awsResponse.applications()) {
+            resourceModels.add(translateFromSummary(resource));
+        }
+    }
+
+    /**
+     * Translates an application summary from a list response into a resource model.
+     *
+     * @param resource application summary
+     * @return resource model with the summary properties only
+     */
+    static ResourceModel translateFromSummary(final ApplicationSummary resource) {
+        return ResourceModel.builder()
+            .applicationId(resource.id())
+            .arn(resource.arn())
+            .name(resource.name())
+            .releaseLabel(resource.releaseLabel())
+            .type(resource.type())
+            .build();
     }
 
     /**
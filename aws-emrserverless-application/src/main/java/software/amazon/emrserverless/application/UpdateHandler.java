@@ -1,10 +1,13 @@
 package software.amazon.emrserverless.application;
 
+import com.google.common.collect.ImmutableSet;
 import org.apache.commons.lang3.StringUtils;
+import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.emrserverless.EmrServerlessClient;
 import software.amazon.awssdk.services.emrserverless.model.Application;
 import software.amazon.awssdk.services.emrserverless.model.GetApplicationResponse;
+import software.amazon.awssdk.services.emrserverless.model.TagResourceRequest;
 import software.amazon.awssdk.services.emrserverless.model.TagResourceResponse;
 import software.amazon.awssdk.services.emrserverless.model.UntagResourceResponse;
 import software.amazon.awssdk.services.emrserverless.model.UpdateApplicationRequest;
@@ -21,12 +24,41 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Updates the resource.
  */
 public class UpdateHandler extends BaseHandlerStd {
 
+    // Failures of tag calls that a diff against tags of a stale previous state can cause
+    private static final Set<HandlerErrorCode> STALE_TAGS_ERROR_CODES = ImmutableSet.of(HandlerErrorCode.InvalidRequest,
+            HandlerErrorCode.NotFound);
+
+    /**
+     * Environment variable that turns on {@link #UpdateHandler(boolean) concurrent tag operations} when "true".
+     */
+    static final String CONCURRENT_TAG_OPERATIONS_ENVIRONMENT_VARIABLE = "CONCURRENT_TAG_OPERATIONS";
+
+    private final boolean concurrentTagOperations;
+
+    public UpdateHandler() {
+        this(parseConcurrentTagOperations(System.getenv(CONCURRENT_TAG_OPERATIONS_ENVIRONMENT_VARIABLE)));
+    }
+
+    /**
+     * @param concurrentTagOperations issue UntagResource and TagResource concurrently on the async client when both
+     *                                are needed, instead of one after another
+     */
+    UpdateHandler(final boolean concurrentTagOperations) {
+        this.concurrentTagOperations = concurrentTagOperations;
+    }
+
+    static boolean parseConcurrentTagOperations(final String concurrentTagOperations) {
+        return concurrentTagOperations != null && Boolean.parseBoolean(concurrentTagOperations.trim());
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -34,8 +66,8 @@ public class UpdateHandler extends BaseHandlerStd {
             final ProxyClient<EmrServerlessClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
-        logger.log(String.format("[INFO] Update handler request: %s", request));
+        this.logger = StructuredLogger.of(logger);
+        this.logger.debug("update.request", fields -> fields.field("request", LogSerializer.of(request)));
         final ResourceModel model = request.getDesiredResourceState();
         //validation
         if (StringUtils.isEmpty(model.getApplicationId())) {
@@ -43,11 +75,10 @@ public class UpdateHandler extends BaseHandlerStd {
         }
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress -> updateApplicationPreCheck(proxy, progress.getResourceModel(), proxyClient, callbackContext))
-                .then(progress -> updateApplication(proxy, request, progress.getResourceModel(), proxyClient, callbackContext))
                 .then(progress -> retrieveApplicationTags(proxy, request, progress.getResourceModel(), proxyClient, callbackContext))
-                .then(progress -> removeTagsIfNeeded(proxy, progress.getResourceModel(), proxyClient, callbackContext))
-                .then(progress -> addTagsIfNeeded(proxy, progress.getResourceModel(), proxyClient, callbackContext))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> updateApplication(proxy, request, progress.getResourceModel(), proxyClient, callbackContext))
+                .then(progress -> updateTags(proxy, request, progress.getResourceModel(), proxyClient, callbackContext))
+                .then(progress -> nested(new ReadHandler()).handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
 
@@ -58,6 +89,7 @@ public class UpdateHandler extends BaseHandlerStd {
         return proxy.initiate("AWS-EMRServerless-Application::Update::PreUpdateCheck", proxyClient, resourceModel,
                         callbackContext)
                 .translateToServiceRequest(Translator::translateToReadRequest)
+                .backoffDelay(retryDelay(callbackContext))
                 .makeServiceCall(this::readActiveResource)
                 .handleError(this::handleError)
                 .progress();
@@ -68,8 +100,15 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                             final ResourceModel resourceModel,
                                                                             final ProxyClient<EmrServerlessClient> proxyClient,
                                                                             final CallbackContext callbackContext) {
+        if (!ResourceModelDiff.hasMutableChanges(request.getPreviousResourceState(), resourceModel)) {
+            // Nothing UpdateApplication could change, e.g. a tag only update
+            logger.info("updateApplication.skipped", fields -> fields.field("applicationId", resourceModel.getApplicationId())
+                    .field("reason", "no application properties changed"));
+            return ProgressEvent.progress(resourceModel, callbackContext);
+        }
         return proxy.initiate("AWS-EMRServerless-Application::Update", proxyClient, resourceModel,callbackContext)
                 .translateToServiceRequest((model -> Translator.translateToUpdateRequest(model, request)))
+                .backoffDelay(retryDelay(callbackContext))
                 .makeServiceCall(this::callUpdateApplication)
                 .handleError(this::handleError)
                 .progress();
@@ -80,17 +119,73 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                                   final ResourceModel resourceModel,
                                                                                   final ProxyClient<EmrServerlessClient> proxyClient,
                                                                                   final CallbackContext callbackContext) {
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        if (diffsTagsFromPreviousState(request, callbackContext)) {
+            // Tags applied by the previous operation are known, no need to read them from the application
+            updateTagsInContext(request, TagHelper.generatePreviouslyAppliedTags(request), previousModel.getArn(), callbackContext);
+            return ProgressEvent.progress(resourceModel, callbackContext);
+        }
         return proxy.initiate("AWS-EMRServerless-Application::RetrieveTags", proxyClient, resourceModel, callbackContext)
                 .translateToServiceRequest((model -> Translator.translateToReadRequest(resourceModel)))
+                .backoffDelay(retryDelay(callbackContext))
                 .makeServiceCall((getApplicationRequest, proxyInvocationClient) -> {
-                    GetApplicationResponse getApplicationResponse = readActiveResource(getApplicationRequest, proxyClient);
-                    updateTagsInContext(request, getApplicationResponse, callbackContext);
+                    // UpdateApplication does not touch tags, so the pre-check read can be reused for the tag diff
+                    GetApplicationResponse getApplicationResponse = readActiveResourceMemoized(getApplicationRequest, proxyClient);
+                    final Optional<Application> application = Optional.ofNullable(getApplicationResponse)
+                            .map(GetApplicationResponse::application);
+                    updateTagsInContext(request,
+                            application.map(Application::tags).orElse(Collections.emptyMap()),
+                            application.map(Application::arn).orElse(null),
+                            callbackContext);
                     return getApplicationResponse;
                 })
                 .handleError(this::handleError)
                 .progress();
     }
 
+    // The previous state identifies the same application and carries its Arn, and its tags weren't found stale yet
+    private boolean diffsTagsFromPreviousState(final ResourceHandlerRequest<ResourceModel> request,
+                                               final CallbackContext callbackContext) {
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        return !callbackContext.isTagsReadFromApplication()
+                && previousModel != null
+                && StringUtils.isNotEmpty(previousModel.getArn())
+                && StringUtils.equals(previousModel.getApplicationId(), request.getDesiredResourceState().getApplicationId());
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> updateTags(final AmazonWebServicesClientProxy proxy,
+                                                                     final ResourceHandlerRequest<ResourceModel> request,
+                                                                     final ResourceModel resourceModel,
+                                                                     final ProxyClient<EmrServerlessClient> proxyClient,
+                                                                     final CallbackContext callbackContext) {
+        final ProgressEvent<ResourceModel, CallbackContext> progress = updateTags(proxy, resourceModel, proxyClient, callbackContext);
+        if (!progress.isFailed()
+                || !STALE_TAGS_ERROR_CODES.contains(progress.getErrorCode())
+                || !diffsTagsFromPreviousState(request, callbackContext)) {
+            return progress;
+        }
+        // The previous state didn't match the application, e.g. its Arn or tags changed out of band. Diff against the
+        // tags read from the application instead, the failed tag calls are made again with the new diff.
+        logger.info("updateTags.staleTags", fields -> fields.field("applicationId", resourceModel.getApplicationId())
+                .field("errorCode", progress.getErrorCode()));
+        callbackContext.setTagsReadFromApplication(true);
+        return retrieveApplicationTags(proxy, request, resourceModel, proxyClient, callbackContext)
+                .then(retrieved -> updateTags(proxy, retrieved.getResourceModel(), proxyClient, callbackContext));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> updateTags(final AmazonWebServicesClientProxy proxy,
+                                                                     final ResourceModel resourceModel,
+                                                                     final ProxyClient<EmrServerlessClient> proxyClient,
+                                                                     final CallbackContext callbackContext) {
+        if (concurrentTagOperations
+                && !CollectionUtils.isNullOrEmpty(callbackContext.tagsToRemove)
+                && !CollectionUtils.isNullOrEmpty(callbackContext.tagsToAdd)) {
+            return updateTagsConcurrently(proxy, resourceModel, proxyClient, callbackContext);
+        }
+        return removeTagsIfNeeded(proxy, resourceModel, proxyClient, callbackContext)
+                .then(progress -> addTagsIfNeeded(proxy, progress.getResourceModel(), proxyClient, callbackContext));
+    }
+
     private ProgressEvent<ResourceModel, CallbackContext> removeTagsIfNeeded(final AmazonWebServicesClientProxy proxy,
                                                                              final ResourceModel resourceModel,
                                                                              final ProxyClient<EmrServerlessClient> proxyClient,
@@ -116,31 +211,26 @@ public class UpdateHandler extends BaseHandlerStd {
     private UpdateApplicationResponse callUpdateApplication(final UpdateApplicationRequest updateApplicationRequest,
                                                             final ProxyClient<EmrServerlessClient> proxyClient) {
         try {
-            UpdateApplicationResponse response = proxyClient.injectCredentialsAndInvokeV2(updateApplicationRequest, proxyClient.client()::updateApplication);
-            logger.log(String.format("[INFO] %s has successfully been updated.", ResourceModel.TYPE_NAME));
+            UpdateApplicationResponse response = invoke(ServiceOperation.UPDATE_APPLICATION, updateApplicationRequest, proxyClient);
+            logger.info("updateApplication.updated", fields -> fields.field("applicationId", updateApplicationRequest.applicationId()));
             return response;
         } catch (AwsServiceException e) {
-            logger.log(String.format("Failed to update application: %s for request %s", e.getMessage(), updateApplicationRequest));
+            logger.error("updateApplication.failed", fields -> fields.field("applicationId", updateApplicationRequest.applicationId())
+                    .field("error", e.getMessage()));
+            logger.debug("updateApplication.failedRequest", fields -> fields.field("request", updateApplicationRequest));
             throw  e;
+        } finally {
+            invalidateReadMemo(updateApplicationRequest.applicationId());
         }
     }
 
     private void updateTagsInContext(final ResourceHandlerRequest<ResourceModel> request,
-                                     final GetApplicationResponse getApplicationResponse,
+                                     final Map<String, String> existingTags,
+                                     final String applicationArn,
                                      final CallbackContext callbackContext) {
-        final Map<String, String> existingTags = Optional.ofNullable(getApplicationResponse)
-                .map(GetApplicationResponse::application)
-                .map(Application::tags)
-                .orElse(Collections.emptyMap());
-        final Map<String, String> desiredTags = request.getDesiredResourceTags();
-        final Set<String> tagsToRemove = TagHelper.generateTagsToRemove(existingTags, desiredTags);
-        final Map<String, String> tagsToAdd = TagHelper.generateTagsToAdd(existingTags, desiredTags);
-        callbackContext.setTagsToRemove(tagsToRemove);
-        callbackContext.setTagsToAdd(tagsToAdd);
-        String applicationArn = Optional.ofNullable(getApplicationResponse)
-            .map(GetApplicationResponse::application)
-            .map(Application::arn)
-            .orElse(null);
+        final TagHelper.TagDiff tagDiff = TagHelper.diff(existingTags, request.getDesiredResourceTags());
+        callbackContext.setTagsToRemove(tagDiff.getTagsToRemove());
+        callbackContext.setTagsToAdd(tagDiff.getTagsToAdd());
         callbackContext.setApplicationArn(applicationArn);
     }
 
@@ -149,18 +239,23 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                      final ResourceModel resourceModel,
                                                                      final CallbackContext callbackContext,
                                                                      final Map<String, String> tagsToAdd,
-                                                                     final Logger logger) {
-        logger.log(String.format("[UPDATE][IN PROGRESS] Going to add tags for resource: %s ", ResourceModel.TYPE_NAME));
+                                                                     final StructuredLogger logger) {
+        logger.info("tagResource.started", fields -> fields.field("applicationId", resourceModel.getApplicationId())
+                .field("tags", tagsToAdd.size()));
         return proxy.initiate("AWS-EMRServerless-Application::TagOps", proxyClient, resourceModel, callbackContext)
                 .translateToServiceRequest(model -> Translator.tagResourceRequest(callbackContext.getApplicationArn(), tagsToAdd))
+                .backoffDelay(retryDelay(callbackContext))
                 .makeServiceCall((request, client) -> {
                     try {
-                        TagResourceResponse tagResourceResponse = proxy.injectCredentialsAndInvokeV2(request, proxyClient.client()::tagResource);
-                        logger.log(String.format("[INFO] %s:%s has successfully been tagged.", ResourceModel.TYPE_NAME, resourceModel.getApplicationId()));
+                        TagResourceResponse tagResourceResponse = invoke(ServiceOperation.TAG_RESOURCE, request, proxyClient);
+                        logger.info("tagResource.tagged", fields -> fields.field("applicationId", resourceModel.getApplicationId()));
                         return tagResourceResponse;
                     } catch (AwsServiceException e) {
-                        logger.log(String.format("Failed to add tags. Error: %s for Application %s", e.getMessage(), resourceModel.getApplicationId()));
+                        logger.error("tagResource.failed", fields -> fields.field("applicationId", resourceModel.getApplicationId())
+                                .field("error", e.getMessage()));
                         throw  e;
+                    } finally {
+                        invalidateReadMemo(resourceModel.getApplicationId());
                     }
                 })
                 .handleError(this::handleError)
@@ -172,21 +267,70 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                        final ResourceModel resourceModel,
                                                                        final CallbackContext callbackContext,
                                                                        final Set<String> tagsToRemove,
-                                                                       final Logger logger) {
-        logger.log(String.format("[UPDATE][IN PROGRESS] Going to remove tags for resource: %s ", ResourceModel.TYPE_NAME));
+                                                                       final StructuredLogger logger) {
+        logger.info("untagResource.started", fields -> fields.field("applicationId", resourceModel.getApplicationId())
+                .field("tagKeys", tagsToRemove.size()));
         return proxy.initiate("AWS-EMRServerless-Application::UnTagOps", proxyClient, resourceModel, callbackContext)
                 .translateToServiceRequest(model -> Translator.untagResourceRequest(callbackContext.getApplicationArn(), tagsToRemove))
+                .backoffDelay(retryDelay(callbackContext))
                 .makeServiceCall((request, client) -> {
                     try {
-                        UntagResourceResponse untagResourceResponse = proxy.injectCredentialsAndInvokeV2(request, proxyClient.client()::untagResource);
-                        logger.log(String.format("[INFO] %s:%s has successfully been untagged.", ResourceModel.TYPE_NAME, resourceModel.getApplicationId()));
+                        UntagResourceResponse untagResourceResponse = invoke(ServiceOperation.UNTAG_RESOURCE, request, proxyClient);
+                        logger.info("untagResource.untagged", fields -> fields.field("applicationId", resourceModel.getApplicationId()));
                         return untagResourceResponse;
                     } catch (AwsServiceException e) {
-                        logger.log(String.format("Failed to remove tags. Error: %s for Application %s", e.getMessage(), resourceModel.getApplicationId()));
+                        logger.error("untagResource.failed", fields -> fields.field("applicationId", resourceModel.getApplicationId())
+                                .field("error", e.getMessage()));
                         throw  e;
+                    } finally {
+                        invalidateReadMemo(resourceModel.getApplicationId());
                     }
                 })
                 .handleError(this::handleError)
                 .progress();
     }
+
+    // Tag keys to remove and to add are disjoint, so both calls can be in flight at the same time. A failure of either
+    // is handled as a failure of its own operation, retries re-issue both calls, which are idempotent.
+    private ProgressEvent<ResourceModel, CallbackContext> updateTagsConcurrently(final AmazonWebServicesClientProxy proxy,
+                                                                                 final ResourceModel resourceModel,
+                                                                                 final ProxyClient<EmrServerlessClient> proxyClient,
+                                                                                 final CallbackContext callbackContext) {
+        logger.info("updateTags.started", fields -> fields.field("applicationId", resourceModel.getApplicationId())
+                .field("tags", callbackContext.tagsToAdd.size())
+                .field("tagKeys", callbackContext.tagsToRemove.size()));
+        final TagResourceRequest tagResourceRequest = Translator.tagResourceRequest(callbackContext.getApplicationArn(), callbackContext.tagsToAdd);
+        final AtomicReference<AwsRequest> failedRequest = new AtomicReference<>();
+        return proxy.initiate("AWS-EMRServerless-Application::ConcurrentTagOps", proxyClient, resourceModel, callbackContext)
+                .translateToServiceRequest(model -> Translator.untagResourceRequest(callbackContext.getApplicationArn(), callbackContext.tagsToRemove))
+                .backoffDelay(retryDelay(callbackContext))
+                .makeServiceCall((untagResourceRequest, client) -> {
+                    failedRequest.set(null);
+                    try {
+                        final CompletableFuture<UntagResourceResponse> untagFuture = invokeAsync(ServiceOperation.UNTAG_RESOURCE, untagResourceRequest);
+                        final CompletableFuture<TagResourceResponse> tagFuture = invokeAsync(ServiceOperation.TAG_RESOURCE, tagResourceRequest);
+                        // Wait for both calls, so none is left in flight when the other one fails
+                        CompletableFuture.allOf(untagFuture, tagFuture).handle((result, e) -> null).join();
+                        if (untagFuture.isCompletedExceptionally()) {
+                            failedRequest.set(untagResourceRequest);
+                            throw failureOf(untagFuture);
+                        }
+                        if (tagFuture.isCompletedExceptionally()) {
+                            failedRequest.set(tagResourceRequest);
+                            throw failureOf(tagFuture);
+                        }
+                        logger.info("updateTags.updated", fields -> fields.field("applicationId", resourceModel.getApplicationId()));
+                        return tagFuture.join();
+                    } catch (AwsServiceException e) {
+                        logger.error("updateTags.failed", fields -> fields.field("applicationId", resourceModel.getApplicationId())
+                                .field("error", e.getMessage()));
+                        throw e;
+                    } finally {
+                        invalidateReadMemo(resourceModel.getApplicationId());
+                    }
+                })
+                .handleError((request, e, client, model, context) ->
+                        handleError(Optional.ofNullable(failedRequest.get()).orElse(request), e, client, model, context))
+                .progress();
+    }
 }
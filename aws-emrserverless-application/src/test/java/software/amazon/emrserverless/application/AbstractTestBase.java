@@ -1,5 +1,8 @@
 package software.amazon.emrserverless.application;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.Period;
 import java.util.HashMap;
@@ -11,7 +14,10 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.provider.Arguments;
+import org.mockito.Answers;
+import org.mockito.Mockito;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -23,6 +29,7 @@ import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.emrserverless.EmrServerlessAsyncClient;
 import software.amazon.awssdk.services.emrserverless.EmrServerlessClient;
 import software.amazon.awssdk.services.emrserverless.model.Application;
 import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
@@ -31,6 +38,7 @@ import software.amazon.awssdk.services.emrserverless.model.Architecture;
 import software.amazon.awssdk.services.emrserverless.model.AutoStartConfig;
 import software.amazon.awssdk.services.emrserverless.model.AutoStopConfig;
 import software.amazon.awssdk.services.emrserverless.model.ConflictException;
+import software.amazon.awssdk.services.emrserverless.model.EmrServerlessException;
 import software.amazon.awssdk.services.emrserverless.model.GetApplicationResponse;
 import software.amazon.awssdk.services.emrserverless.model.ImageConfiguration;
 import software.amazon.awssdk.services.emrserverless.model.InternalServerException;
@@ -42,8 +50,13 @@ import software.amazon.awssdk.services.emrserverless.model.WorkerTypeSpecificati
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.DelayFactory;
 import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.WaitStrategy;
 
 public abstract class AbstractTestBase {
     protected static final Credentials MOCK_CREDENTIALS;
@@ -100,16 +113,25 @@ public abstract class AbstractTestBase {
         .message("internal server error").build();
     protected static final ConflictException CONFLICT_EXCEPTION = ConflictException.builder()
         .message("conflict exception").build();
+    protected static final EmrServerlessException THROTTLING_EXCEPTION = EmrServerlessException.builder()
+        .message("rate exceeded").statusCode(429).build();
     protected static final Architecture ARCHITECTURE = Architecture.X86_64;
     protected static final String IMAGE_URI = "image uri";
     protected static final String IMAGE_DIGEST = "image digest";
     protected static final String WORKER_TYPE = "worker type";
+    private static final int MAX_CALLBACK_INVOCATIONS = 20;
 
     static {
         MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
         logger = new LoggerProxy();
     }
 
+    // Circuit breakers are shared by the container, failures of one test must not open them for the next
+    @BeforeEach
+    public void resetCircuitBreakers() {
+        CircuitBreaker.clear();
+    }
+
     protected GetApplicationResponse getApplicationResponse(Application application) {
         return GetApplicationResponse.builder()
             .application(application)
@@ -373,13 +395,95 @@ public abstract class AbstractTestBase {
     }
 
     public Stream<Arguments> exceptionArgumentsProvider() {
+        final Map<Exception, Integer> attempts = getRetriedExceptionAttempts();
         return getCFNExceptionMapping().entrySet()
             .stream()
-            .map(entry -> Arguments.of(entry.getKey(), entry.getValue()));
+            .map(entry -> Arguments.of(entry.getKey(), entry.getValue(), attempts.getOrDefault(entry.getKey(), 1)));
     }
 
     protected abstract Map<Exception, BaseHandlerException> getCFNExceptionMapping();
 
+    /**
+     * Calls the handler makes of an operation failing every time with one of the exceptions it retries, all other
+     * exceptions of {@link #getCFNExceptionMapping()} fail after the first call.
+     */
+    protected Map<Exception, Integer> getRetriedExceptionAttempts() {
+        return ImmutableMap.of();
+    }
+
+    /**
+     * Execution mode of the handlers under test, overridden by the async variants of the handler tests.
+     */
+    protected BaseHandlerStd.ExecutionMode executionMode() {
+        return BaseHandlerStd.ExecutionMode.SYNC;
+    }
+
+    protected <HandlerT extends BaseHandlerStd> HandlerT withExecutionMode(final HandlerT handler,
+                                                                           final AmazonWebServicesClientProxy proxy,
+                                                                           final EmrServerlessAsyncClient sdkAsyncClient) {
+        handler.executionMode = executionMode();
+        handler.asyncProxyClient = MOCK_ASYNC_PROXY(proxy, sdkAsyncClient);
+        return handler;
+    }
+
+    /**
+     * Proxy that returns IN_PROGRESS with the delay of a retry or poll instead of waiting it out, for handlers invoked
+     * with {@link #handleUntilDone}.
+     */
+    static AmazonWebServicesClientProxy callbackProxy() {
+        return new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY,
+            WaitStrategy.scheduleForCallbackStrategy());
+    }
+
+    /**
+     * Invokes the handler again with the callback context of its last response while it is in progress, as
+     * CloudFormation does on every callback, without waiting for the callback delay.
+     */
+    static ProgressEvent<ResourceModel, CallbackContext> handleUntilDone(final BaseHandlerStd handler,
+                                                                         final AmazonWebServicesClientProxy proxy,
+                                                                         final ResourceHandlerRequest<ResourceModel> request,
+                                                                         final ProxyClient<EmrServerlessClient> proxyClient) {
+        CallbackContext callbackContext = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+        int invocations = 0;
+        do {
+            response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            callbackContext = response.getCallbackContext();
+        } while (response.getStatus() == OperationStatus.IN_PROGRESS && ++invocations < MAX_CALLBACK_INVOCATIONS);
+        return response;
+    }
+
+    /**
+     * Throttling retry on a bucket of its own that retries right away, so tests neither wait nor share the bucket of
+     * the container.
+     */
+    static ThrottlingRetry noWaitThrottlingRetry(final int maxAttempts) {
+        return new ThrottlingRetry(new TokenBucket(100, 100, System::nanoTime), maxAttempts, Duration.ZERO, Duration.ZERO,
+            Duration.ZERO, () -> 0, millis -> { }, (task, millis) -> task.run());
+    }
+
+    /**
+     * Async client mock that completes every call not stubbed on itself with the outcome of the same call on the sync
+     * client mock, so stubs and verifications on the sync client hold for both execution modes. Stub it with
+     * doReturn, as when() would invoke the sync client.
+     */
+    static EmrServerlessAsyncClient MOCK_ASYNC_CLIENT(final EmrServerlessClient sdkClient) {
+        return Mockito.mock(EmrServerlessAsyncClient.class, invocation -> {
+            final Method method = invocation.getMethod();
+            if (!CompletableFuture.class.equals(method.getReturnType())) {
+                return Answers.RETURNS_DEFAULTS.answer(invocation);
+            }
+            final CompletableFuture<Object> future = new CompletableFuture<>();
+            try {
+                future.complete(EmrServerlessClient.class.getMethod(method.getName(), method.getParameterTypes())
+                    .invoke(sdkClient, invocation.getArguments()));
+            } catch (final InvocationTargetException e) {
+                future.completeExceptionally(e.getCause());
+            }
+            return future;
+        });
+    }
+
     static ProxyClient<EmrServerlessClient> MOCK_PROXY(
         final AmazonWebServicesClientProxy proxy,
         final EmrServerlessClient sdkClient) {
@@ -422,4 +526,47 @@ public abstract class AbstractTestBase {
             }
         };
     }
-}
\ No newline at end of file
+
+    static ProxyClient<EmrServerlessAsyncClient> MOCK_ASYNC_PROXY(
+        final AmazonWebServicesClientProxy proxy,
+        final EmrServerlessAsyncClient sdkAsyncClient) {
+        return new ProxyClient<EmrServerlessAsyncClient>() {
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(RequestT request, Function<RequestT, ResponseT> requestFunction) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse>
+            CompletableFuture<ResponseT>
+            injectCredentialsAndInvokeV2Async(RequestT request, Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+                return proxy.injectCredentialsAndInvokeV2Async(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+            IterableT
+            injectCredentialsAndInvokeIterableV2(RequestT request, Function<RequestT, IterableT> requestFunction) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+            injectCredentialsAndInvokeV2InputStream(RequestT requestT, Function<RequestT, ResponseInputStream<ResponseT>> function) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+            injectCredentialsAndInvokeV2Bytes(RequestT requestT, Function<RequestT, ResponseBytes<ResponseT>> function) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public EmrServerlessAsyncClient client() {
+                return sdkAsyncClient;
+            }
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package software.amazon.emrserverless.application;
+
+/**
+ * Holds every ApiCallBudgetTest path to its budget with the handlers invoking operations on the async client.
+ */
+public class ApiCallBudgetAsyncTest extends ApiCallBudgetTest {
+
+    @Override
+    protected BaseHandlerStd.ExecutionMode executionMode() {
+        return BaseHandlerStd.ExecutionMode.ASYNC;
+    }
+}
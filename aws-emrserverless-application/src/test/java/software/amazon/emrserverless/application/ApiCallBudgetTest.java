@@ -0,0 +1,212 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.google.common.collect.ImmutableMap;
+
+import software.amazon.awssdk.services.emrserverless.EmrServerlessClient;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.awssdk.services.emrserverless.model.TagResourceRequest;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Maximum service calls per operation of every handler path, counted at the proxy client around the in-memory EMR
+ * Serverless, retries included. A change making a path call an operation more often than its budget, or an operation
+ * outside of its budget, fails the build. Lower a budget when a change saves calls.
+ */
+public class ApiCallBudgetTest extends AbstractTestBase {
+
+    private static final int MAX_INVOCATIONS = 20;
+    private static final int PAGE_SIZE = 2;
+
+    private FakeEmrServerless emrServerless;
+    private AmazonWebServicesClientProxy proxy;
+    private CountingProxyClient<EmrServerlessClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        StateTransitionTimes.clear();
+        emrServerless = new FakeEmrServerless();
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = new CountingProxyClient<>(MOCK_PROXY(proxy, emrServerless));
+    }
+
+    @AfterEach
+    public void tear_down() {
+        emrServerless.close();
+    }
+
+    @Test
+    public void create_WithTags() {
+        final ProgressEvent<ResourceModel, CallbackContext> response = run(new CreateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+            .clientRequestToken("create")
+            .desiredResourceState(model(null, null, ImmutableMap.of("team", "analytics")))
+            .desiredResourceTags(ImmutableMap.of("stack", "value"))
+            .build());
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertWithinBudget(ImmutableMap.of(
+            "CreateApplication", 1,
+            "GetApplication", 1));
+    }
+
+    @Test
+    public void read() {
+        final String applicationId = emrServerless.seedApplication("application", ApplicationState.STARTED);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = run(new ReadHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().applicationId(applicationId).build())
+            .build());
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertWithinBudget(ImmutableMap.of("GetApplication", 1));
+    }
+
+    @Test
+    public void update_TagOnlyChanges() {
+        final ResourceModel previous = seedTaggedApplication();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = run(new UpdateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model(previous.getApplicationId(), previous.getArn(), ImmutableMap.of("owner", "platform")))
+            .previousResourceState(previous)
+            .desiredResourceTags(ImmutableMap.of("owner", "platform"))
+            .build());
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertWithinBudget(ImmutableMap.of(
+            "GetApplication", 2,
+            "UntagResource", 1,
+            "TagResource", 1));
+    }
+
+    @Test
+    public void update_PropertyAndTagChangesWithoutPreviousState() {
+        final ResourceModel previous = seedTaggedApplication();
+        final ResourceModel desired = model(previous.getApplicationId(), null, ImmutableMap.of("owner", "platform")).toBuilder()
+            .releaseLabel("emr-7.0.0")
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = run(new UpdateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(desired)
+            .desiredResourceTags(ImmutableMap.of("owner", "platform"))
+            .build());
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertWithinBudget(ImmutableMap.of(
+            "GetApplication", 2,
+            "UpdateApplication", 1,
+            "UntagResource", 1,
+            "TagResource", 1));
+    }
+
+    @Test
+    public void delete_CreatedApplication() {
+        final String applicationId = emrServerless.seedApplication("application", ApplicationState.CREATED);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = run(new DeleteHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().applicationId(applicationId).build())
+            .build());
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertWithinBudget(ImmutableMap.of(
+            "GetApplication", 2,
+            "DeleteApplication", 1));
+    }
+
+    @Test
+    public void delete_AlreadyTerminatedApplication() {
+        final String applicationId = emrServerless.seedApplication("application", ApplicationState.TERMINATED);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = run(new DeleteHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().applicationId(applicationId).build())
+            .build());
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertWithinBudget(ImmutableMap.of("GetApplication", 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 5})
+    public void list_Pages(final int pages) {
+        for (int index = 0; index <= pages * PAGE_SIZE; index++) {
+            emrServerless.seedApplication("application-" + index, ApplicationState.STARTED);
+        }
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = run(
+            new ListHandler(PAGE_SIZE, pages * PAGE_SIZE, Duration.ofMinutes(1), Clock.systemUTC()),
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build());
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(pages * PAGE_SIZE);
+        assertWithinBudget(ImmutableMap.of("ListApplications", pages));
+    }
+
+    @Override
+    protected Map<Exception, BaseHandlerException> getCFNExceptionMapping() {
+        return ImmutableMap.of();
+    }
+
+    private void assertWithinBudget(final Map<String, Integer> budget) {
+        final Map<String, Integer> calls = proxyClient.callCounts();
+        assertThat(calls.keySet()).as("operations called %s, budget %s", calls, budget).isSubsetOf(budget.keySet());
+        budget.forEach((operation, maxCalls) -> assertThat(proxyClient.callCount(operation))
+            .as("%s calls, operations called %s", operation, calls)
+            .isLessThanOrEqualTo(maxCalls));
+    }
+
+    // Application tagged with team=analytics, seeded without counted calls, as the model of its previous operation
+    private ResourceModel seedTaggedApplication() {
+        final String applicationId = emrServerless.seedApplication("application", ApplicationState.CREATED);
+        final String arn = emrServerless.application(applicationId).arn();
+        emrServerless.tagResource(TagResourceRequest.builder().resourceArn(arn).tags(ImmutableMap.of("team", "analytics")).build());
+        return model(applicationId, arn, ImmutableMap.of("team", "analytics"));
+    }
+
+    // Handler on the counting proxies of both clients, invoked until the operation completes
+    private ProgressEvent<ResourceModel, CallbackContext> run(final BaseHandlerStd handler,
+                                                              final ResourceHandlerRequest<ResourceModel> request) {
+        withExecutionMode(handler, proxy, emrServerless.asyncClient());
+        handler.asyncProxyClient = proxyClient.counting(handler.asyncProxyClient);
+        CallbackContext callbackContext = new CallbackContext();
+        for (int invocation = 0; invocation < MAX_INVOCATIONS; invocation++) {
+            final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            if (response.getStatus() != OperationStatus.IN_PROGRESS) {
+                return response;
+            }
+            callbackContext = response.getCallbackContext();
+        }
+        throw new AssertionError("Handler still in progress after " + MAX_INVOCATIONS + " invocations");
+    }
+
+    private static ResourceModel model(final String applicationId, final String arn, final Map<String, String> tags) {
+        return ResourceModel.builder()
+            .applicationId(applicationId)
+            .arn(arn)
+            .name("application")
+            .type("Spark")
+            .releaseLabel("emr-6.9.0")
+            .tags(tags.entrySet().stream()
+                .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                .collect(Collectors.toSet()))
+            .build();
+    }
+}
@@ -0,0 +1,204 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationSummary;
+import software.amazon.awssdk.services.emrserverless.model.GetApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.GetApplicationResponse;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+
+public class ApplicationHydratorTest extends AbstractTestBase {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+    @Test
+    public void hydrate_FullModelsInPageOrder() {
+        final List<CompletableFuture<GetApplicationResponse>> pending = new ArrayList<>();
+        // Reads complete in reverse order once all three are in flight
+        final ApplicationHydrator hydrator = hydrator(request -> {
+            final CompletableFuture<GetApplicationResponse> response = new CompletableFuture<>();
+            synchronized (pending) {
+                pending.add(response);
+                if (pending.size() == 3) {
+                    for (int index = 2; index >= 0; index--) {
+                        pending.get(index).complete(getApplicationResponse(getApplication("app-" + (index + 1), ApplicationState.STARTED)));
+                    }
+                }
+            }
+            return response;
+        }, 3);
+
+        final List<ResourceModel> resourceModels = hydrator.hydrate(summaries("app-1", "app-2", "app-3"), NO_DEADLINE);
+
+        assertThat(resourceModels).extracting(ResourceModel::getApplicationId).containsExactly("app-1", "app-2", "app-3");
+        assertThat(resourceModels.get(0)).isEqualTo(Translator.translateFromReadResponse(
+            getApplicationResponse(getApplication("app-1", ApplicationState.STARTED))));
+    }
+
+    @Test
+    public void hydrate_BoundsReadsInFlight() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final ApplicationHydrator hydrator = hydrator(request -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                sleep(5);
+                inFlight.decrementAndGet();
+                return getApplicationResponse(getApplication(request.applicationId(), ApplicationState.CREATED));
+            });
+        }, 2);
+
+        final List<String> applicationIds = IntStream.range(0, 10).mapToObj(index -> "app-" + index).collect(Collectors.toList());
+        final List<ResourceModel> resourceModels = hydrator.hydrate(summaries(applicationIds.toArray(new String[0])), NO_DEADLINE);
+
+        assertThat(resourceModels).extracting(ResourceModel::getApplicationId).containsExactlyElementsOf(applicationIds);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void hydrate_SummaryForThrottledReads() {
+        // The reads are retried by the function the hydrator is given, a throttled read is only the last of them
+        final ApplicationHydrator hydrator = hydrator(request -> {
+            calls(request);
+            return failed(THROTTLING_EXCEPTION);
+        }, 1);
+
+        final List<ResourceModel> resourceModels = hydrator.hydrate(summaries("app-1"), NO_DEADLINE);
+
+        assertThat(resourceModels).containsExactly(Translator.translateFromSummary(summary("app-1")));
+        assertThat(calls.get("app-1").get()).isEqualTo(1);
+    }
+
+    @Test
+    public void hydrate_SummaryForFailedReads() {
+        final ApplicationHydrator hydrator = hydrator(request -> "app-2".equals(request.applicationId())
+            ? failed(VALIDATION_EXCEPTION)
+            : CompletableFuture.completedFuture(getApplicationResponse(getApplication(request.applicationId(), ApplicationState.CREATED))), 2);
+
+        final List<ResourceModel> resourceModels = hydrator.hydrate(summaries("app-1", "app-2", "app-3"), NO_DEADLINE);
+
+        assertThat(resourceModels).extracting(ResourceModel::getApplicationId).containsExactly("app-1", "app-2", "app-3");
+        assertThat(resourceModels.get(1)).isEqualTo(Translator.translateFromSummary(summary("app-2")));
+        assertThat(resourceModels.get(2).getArchitecture()).isNotNull();
+    }
+
+    @Test
+    public void hydrate_SummaryForUntranslatableRead() {
+        // A worker type without specification can't be translated
+        final GetApplicationResponse untranslatable = getApplicationResponse(getDefaultApplicationBuilder()
+            .applicationId("app-1")
+            .state(ApplicationState.STARTED)
+            .workerTypeSpecifications(Collections.singletonMap("Driver", null))
+            .build());
+        final ApplicationHydrator hydrator = hydrator(request -> "app-1".equals(request.applicationId())
+            ? CompletableFuture.completedFuture(untranslatable)
+            : CompletableFuture.completedFuture(getApplicationResponse(getApplication(request.applicationId(), ApplicationState.STARTED))), 1);
+
+        // Both summaries are read on the same lane, the untranslatable read mustn't hold up the second one
+        final List<ResourceModel> resourceModels = hydrator.hydrate(summaries("app-1", "app-2"), Clock.systemUTC().millis() + 10_000);
+
+        assertThat(resourceModels).containsExactly(Translator.translateFromSummary(summary("app-1")),
+            Translator.translateFromReadResponse(getApplicationResponse(getApplication("app-2", ApplicationState.STARTED))));
+    }
+
+    @Test
+    public void hydrate_LeavesOutGoneApplications() {
+        final ApplicationHydrator hydrator = hydrator(request -> {
+            switch (request.applicationId()) {
+                case "app-1":
+                    return failed(NOT_FOUND_EXCEPTION);
+                case "app-2":
+                    return CompletableFuture.completedFuture(getApplicationResponse(getApplication("app-2", ApplicationState.TERMINATED)));
+                default:
+                    return CompletableFuture.completedFuture(getApplicationResponse(getApplication(request.applicationId(), ApplicationState.STARTED)));
+            }
+        }, 3);
+
+        final List<ResourceModel> resourceModels = hydrator.hydrate(summaries("app-1", "app-2", "app-3"), NO_DEADLINE);
+
+        assertThat(resourceModels).extracting(ResourceModel::getApplicationId).containsExactly("app-3");
+    }
+
+    @Test
+    public void hydrate_SummariesPastDeadline() {
+        final ApplicationHydrator hydrator = hydrator(request -> {
+            calls(request);
+            return new CompletableFuture<>();
+        }, 2);
+
+        final List<ResourceModel> resourceModels = hydrator.hydrate(summaries("app-1", "app-2"), Clock.systemUTC().millis());
+
+        assertThat(resourceModels).containsExactly(Translator.translateFromSummary(summary("app-1")),
+            Translator.translateFromSummary(summary("app-2")));
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    public void hydrate_StopsWaitingAtDeadline() {
+        final ApplicationHydrator hydrator = hydrator(request -> new CompletableFuture<>(), 2);
+
+        final long start = System.nanoTime();
+        final List<ResourceModel> resourceModels = hydrator.hydrate(summaries("app-1"), Clock.systemUTC().millis() + 50);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5_000);
+        assertThat(resourceModels).containsExactly(Translator.translateFromSummary(summary("app-1")));
+    }
+
+    private ApplicationHydrator hydrator(final Function<GetApplicationRequest, CompletableFuture<GetApplicationResponse>> getApplication,
+                                         final int maxConcurrency) {
+        return new ApplicationHydrator(getApplication, maxConcurrency, Clock.systemUTC(), StructuredLogger.of(logger));
+    }
+
+    private int calls(final GetApplicationRequest request) {
+        return calls.computeIfAbsent(request.applicationId(), applicationId -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private static List<ApplicationSummary> summaries(final String... applicationIds) {
+        final List<ApplicationSummary> summaries = new ArrayList<>();
+        for (final String applicationId : applicationIds) {
+            summaries.add(summary(applicationId));
+        }
+        return summaries;
+    }
+
+    private static ApplicationSummary summary(final String applicationId) {
+        return ApplicationSummary.builder().id(applicationId).arn(APPLICATION_ARN).name(APPLICATION_NAME).build();
+    }
+
+    private static <T> CompletableFuture<T> failed(final Exception exception) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(exception);
+        return future;
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    protected Map<Exception, BaseHandlerException> getCFNExceptionMapping() {
+        return Collections.emptyMap();
+    }
+}
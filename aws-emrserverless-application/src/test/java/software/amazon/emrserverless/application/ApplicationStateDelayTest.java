@@ -0,0 +1,125 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.cloudformation.resource.Serializer;
+
+public class ApplicationStateDelayTest {
+
+    private static final Instant NOW = Instant.parse("2022-06-01T00:00:00Z");
+    private static final Map<ApplicationState, Duration> BASE_DELAYS =
+            Collections.singletonMap(ApplicationState.CREATING, Duration.ofSeconds(4));
+
+    private CallbackContext callbackContext;
+
+    @BeforeEach
+    public void setup() {
+        callbackContext = new CallbackContext();
+        StateTransitionTimes.clear();
+    }
+
+    @Test
+    public void nextDelay_UsesBaseDelayOfObservedState() {
+        final ApplicationStateDelay delay = delay(Clock.fixed(NOW, ZoneOffset.UTC), 1.0);
+
+        callbackContext.setObservedApplicationState(ApplicationState.CREATING.toString());
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(callbackContext.getStabilizationStartTime()).isEqualTo(NOW.toEpochMilli());
+    }
+
+    @Test
+    public void nextDelay_BacksOffAcrossInvocationsAndResetsOnChange() throws IOException {
+        // Every poll runs in its own invocation, with a new delay and the context the previous invocation returned
+        callbackContext.setObservedApplicationState(ApplicationState.CREATING.toString());
+        assertThat(nextDelayInNewInvocation(1)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(nextDelayInNewInvocation(2)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(nextDelayInNewInvocation(3)).isEqualTo(Duration.ofSeconds(16));
+        assertThat(nextDelayInNewInvocation(4)).isEqualTo(Duration.ofSeconds(20));
+
+        callbackContext.setObservedApplicationState(ApplicationState.STARTING.toString());
+        assertThat(nextDelayInNewInvocation(5)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(nextDelayInNewInvocation(6)).isEqualTo(Duration.ofSeconds(4));
+    }
+
+    @Test
+    public void nextDelay_AppliesEqualJitter() {
+        callbackContext.setObservedApplicationState(ApplicationState.CREATING.toString());
+
+        assertThat(delay(Clock.fixed(NOW, ZoneOffset.UTC), 0.0).nextDelay(1)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(delay(Clock.fixed(NOW, ZoneOffset.UTC), 0.5).nextDelay(1)).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    @Test
+    public void nextDelay_NeverBelowMinimumDelay() {
+        callbackContext.setObservedApplicationState(ApplicationState.STOPPED.toString());
+
+        assertThat(delay(Clock.fixed(NOW, ZoneOffset.UTC), 0.0).nextDelay(1)).isEqualTo(ApplicationStateDelay.MIN_DELAY);
+    }
+
+    @Test
+    public void nextDelay_BoundedByRemainingTime() {
+        callbackContext.setStabilizationStartTime(NOW.toEpochMilli());
+        callbackContext.setObservedApplicationState(ApplicationState.CREATING.toString());
+        final Clock clock = Clock.fixed(NOW.plus(Duration.ofSeconds(57)), ZoneOffset.UTC);
+
+        assertThat(delay(clock, 1.0).nextDelay(1)).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    @Test
+    public void nextDelay_ZeroOnceTimedOut() {
+        callbackContext.setStabilizationStartTime(NOW.toEpochMilli());
+        final Clock clock = Clock.fixed(NOW.plus(Duration.ofMinutes(1)), ZoneOffset.UTC);
+
+        assertThat(delay(clock, 1.0).nextDelay(1)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void nextDelay_WaitsForExpectedTransition() {
+        final String transition = StateTransitionTimes.transition(ApplicationState.CREATING.toString(),
+                ApplicationState.CREATED.toString());
+        StateTransitionTimes.record(callbackContext, transition, Duration.ofSeconds(40).toMillis());
+        callbackContext.setObservedApplicationState(ApplicationState.CREATING.toString());
+        callbackContext.setObservedStateSince(NOW.toEpochMilli());
+        final Clock clock = Clock.fixed(NOW.plus(Duration.ofSeconds(10)), ZoneOffset.UTC);
+
+        // Single sample in the 32-64 seconds bucket, so the median is 48 seconds
+        assertThat(delay(clock, 1.0).nextDelay(1)).isEqualTo(Duration.ofSeconds(38));
+    }
+
+    @Test
+    public void forCreateAndForDelete_StartFromContext() {
+        callbackContext.setObservedApplicationState(ApplicationState.CREATING.toString());
+
+        assertThat(ApplicationStateDelay.forCreate(callbackContext).nextDelay(1))
+                .isBetween(Duration.ofSeconds(5), Duration.ofSeconds(10));
+        assertThat(ApplicationStateDelay.forDelete(callbackContext).nextDelay(1))
+                .isEqualTo(ApplicationStateDelay.MIN_DELAY);
+    }
+
+    private Duration nextDelayInNewInvocation(final int attempt) throws IOException {
+        final Serializer serializer = new Serializer();
+        callbackContext = serializer.deserialize(serializer.serialize(callbackContext),
+                new TypeReference<CallbackContext>() {});
+        return delay(Clock.fixed(NOW, ZoneOffset.UTC), 1.0).nextDelay(attempt);
+    }
+
+    private ApplicationStateDelay delay(final Clock clock, final double jitter) {
+        return new ApplicationStateDelay(callbackContext, BASE_DELAYS, ApplicationState.CREATED.toString(),
+                Duration.ofSeconds(2), Duration.ofSeconds(20), Duration.ofMinutes(1), clock, () -> jitter);
+    }
+}
@@ -0,0 +1,192 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.emrserverless.model.EmrServerlessException;
+import software.amazon.awssdk.services.emrserverless.model.InternalServerException;
+import software.amazon.awssdk.services.emrserverless.model.ValidationException;
+
+public class CircuitBreakerTest {
+
+    private static final InternalServerException SERVER_ERROR = InternalServerException.builder().message("internal").build();
+    private static final ValidationException CLIENT_ERROR = ValidationException.builder().message("invalid").statusCode(400).build();
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final AtomicLong millis = new AtomicLong();
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+    };
+
+    @Test
+    public void isServiceFailure_ServerErrorsAndMissingResponses() {
+        assertThat(CircuitBreaker.isServiceFailure(SERVER_ERROR)).isTrue();
+        assertThat(CircuitBreaker.isServiceFailure(new CompletionException(SERVER_ERROR))).isTrue();
+        assertThat(CircuitBreaker.isServiceFailure(EmrServerlessException.builder().statusCode(503).build())).isTrue();
+        assertThat(CircuitBreaker.isServiceFailure(SdkClientException.create("connection reset"))).isTrue();
+        assertThat(CircuitBreaker.isServiceFailure(CLIENT_ERROR)).isFalse();
+        assertThat(CircuitBreaker.isServiceFailure(EmrServerlessException.builder().statusCode(429).build())).isFalse();
+        assertThat(CircuitBreaker.isServiceFailure(null)).isFalse();
+    }
+
+    @Test
+    public void onFailure_OpensAtFailureRate() {
+        final CircuitBreaker breaker = breaker();
+
+        record(breaker, 5, false);
+        record(breaker, 4, true);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        record(breaker, 1, true);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.remainingOpen()).isEqualTo(OPEN_DURATION);
+    }
+
+    @Test
+    public void onFailure_StaysClosedBelowMinimumCalls() {
+        final CircuitBreaker breaker = breaker();
+
+        record(breaker, 9, true);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    public void onFailure_ClientErrorsCountAsSuccess() {
+        final CircuitBreaker breaker = breaker();
+
+        for (int call = 0; call < 20; call++) {
+            breaker.onFailure(CLIENT_ERROR);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void onFailure_OldOutcomesLeaveTheWindow() {
+        final CircuitBreaker breaker = breaker();
+
+        record(breaker, 11, false);
+        record(breaker, 9, true);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // The window holds the last 20 calls, the new failure pushes out the oldest success
+        record(breaker, 1, true);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void tryAcquire_HalfOpensForSingleProbe() {
+        final CircuitBreaker breaker = openBreaker();
+
+        millis.addAndGet(OPEN_DURATION.toMillis() - 1);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.remainingOpen()).isEqualTo(Duration.ofMillis(1));
+
+        millis.incrementAndGet();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    public void onSuccess_ProbeClosesBreaker() {
+        final CircuitBreaker breaker = openBreaker();
+        millis.addAndGet(OPEN_DURATION.toMillis());
+        breaker.tryAcquire();
+
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        // The failures before the breaker opened are forgotten
+        record(breaker, 9, true);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void onFailure_ProbeReopensBreaker() {
+        final CircuitBreaker breaker = openBreaker();
+        millis.addAndGet(OPEN_DURATION.toMillis());
+        breaker.tryAcquire();
+
+        breaker.onFailure(SERVER_ERROR);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.remainingOpen()).isEqualTo(OPEN_DURATION);
+    }
+
+    @Test
+    public void forOperation_SharedUntilCleared() {
+        final CircuitBreaker breaker = CircuitBreaker.forOperation("GetApplication");
+
+        assertThat(CircuitBreaker.forOperation("GetApplication")).isSameAs(breaker);
+        assertThat(CircuitBreaker.forOperation("ListApplications")).isNotSameAs(breaker);
+
+        CircuitBreaker.clear();
+        assertThat(CircuitBreaker.forOperation("GetApplication")).isNotSameAs(breaker);
+    }
+
+    @Test
+    public void parsePositive_FallsBackToDefault() {
+        assertThat(CircuitBreaker.parsePositive(" 40 ", 20)).isEqualTo(40);
+        assertThat(CircuitBreaker.parsePositive(null, 20)).isEqualTo(20);
+        assertThat(CircuitBreaker.parsePositive("0", 20)).isEqualTo(20);
+        assertThat(CircuitBreaker.parsePositive("many", 20)).isEqualTo(20);
+    }
+
+    @Test
+    public void parseFailureRateThreshold_FallsBackToDefault() {
+        assertThat(CircuitBreaker.parseFailureRateThreshold("0.25")).isEqualTo(0.25);
+        assertThat(CircuitBreaker.parseFailureRateThreshold("1")).isEqualTo(1.0);
+        assertThat(CircuitBreaker.parseFailureRateThreshold(null)).isEqualTo(CircuitBreaker.DEFAULT_FAILURE_RATE_THRESHOLD);
+        assertThat(CircuitBreaker.parseFailureRateThreshold("0")).isEqualTo(CircuitBreaker.DEFAULT_FAILURE_RATE_THRESHOLD);
+        assertThat(CircuitBreaker.parseFailureRateThreshold("1.5")).isEqualTo(CircuitBreaker.DEFAULT_FAILURE_RATE_THRESHOLD);
+        assertThat(CircuitBreaker.parseFailureRateThreshold("half")).isEqualTo(CircuitBreaker.DEFAULT_FAILURE_RATE_THRESHOLD);
+    }
+
+    private CircuitBreaker breaker() {
+        return new CircuitBreaker(20, 10, 0.5, OPEN_DURATION, clock);
+    }
+
+    private CircuitBreaker openBreaker() {
+        final CircuitBreaker breaker = breaker();
+        record(breaker, 10, true);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+    private static void record(final CircuitBreaker breaker, final int calls, final boolean failed) {
+        for (int call = 0; call < calls; call++) {
+            if (failed) {
+                breaker.onFailure(SERVER_ERROR);
+            } else {
+                breaker.onSuccess();
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.emrserverless.EmrServerlessAsyncClient;
+import software.amazon.awssdk.services.emrserverless.EmrServerlessClient;
+import software.amazon.awssdk.services.emrserverless.model.GetApplicationRequest;
+
+public class ClientBuilderTest {
+
+    private static final URI ENDPOINT_OVERRIDE = URI.create("https://emr-serverless.us-west-2.amazonaws.com");
+
+    @AfterEach
+    public void tear_down() {
+        ClientBuilder.overrideClients(null, null);
+        ClientBuilder.closeClients();
+    }
+
+    @Test
+    public void getClient_ReusesClientForSameRegion() {
+        final EmrServerlessClient first = ClientBuilder.getClient(Region.US_WEST_2, null);
+        final EmrServerlessClient second = ClientBuilder.getClient(Region.US_WEST_2, null);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void getClient_SeparateClientsPerRegionAndOverride() {
+        final EmrServerlessClient usWest2 = ClientBuilder.getClient(Region.US_WEST_2, null);
+        final EmrServerlessClient usEast1 = ClientBuilder.getClient(Region.US_EAST_1, null);
+        final EmrServerlessClient overridden = ClientBuilder.getClient(Region.US_WEST_2, ENDPOINT_OVERRIDE);
+
+        assertThat(usEast1).isNotSameAs(usWest2);
+        assertThat(overridden).isNotSameAs(usWest2);
+        assertThat(ClientBuilder.getClient(Region.US_WEST_2, ENDPOINT_OVERRIDE)).isSameAs(overridden);
+    }
+
+    @Test
+    public void getAsyncClient_ReusesClientForSameRegion() {
+        final EmrServerlessAsyncClient first = ClientBuilder.getAsyncClient(Region.US_WEST_2, null);
+
+        assertThat(ClientBuilder.getAsyncClient(Region.US_WEST_2, null)).isSameAs(first);
+        assertThat(ClientBuilder.getAsyncClient(Region.US_EAST_1, null)).isNotSameAs(first);
+    }
+
+    @Test
+    public void closeClients_EvictsCachedClients() {
+        final EmrServerlessClient before = ClientBuilder.getClient(Region.US_WEST_2, null);
+
+        final EmrServerlessAsyncClient asyncBefore = ClientBuilder.getAsyncClient(Region.US_WEST_2, null);
+
+        ClientBuilder.closeClients();
+
+        assertThat(ClientBuilder.getClient(Region.US_WEST_2, null)).isNotSameAs(before);
+        assertThat(ClientBuilder.getAsyncClient(Region.US_WEST_2, null)).isNotSameAs(asyncBefore);
+    }
+
+    @Test
+    public void overrideClients_ReplacesContainerClients() {
+        final FakeEmrServerless emrServerless = new FakeEmrServerless();
+
+        ClientBuilder.overrideClients(emrServerless, emrServerless.asyncClient());
+        ClientBuilder.closeClients();
+
+        assertThat(ClientBuilder.getClient()).isSameAs(emrServerless);
+        assertThat(ClientBuilder.getAsyncClient()).isSameAs(emrServerless.asyncClient());
+        emrServerless.close();
+    }
+
+    @Test
+    public void retryPolicy_RetriesClientSideIoErrors() {
+        final StubHttpClient httpClient = new StubHttpClient(null);
+
+        final Throwable thrown = catchThrowable(() -> getApplication(httpClient));
+
+        assertThat(thrown).isInstanceOf(SdkClientException.class).hasCauseInstanceOf(IOException.class);
+        assertThat(httpClient.calls.get()).isEqualTo(ClientBuilder.RETRY_POLICY.numRetries() + 1);
+    }
+
+    @Test
+    public void retryPolicy_DoesNotRetryThrottling() {
+        final StubHttpClient httpClient = new StubHttpClient(SdkHttpResponse.builder()
+                .statusCode(429)
+                .putHeader("x-amzn-ErrorType", "ThrottlingException")
+                .build());
+
+        final Throwable thrown = catchThrowable(() -> getApplication(httpClient));
+
+        assertThat(thrown).isInstanceOf(SdkException.class);
+        assertThat(RetryUtils.isThrottlingException((SdkException) thrown)).isTrue();
+        assertThat(httpClient.calls.get()).isEqualTo(1);
+    }
+
+    private static void getApplication(final SdkHttpClient httpClient) {
+        try (EmrServerlessClient client = EmrServerlessClient.builder()
+                .httpClient(httpClient)
+                .region(Region.US_WEST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("access", "secret")))
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(ClientBuilder.RETRY_POLICY)
+                        .build())
+                .build()) {
+            client.getApplication(GetApplicationRequest.builder().applicationId("app-id").build());
+        }
+    }
+
+    /**
+     * Answers every request with the given response, or fails it with an IOException if there is none.
+     */
+    private static class StubHttpClient implements SdkHttpClient {
+        private final SdkHttpResponse response;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        StubHttpClient(final SdkHttpResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+            return new ExecutableHttpRequest() {
+                @Override
+                public HttpExecuteResponse call() throws IOException {
+                    calls.incrementAndGet();
+                    if (response == null) {
+                        throw new IOException("Connection reset");
+                    }
+                    return HttpExecuteResponse.builder()
+                            .response(response)
+                            .responseBody(AbortableInputStream.create(
+                                    new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8))))
+                            .build();
+                }
+
+                @Override
+                public void abort() {
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package software.amazon.emrserverless.application;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Proxy client counting the service calls made through it per operation, including calls that failed and retries,
+ * before handing them to the proxy client it wraps. Proxies of the sync and the async client created with
+ * {@link #counting} share their counts, so the calls of a handler are counted in either execution mode.
+ *
+ * @param <ClientT> client of the wrapped proxy
+ */
+final class CountingProxyClient<ClientT> implements ProxyClient<ClientT> {
+
+    private final ProxyClient<ClientT> delegate;
+    private final ConcurrentMap<String, AtomicInteger> calls;
+
+    CountingProxyClient(final ProxyClient<ClientT> delegate) {
+        this(delegate, new ConcurrentHashMap<>());
+    }
+
+    private CountingProxyClient(final ProxyClient<ClientT> delegate, final ConcurrentMap<String, AtomicInteger> calls) {
+        this.delegate = delegate;
+        this.calls = calls;
+    }
+
+    /**
+     * @param other proxy client to count the calls of
+     * @return counting proxy around the other client, counting into the counts of this one
+     */
+    <OtherT> CountingProxyClient<OtherT> counting(final ProxyClient<OtherT> other) {
+        return new CountingProxyClient<>(other, calls);
+    }
+
+    /**
+     * @param operation name of the operation, e.g. GetApplication
+     * @return calls made to the operation
+     */
+    int callCount(final String operation) {
+        final AtomicInteger count = calls.get(operation);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * @return calls made per operation, sorted by operation
+     */
+    Map<String, Integer> callCounts() {
+        final Map<String, Integer> counts = new TreeMap<>();
+        calls.forEach((operation, count) -> counts.put(operation, count.get()));
+        return counts;
+    }
+
+    void reset() {
+        calls.clear();
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+        count(request);
+        return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request, final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        count(request);
+        return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+    injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+        count(request);
+        return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+            final RequestT request, final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        count(request);
+        return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+            final RequestT request, final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        count(request);
+        return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+
+    private void count(final AwsRequest request) {
+        final String requestName = request.getClass().getSimpleName();
+        final String operation = BaseHandlerStd.REQUEST_TO_OPERATION.getOrDefault(request.getClass(),
+            requestName.endsWith("Request") ? requestName.substring(0, requestName.length() - "Request".length()) : requestName);
+        calls.computeIfAbsent(operation, key -> new AtomicInteger()).incrementAndGet();
+    }
+}
@@ -0,0 +1,12 @@
+package software.amazon.emrserverless.application;
+
+/**
+ * Runs every CreateHandlerTest case with the handler invoking operations on the async client.
+ */
+public class CreateHandlerAsyncTest extends CreateHandlerTest {
+
+    @Override
+    protected BaseHandlerStd.ExecutionMode executionMode() {
+        return BaseHandlerStd.ExecutionMode.ASYNC;
+    }
+}
@@ -1,6 +1,8 @@
 package software.amazon.emrserverless.application;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import software.amazon.awssdk.services.emrserverless.EmrServerlessClient;
@@ -62,7 +64,8 @@ public class CreateHandlerTest extends AbstractTestBase {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         sdkClient = mock(EmrServerlessClient.class);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
-        createHandler = new CreateHandler();
+        createHandler = withExecutionMode(new CreateHandler(), proxy, MOCK_ASYNC_CLIENT(sdkClient));
+        StateTransitionTimes.clear();
     }
 
     @Test
@@ -87,7 +90,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         assertThat(response).isNotNull();
         verify(sdkClient).createApplication(any(CreateApplicationRequest.class));
-        verify(sdkClient, times(3)).getApplication(any(GetApplicationRequest.class));
+        verify(sdkClient, times(2)).getApplication(any(GetApplicationRequest.class));
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isEqualTo(getResourceModel(APPLICATION_ID));
@@ -117,7 +120,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         assertThat(response).isNotNull();
         verify(sdkClient).createApplication(any(CreateApplicationRequest.class));
-        verify(sdkClient, times(3)).getApplication(any(GetApplicationRequest.class));
+        verify(sdkClient, times(2)).getApplication(any(GetApplicationRequest.class));
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isEqualTo(getResourceModel(APPLICATION_ID));
@@ -126,21 +129,75 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_ReusesStabilizationReadAsResult() {
+        CreateApplicationResponse createApplicationResponse = createApplicationResponse();
+        GetApplicationResponse applicationCreatedResponse = getApplicationResponse(
+                getApplication(APPLICATION_ID, ApplicationState.CREATED));
+
+        when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+                .thenReturn(applicationCreatedResponse);
+        when(sdkClient.createApplication(any(CreateApplicationRequest.class)))
+                .thenReturn(createApplicationResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        verify(sdkClient).createApplication(any(CreateApplicationRequest.class));
+        // one stabilization poll, no additional read for the result
+        verify(sdkClient, times(1)).getApplication(any(GetApplicationRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(getResourceModel(APPLICATION_ID));
+    }
+
+    @Test
+    public void handleRequest_FirstPollAtExpectedCompletion() {
+        CreateApplicationResponse createApplicationResponse = createApplicationResponse();
+        GetApplicationResponse applicationCreatedResponse = getApplicationResponse(
+                getApplication(APPLICATION_ID, ApplicationState.CREATED));
+        // Single learned CREATING->CREATED sample in the 2-4 seconds bucket, expected completion after 3 seconds
+        StateTransitionTimes.record(new CallbackContext(), StateTransitionTimes.transition(ApplicationState.CREATING.toString(),
+                ApplicationState.CREATED.toString()), 2_500L);
+        final List<Long> pollTimes = new ArrayList<>();
+
+        when(sdkClient.getApplication(any(GetApplicationRequest.class))).thenAnswer(invocation -> {
+            pollTimes.add(System.currentTimeMillis());
+            return applicationCreatedResponse;
+        });
+        when(sdkClient.createApplication(any(CreateApplicationRequest.class)))
+                .thenReturn(createApplicationResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        final long start = System.currentTimeMillis();
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        verify(sdkClient, times(1)).getApplication(any(GetApplicationRequest.class));
+        assertThat(pollTimes.get(0) - start).isGreaterThanOrEqualTo(Duration.ofSeconds(2).toMillis());
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
     @ParameterizedTest
     @MethodSource("exceptionArgumentsProvider")
-    public void handleRequest_exceptionInCreateApplication(Exception sdkException, BaseHandlerException cfnException) {
+    public void handleRequest_exceptionInCreateApplication(Exception sdkException, BaseHandlerException cfnException, int attempts) {
         when(sdkClient.createApplication(any(CreateApplicationRequest.class))).thenThrow(sdkException);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(ResourceModel.builder().build())
             .build();
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final AmazonWebServicesClientProxy callbackProxy = callbackProxy();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handleUntilDone(createHandler, callbackProxy, request, MOCK_PROXY(callbackProxy, sdkClient));
 
-        int times = BaseHandlerStd.RETRYABLE_EXCEPTIONS.contains(sdkException.getClass())
-            ? new CallbackContext().getRetryAttempts() + 1
-            : 1;
-        verify(sdkClient, times(times)).createApplication(any(CreateApplicationRequest.class));
+        verify(sdkClient, times(attempts)).createApplication(any(CreateApplicationRequest.class));
         assertThat(response).isNotNull();
         verify(sdkClient, never()).getApplication(any(GetApplicationRequest.class));
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
@@ -161,7 +218,9 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(ResourceModel.builder().build())
                 .build();
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final AmazonWebServicesClientProxy callbackProxy = callbackProxy();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handleUntilDone(createHandler, callbackProxy, request, MOCK_PROXY(callbackProxy, sdkClient));
 
         assertThat(response).isNotNull();
         verify(sdkClient).createApplication(any(CreateApplicationRequest.class));
@@ -198,6 +257,87 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
     }
 
+    @Test
+    public void handleRequest_DefersStabilizationWhileCircuitIsOpen() {
+        CreateApplicationResponse createApplicationResponse = createApplicationResponse();
+        GetApplicationResponse applicationCreatedResponse = getApplicationResponse(
+                getApplication(APPLICATION_ID, ApplicationState.CREATED));
+
+        when(sdkClient.createApplication(any(CreateApplicationRequest.class)))
+                .thenReturn(createApplicationResponse);
+        final CircuitBreaker getApplicationCircuit = CircuitBreaker.forOperation("GetApplication");
+        for (int call = 0; call < CircuitBreaker.DEFAULT_MINIMUM_CALLS; call++) {
+            getApplicationCircuit.onFailure(INTERNAL_SERVER_EXCEPTION);
+        }
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> deferred = createHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        verify(sdkClient, never()).getApplication(any(GetApplicationRequest.class));
+        assertThat(deferred.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(deferred.getCallbackDelaySeconds())
+                .isBetween(1, (int) CircuitBreaker.DEFAULT_OPEN_DURATION.getSeconds() + 1);
+
+        // Once the service recovered, the callback resumes the stabilization without creating the application again
+        CircuitBreaker.clear();
+        when(sdkClient.getApplication(any(GetApplicationRequest.class))).thenReturn(applicationCreatedResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(proxy, request, deferred.getCallbackContext(), proxyClient, logger);
+
+        verify(sdkClient).createApplication(any(CreateApplicationRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(getResourceModel(APPLICATION_ID));
+    }
+
+    @Test
+    public void handleRequest_DefersLongExpectedStabilizationToCallback() {
+        CreateApplicationResponse createApplicationResponse = createApplicationResponse();
+        GetApplicationResponse applicationCreatedResponse = getApplicationResponse(
+                getApplication(APPLICATION_ID, ApplicationState.CREATED));
+        // Single learned CREATING->CREATED sample in the 64-128 seconds bucket, expected completion after 96 seconds
+        StateTransitionTimes.record(new CallbackContext(), StateTransitionTimes.transition(ApplicationState.CREATING.toString(),
+                ApplicationState.CREATED.toString()), 100_000L);
+
+        when(sdkClient.createApplication(any(CreateApplicationRequest.class)))
+                .thenReturn(createApplicationResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        // The proxy only waits within the invocation if the remaining time of the invocation leaves room for the wait
+        final Duration remainingTime = Duration.ofSeconds(30);
+        final AmazonWebServicesClientProxy shortInvocationProxy =
+                new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, remainingTime::toMillis);
+        final ProxyClient<EmrServerlessClient> shortInvocationProxyClient = MOCK_PROXY(shortInvocationProxy, sdkClient);
+
+        final long start = System.currentTimeMillis();
+        final ProgressEvent<ResourceModel, CallbackContext> deferred = createHandler.handleRequest(shortInvocationProxy, request,
+                new CallbackContext(), shortInvocationProxyClient, logger);
+
+        // Nothing is waited for within the invocation
+        assertThat(System.currentTimeMillis() - start).isLessThan(remainingTime.toMillis());
+        verify(sdkClient, never()).getApplication(any(GetApplicationRequest.class));
+        assertThat(deferred.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(deferred.getCallbackDelaySeconds()).isBetween(90, 96);
+        assertThat(deferred.getCallbackContext().getObservedApplicationState()).isEqualTo(ApplicationState.CREATING.toString());
+
+        // The callback resumes the stabilization from the checkpoint in the context, without creating the application again
+        StateTransitionTimes.clear();
+        when(sdkClient.getApplication(any(GetApplicationRequest.class))).thenReturn(applicationCreatedResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(shortInvocationProxy, request,
+                deferred.getCallbackContext(), shortInvocationProxyClient, logger);
+
+        verify(sdkClient).createApplication(any(CreateApplicationRequest.class));
+        verify(sdkClient).getApplication(any(GetApplicationRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(getResourceModel(APPLICATION_ID));
+    }
+
     private CreateApplicationResponse createApplicationResponse() {
         return CreateApplicationResponse.builder()
                 .applicationId(APPLICATION_ID)
@@ -224,4 +364,9 @@ public class CreateHandlerTest extends AbstractTestBase {
             .build();
     }
 
+    @Override
+    protected Map<Exception, Integer> getRetriedExceptionAttempts() {
+        return ImmutableMap.of(INTERNAL_SERVER_EXCEPTION, 6, CONFLICT_EXCEPTION, 6);
+    }
+
 }
\ No newline at end of file
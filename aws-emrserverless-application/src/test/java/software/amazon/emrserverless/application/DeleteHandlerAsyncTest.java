@@ -0,0 +1,12 @@
+package software.amazon.emrserverless.application;
+
+/**
+ * Runs every DeleteHandlerTest case with the handler invoking operations on the async client.
+ */
+public class DeleteHandlerAsyncTest extends DeleteHandlerTest {
+
+    @Override
+    protected BaseHandlerStd.ExecutionMode executionMode() {
+        return BaseHandlerStd.ExecutionMode.ASYNC;
+    }
+}
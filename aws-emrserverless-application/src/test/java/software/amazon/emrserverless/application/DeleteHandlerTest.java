@@ -66,7 +66,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         sdkClient = mock(EmrServerlessClient.class);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
-        handler = new DeleteHandler();
+        handler = withExecutionMode(new DeleteHandler(), proxy, MOCK_ASYNC_CLIENT(sdkClient));
+        StateTransitionTimes.clear();
     }
 
     @AfterEach
@@ -161,8 +162,9 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
+        final AmazonWebServicesClientProxy callbackProxy = callbackProxy();
         final ProgressEvent<ResourceModel, CallbackContext> response =
-            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            handleUntilDone(handler, callbackProxy, request, MOCK_PROXY(callbackProxy, sdkClient));
 
         assertThat(response).isNotNull();
         verify(sdkClient, times(6)).getApplication(any(GetApplicationRequest.class));
@@ -174,7 +176,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
 
     @ParameterizedTest
     @MethodSource("exceptionArgumentsProvider")
-    public void handleRequest_InternalServerExceptionInDeleteApplication(Exception sdkException, BaseHandlerException cfnException) {
+    public void handleRequest_InternalServerExceptionInDeleteApplication(Exception sdkException, BaseHandlerException cfnException, int attempts) {
         when(sdkClient.getApplication(any(GetApplicationRequest.class)))
             .thenReturn(getApplicationResponse(getApplication(APPLICATION_ID, ApplicationState.CREATED)));
         when(sdkClient.deleteApplication(any(DeleteApplicationRequest.class))).thenThrow(sdkException);
@@ -185,21 +187,99 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
+        final AmazonWebServicesClientProxy callbackProxy = callbackProxy();
         final ProgressEvent<ResourceModel, CallbackContext> response =
-            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            handleUntilDone(handler, callbackProxy, request, MOCK_PROXY(callbackProxy, sdkClient));
 
-        int times = BaseHandlerStd.RETRYABLE_EXCEPTIONS.contains(sdkException.getClass())
-            ? new CallbackContext().getRetryAttempts() + 1
-            : 1;
         verify(sdkClient, times(1)).getApplication(any(GetApplicationRequest.class));
         assertThat(response).isNotNull();
-        verify(sdkClient, times(times)).deleteApplication(any(DeleteApplicationRequest.class));
+        verify(sdkClient, times(attempts)).deleteApplication(any(DeleteApplicationRequest.class));
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getErrorCode()).isEqualTo(cfnException.getErrorCode());
         assertThat(response.getMessage()).containsSubsequence(cfnException.getMessage());
     }
 
+    @Test
+    public void handleRequest_DefersStabilizationBeyondRemainingTime() {
+        GetApplicationResponse applicationCreatedResponse = getApplicationResponse(
+            getApplication(APPLICATION_ID, ApplicationState.CREATED));
+        GetApplicationResponse applicationTerminatedResponse = getApplicationResponse(
+            getApplication(APPLICATION_ID, ApplicationState.TERMINATED));
+        // Single learned CREATED->TERMINATED sample in the 4-8 seconds bucket, expected completion after 6 seconds
+        StateTransitionTimes.record(new CallbackContext(), StateTransitionTimes.transition(ApplicationState.CREATED.toString(),
+            ApplicationState.TERMINATED.toString()), 5_000L);
+        // Short enough a wait to be made, if the invocation had the time left for it
+        final AmazonWebServicesClientProxy shortInvocationProxy =
+            new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(2).toMillis());
+        final ProxyClient<EmrServerlessClient> shortInvocationProxyClient = MOCK_PROXY(shortInvocationProxy, sdkClient);
+
+        when(sdkClient.getApplication(any(GetApplicationRequest.class))).thenReturn(applicationCreatedResponse);
+        when(sdkClient.deleteApplication(any(DeleteApplicationRequest.class))).thenReturn(DeleteApplicationResponse.builder().build());
+
+        final ResourceModel model = ResourceModel.builder().applicationId(APPLICATION_ID).build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> deferred =
+            handler.handleRequest(shortInvocationProxy, request, new CallbackContext(), shortInvocationProxyClient, logger);
+
+        verify(sdkClient).getApplication(any(GetApplicationRequest.class));
+        verify(sdkClient).deleteApplication(any(DeleteApplicationRequest.class));
+        assertThat(deferred.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(deferred.getCallbackDelaySeconds()).isBetween(1, 6);
+
+        // The callback resumes the stabilization, neither the pre-check nor the delete is made again
+        StateTransitionTimes.clear();
+        when(sdkClient.getApplication(any(GetApplicationRequest.class))).thenReturn(applicationTerminatedResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(shortInvocationProxy, request, deferred.getCallbackContext(),
+                shortInvocationProxyClient, logger);
+
+        verify(sdkClient, times(2)).getApplication(any(GetApplicationRequest.class));
+        verify(sdkClient).deleteApplication(any(DeleteApplicationRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
+    @Test
+    public void handleRequest_ObservesPreCheckStateOnlyOnFirstInvocation() {
+        // Every stabilization poll returns to CloudFormation, which invokes the handler again with the context
+        final AmazonWebServicesClientProxy callbackProxy = callbackProxy();
+        final ProxyClient<EmrServerlessClient> callbackProxyClient = MOCK_PROXY(callbackProxy, sdkClient);
+        handler = withExecutionMode(new DeleteHandler(), callbackProxy, MOCK_ASYNC_CLIENT(sdkClient));
+
+        when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+            .thenReturn(getApplicationResponse(getApplication(APPLICATION_ID, ApplicationState.STARTED)))
+            .thenReturn(getApplicationResponse(getApplication(APPLICATION_ID, ApplicationState.STOPPING)));
+        when(sdkClient.deleteApplication(any(DeleteApplicationRequest.class))).thenReturn(DeleteApplicationResponse.builder().build());
+
+        final ResourceModel model = ResourceModel.builder().applicationId(APPLICATION_ID).build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> first =
+            handler.handleRequest(callbackProxy, request, new CallbackContext(), callbackProxyClient, logger);
+
+        assertThat(first.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(first.getCallbackContext().getObservedApplicationState()).isEqualTo(ApplicationState.STOPPING.toString());
+        final Long stoppingSince = first.getCallbackContext().getObservedStateSince();
+
+        // The callback replays the pre-check response of the STARTED application, it mustn't be observed again
+        final ProgressEvent<ResourceModel, CallbackContext> second =
+            handler.handleRequest(callbackProxy, request, first.getCallbackContext(), callbackProxyClient, logger);
+
+        verify(sdkClient, times(3)).getApplication(any(GetApplicationRequest.class));
+        verify(sdkClient).deleteApplication(any(DeleteApplicationRequest.class));
+        assertThat(second.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(second.getCallbackContext().getObservedApplicationState()).isEqualTo(ApplicationState.STOPPING.toString());
+        assertThat(second.getCallbackContext().getObservedStateSince()).isEqualTo(stoppingSince);
+        assertThat(second.getCallbackContext().getStateTransitionHistograms())
+            .containsOnlyKeys(StateTransitionTimes.transition(ApplicationState.STARTED.toString(), ApplicationState.STOPPING.toString()));
+    }
+
     /**
      * Returns service exceptions to CFN exceptions map for all the valid exceptions that can be thrown by DeleteApplication API.
      * @return Map
@@ -216,4 +296,9 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .build();
     }
 
+    @Override
+    protected Map<Exception, Integer> getRetriedExceptionAttempts() {
+        return ImmutableMap.of(INTERNAL_SERVER_EXCEPTION, 6);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.emrserverless.model.ConflictException;
+import software.amazon.awssdk.services.emrserverless.model.EmrServerlessException;
+import software.amazon.awssdk.services.emrserverless.model.InternalServerException;
+import software.amazon.awssdk.services.emrserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.emrserverless.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.emrserverless.model.ValidationException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+public class ErrorClassificationTest {
+
+    private static final InternalServerException INTERNAL_SERVER_EXCEPTION = InternalServerException.builder()
+        .message("internal").build();
+
+    // Classification of every sample failure by the default rules
+    private static final Map<Throwable, HandlerErrorCode> DEFAULT_ERROR_CODES = ImmutableMap.<Throwable, HandlerErrorCode>builder()
+        .put(ValidationException.builder().message("invalid").build(), HandlerErrorCode.InvalidRequest)
+        .put(ResourceNotFoundException.builder().message("not found").build(), HandlerErrorCode.NotFound)
+        .put(INTERNAL_SERVER_EXCEPTION, HandlerErrorCode.ServiceInternalError)
+        .put(InternalServerException.builder()
+            .message("not stabilized")
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode(BaseHandlerStd.NOT_STABILIZED_ERROR_CODE).build())
+            .build(), HandlerErrorCode.NotStabilized)
+        .put(ServiceQuotaExceededException.builder().message("quota").build(), HandlerErrorCode.ServiceLimitExceeded)
+        .put(ConflictException.builder().message("conflict").build(), HandlerErrorCode.ResourceConflict)
+        .put(EmrServerlessException.builder().message("rate exceeded").statusCode(429).build(), HandlerErrorCode.Throttling)
+        .put(EmrServerlessException.builder()
+            .message("rate exceeded")
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+            .build(), HandlerErrorCode.Throttling)
+        .put(EmrServerlessException.builder()
+            .message("denied")
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode(BaseHandlerStd.ACCESS_DENIED_ERROR_CODE).build())
+            .build(), HandlerErrorCode.AccessDenied)
+        // Errors without details only carry their code in the message
+        .put(EmrServerlessException.builder().message(BaseHandlerStd.ACCESS_DENIED_ERROR_CODE).build(), HandlerErrorCode.AccessDenied)
+        .put(EmrServerlessException.builder().message("unknown").statusCode(400).build(), HandlerErrorCode.GeneralServiceException)
+        .put(new IllegalStateException("unexpected"), HandlerErrorCode.GeneralServiceException)
+        .build();
+
+    static Stream<String> operations() {
+        return BaseHandlerStd.REQUEST_TO_OPERATION.values().stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("operations")
+    public void classify_EveryOperationAndFailure(final String operation) {
+        DEFAULT_ERROR_CODES.forEach((failure, errorCode) -> {
+            final ErrorClassification classification = ErrorClassificationTable.classify(operation, failure);
+
+            assertThat(classification.getErrorCode()).as("%s of %s", failure, operation).isEqualTo(errorCode);
+            assertThat(ErrorClassificationTable.classify(operation, new CompletionException(failure)))
+                .as("wrapped %s of %s", failure, operation)
+                .isEqualTo(classification);
+            if (classification.isRetryable()) {
+                assertThat(classification.getMaxAttempts()).isGreaterThan(1);
+            } else {
+                assertThat(classification.getMaxAttempts()).isEqualTo(1);
+            }
+        });
+    }
+
+    @Test
+    public void classify_RetryableFailures() {
+        assertThat(ErrorClassificationTable.classify("CreateApplication", INTERNAL_SERVER_EXCEPTION))
+            .isEqualTo(ErrorClassification.retryable(HandlerErrorCode.ServiceInternalError, 6, Duration.ofSeconds(1)));
+        assertThat(ErrorClassificationTable.classify("UpdateApplication", ConflictException.builder().message("conflict").build()))
+            .isEqualTo(ErrorClassification.retryable(HandlerErrorCode.ResourceConflict, 6, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    public void classify_ThrottlingIsLeftToThrottlingRetry() {
+        assertThat(ErrorClassificationTable.classify("GetApplication", EmrServerlessException.builder().statusCode(429).build()))
+            .isEqualTo(ErrorClassificationTable.THROTTLING)
+            .isEqualTo(ErrorClassification.terminal(HandlerErrorCode.Throttling));
+    }
+
+    @Test
+    public void classify_OperationOverridesDefaults() {
+        assertThat(ErrorClassificationTable.classify("ListApplications", INTERNAL_SERVER_EXCEPTION))
+            .isEqualTo(ErrorClassification.retryable(HandlerErrorCode.ServiceInternalError, 3, Duration.ofSeconds(1)));
+        // Rules the operation doesn't override still apply
+        assertThat(ErrorClassificationTable.classify("ListApplications", ConflictException.builder().message("conflict").build())
+            .getMaxAttempts()).isEqualTo(6);
+    }
+
+    @Test
+    public void classify_UnknownOperationUsesDefaults() {
+        assertThat(ErrorClassificationTable.classify(null, INTERNAL_SERVER_EXCEPTION))
+            .isEqualTo(ErrorClassificationTable.classify("GetApplication", INTERNAL_SERVER_EXCEPTION));
+        assertThat(ErrorClassificationTable.classify("DescribeApplication", INTERNAL_SERVER_EXCEPTION).getMaxAttempts()).isEqualTo(6);
+        assertThat(ErrorClassificationTable.classify("GetApplication", null)).isEqualTo(ErrorClassificationTable.GENERAL_SERVICE_ERROR);
+    }
+
+    @Test
+    public void retryDelay_ExponentialInWholeSeconds() {
+        final ErrorClassification classification = ErrorClassification.retryable(HandlerErrorCode.ServiceInternalError, 6, Duration.ofSeconds(1));
+
+        assertThat(classification.retryDelay(0)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(classification.retryDelay(1)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(classification.retryDelay(3)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(classification.retryDelay(4)).isEqualTo(ErrorClassification.MAX_RETRY_DELAY);
+        assertThat(classification.retryDelay(100)).isEqualTo(ErrorClassification.MAX_RETRY_DELAY);
+        assertThat(ErrorClassification.retryable(HandlerErrorCode.Throttling, 3, Duration.ofMillis(300)).retryDelay(0))
+            .isEqualTo(Duration.ofSeconds(1));
+        assertThat(ErrorClassification.retryable(HandlerErrorCode.Throttling, 3, Duration.ofMillis(300)).retryDelay(2))
+            .isEqualTo(Duration.ofSeconds(2));
+    }
+}
@@ -0,0 +1,750 @@
+package software.amazon.emrserverless.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.emrserverless.EmrServerlessAsyncClient;
+import software.amazon.awssdk.services.emrserverless.EmrServerlessClient;
+import software.amazon.awssdk.services.emrserverless.model.Application;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationSummary;
+import software.amazon.awssdk.services.emrserverless.model.Architecture;
+import software.amazon.awssdk.services.emrserverless.model.AutoStartConfig;
+import software.amazon.awssdk.services.emrserverless.model.AutoStopConfig;
+import software.amazon.awssdk.services.emrserverless.model.ConflictException;
+import software.amazon.awssdk.services.emrserverless.model.CreateApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.CreateApplicationResponse;
+import software.amazon.awssdk.services.emrserverless.model.DeleteApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.DeleteApplicationResponse;
+import software.amazon.awssdk.services.emrserverless.model.EmrServerlessException;
+import software.amazon.awssdk.services.emrserverless.model.GetApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.GetApplicationResponse;
+import software.amazon.awssdk.services.emrserverless.model.ImageConfiguration;
+import software.amazon.awssdk.services.emrserverless.model.ImageConfigurationInput;
+import software.amazon.awssdk.services.emrserverless.model.ListApplicationsRequest;
+import software.amazon.awssdk.services.emrserverless.model.ListApplicationsResponse;
+import software.amazon.awssdk.services.emrserverless.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.emrserverless.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.emrserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.emrserverless.model.StartApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.StartApplicationResponse;
+import software.amazon.awssdk.services.emrserverless.model.StopApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.StopApplicationResponse;
+import software.amazon.awssdk.services.emrserverless.model.TagResourceRequest;
+import software.amazon.awssdk.services.emrserverless.model.TagResourceResponse;
+import software.amazon.awssdk.services.emrserverless.model.UntagResourceRequest;
+import software.amazon.awssdk.services.emrserverless.model.UntagResourceResponse;
+import software.amazon.awssdk.services.emrserverless.model.UpdateApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.UpdateApplicationResponse;
+import software.amazon.awssdk.services.emrserverless.model.ValidationException;
+import software.amazon.awssdk.services.emrserverless.model.WorkerTypeSpecification;
+import software.amazon.awssdk.services.emrserverless.model.WorkerTypeSpecificationInput;
+
+/**
+ * In-memory EMR Serverless for offline end to end runs of the handlers, plugged in through
+ * {@link ClientBuilder#overrideClients} with {@link #install()}.
+ *
+ * Applications move through the state machine of the service, each transitional state lasting its configured latency:
+ * <ul>
+ *     <li>CreateApplication: CREATING, then CREATED</li>
+ *     <li>StartApplication: STARTING, then STARTED</li>
+ *     <li>StopApplication: STOPPING, then STOPPED</li>
+ *     <li>DeleteApplication: TERMINATED right away from CREATED or STOPPED, STOPPING first from STARTED</li>
+ * </ul>
+ * States advance lazily on the clock whenever an application is accessed. Mutating an application in a transitional
+ * state fails with a ConflictException, ListApplications pages through the applications in creation order, tags are
+ * kept per ARN, and calls beyond the configured rate fail with a ThrottlingException. The faults of a
+ * {@link FaultInjector} are injected into the calls within the rate. Every call is counted per operation, failed calls
+ * also per error code. {@link #asyncClient()} serves the same applications through the async client interface.
+ */
+final class FakeEmrServerless implements EmrServerlessClient {
+
+    static final String ACCOUNT_ID = "123456789012";
+    static final String REGION = "us-east-1";
+    static final int MAX_PAGE_SIZE = 50;
+
+    private static final String TOKEN_PREFIX = "page-";
+
+    private final Clock clock;
+    private final Map<ApplicationState, Duration> transitionLatencies = new EnumMap<>(ApplicationState.class);
+    private final Map<String, FakeApplication> applications = new LinkedHashMap<>();
+    private final Map<String, String> applicationIdsByArn = new HashMap<>();
+    private final Map<String, String> applicationIdsByClientToken = new HashMap<>();
+    private final Deque<Long> recentCalls = new ArrayDeque<>();
+    private final ConcurrentMap<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, AtomicInteger>> failedCalls = new ConcurrentHashMap<>();
+    private final ExecutorService asyncExecutor = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "fake-emr-serverless");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Async async = new Async();
+
+    private volatile Duration callLatency = Duration.ZERO;
+    private volatile int maxCallsPerSecond;
+    private volatile FaultInjector faults = new FaultInjector(0);
+    private int nextApplication;
+
+    FakeEmrServerless() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * @param clock clock the transitions and the call rate are measured on
+     */
+    FakeEmrServerless(final Clock clock) {
+        this.clock = clock;
+        transitionLatencies.put(ApplicationState.CREATING, Duration.ZERO);
+        transitionLatencies.put(ApplicationState.STARTING, Duration.ZERO);
+        transitionLatencies.put(ApplicationState.STOPPING, Duration.ZERO);
+    }
+
+    /**
+     * @param state   transitional state, CREATING, STARTING or STOPPING
+     * @param latency time an application stays in the state
+     * @return this fake
+     */
+    synchronized FakeEmrServerless withTransitionLatency(final ApplicationState state, final Duration latency) {
+        if (!transitionLatencies.containsKey(state)) {
+            throw new IllegalArgumentException(state + " isn't a transitional state");
+        }
+        transitionLatencies.put(state, latency);
+        return this;
+    }
+
+    /**
+     * @param latency time every call takes before it is served
+     * @return this fake
+     */
+    FakeEmrServerless withCallLatency(final Duration latency) {
+        this.callLatency = latency;
+        return this;
+    }
+
+    /**
+     * @param callsPerSecond calls served within any second across all operations, further calls are throttled. 0 to
+     *                       serve all calls
+     * @return this fake
+     */
+    FakeEmrServerless withMaxCallsPerSecond(final int callsPerSecond) {
+        this.maxCallsPerSecond = callsPerSecond;
+        return this;
+    }
+
+    /**
+     * @param faults faults injected into the calls served from now on
+     * @return this fake
+     */
+    FakeEmrServerless withFaults(final FaultInjector faults) {
+        this.faults = faults;
+        return this;
+    }
+
+    /**
+     * Makes the handlers call this fake, until {@link #uninstall()}.
+     *
+     * @return this fake
+     */
+    FakeEmrServerless install() {
+        ClientBuilder.overrideClients(this, async);
+        return this;
+    }
+
+    static void uninstall() {
+        ClientBuilder.overrideClients(null, null);
+    }
+
+    EmrServerlessAsyncClient asyncClient() {
+        return async;
+    }
+
+    /**
+     * Adds an application in the given state without a call, e.g. to list or delete applications created before.
+     *
+     * @param name  name of the application
+     * @param state state of the application
+     * @return id of the application
+     */
+    synchronized String seedApplication(final String name, final ApplicationState state) {
+        final FakeApplication application = newApplication(Application.builder()
+            .name(name)
+            .type("Spark")
+            .releaseLabel("emr-6.9.0")
+            .architecture(Architecture.X86_64), Collections.emptyMap());
+        application.state = state;
+        return application.applicationId;
+    }
+
+    /**
+     * @param applicationId id of the application
+     * @return current snapshot of the application, null if there is no such application
+     */
+    synchronized Application application(final String applicationId) {
+        final FakeApplication application = applications.get(applicationId);
+        return application == null ? null : application.advance(clock.millis()).toApplication();
+    }
+
+    int callCount(final String operation) {
+        final AtomicInteger count = calls.get(operation);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * @return calls made so far per operation, sorted by operation
+     */
+    Map<String, Integer> callCounts() {
+        final Map<String, Integer> counts = new TreeMap<>();
+        calls.forEach((operation, count) -> counts.put(operation, count.get()));
+        return counts;
+    }
+
+    int totalCallCount() {
+        return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    /**
+     * @param operation name of the operation
+     * @return calls of the operation failed so far per error code, sorted by error code
+     */
+    Map<String, Integer> failedCallCounts(final String operation) {
+        final Map<String, Integer> counts = new TreeMap<>();
+        failedCalls.getOrDefault(operation, new ConcurrentHashMap<>())
+            .forEach((errorCode, count) -> counts.put(errorCode, count.get()));
+        return counts;
+    }
+
+    void resetCallCounts() {
+        calls.clear();
+        failedCalls.clear();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+        asyncExecutor.shutdown();
+    }
+
+    @Override
+    public CreateApplicationResponse createApplication(final CreateApplicationRequest request) {
+        return serve("CreateApplication", request, () -> {
+            synchronized (this) {
+                if (request.name() == null || request.releaseLabel() == null || request.type() == null) {
+                    throw validation("name, releaseLabel and type are required");
+                }
+                final String existingId = request.clientToken() == null ? null : applicationIdsByClientToken.get(request.clientToken());
+                final FakeApplication application = existingId != null
+                    ? applications.get(existingId)
+                    : newApplication(Application.builder()
+                        .name(request.name())
+                        .releaseLabel(request.releaseLabel())
+                        .type(request.type())
+                        .architecture(request.architecture() == null ? Architecture.X86_64.toString() : request.architectureAsString())
+                        .initialCapacity(request.hasInitialCapacity() ? request.initialCapacity() : null)
+                        .maximumCapacity(request.maximumCapacity())
+                        .autoStartConfiguration(request.autoStartConfiguration() == null
+                            ? AutoStartConfig.builder().enabled(true).build() : request.autoStartConfiguration())
+                        .autoStopConfiguration(request.autoStopConfiguration() == null
+                            ? AutoStopConfig.builder().enabled(true).idleTimeoutMinutes(15).build() : request.autoStopConfiguration())
+                        .networkConfiguration(request.networkConfiguration())
+                        .imageConfiguration(imageConfiguration(request.imageConfiguration()))
+                        .workerTypeSpecifications(workerTypeSpecifications(request.hasWorkerTypeSpecifications() ? request.workerTypeSpecifications() : null))
+                        .monitoringConfiguration(request.monitoringConfiguration())
+                        .runtimeConfiguration(request.hasRuntimeConfiguration() ? request.runtimeConfiguration() : null)
+                        .interactiveConfiguration(request.interactiveConfiguration())
+                        .schedulerConfiguration(request.schedulerConfiguration()),
+                        request.hasTags() ? request.tags() : Collections.emptyMap());
+                if (existingId == null && request.clientToken() != null) {
+                    applicationIdsByClientToken.put(request.clientToken(), application.applicationId);
+                }
+                if (existingId == null) {
+                    application.transition(ApplicationState.CREATING, clock.millis(), ApplicationState.CREATED);
+                }
+                return CreateApplicationResponse.builder()
+                    .applicationId(application.applicationId)
+                    .name(application.application.name())
+                    .arn(application.arn)
+                    .build();
+            }
+        });
+    }
+
+    @Override
+    public GetApplicationResponse getApplication(final GetApplicationRequest request) {
+        return serve("GetApplication", request, () -> {
+            synchronized (this) {
+                return GetApplicationResponse.builder()
+                    .application(find(request.applicationId()).toApplication())
+                    .build();
+            }
+        });
+    }
+
+    @Override
+    public UpdateApplicationResponse updateApplication(final UpdateApplicationRequest request) {
+        return serve("UpdateApplication", request, () -> {
+            synchronized (this) {
+                final FakeApplication application = find(request.applicationId());
+                requireNotTransitioning(application, "update");
+                if (application.state != ApplicationState.CREATED && application.state != ApplicationState.STOPPED) {
+                    throw validation(String.format("Application %s must be in CREATED or STOPPED state to be updated, state: %s",
+                        application.applicationId, application.state));
+                }
+                final Application.Builder builder = application.application.toBuilder();
+                if (request.releaseLabel() != null) {
+                    builder.releaseLabel(request.releaseLabel());
+                }
+                if (request.architecture() != null) {
+                    builder.architecture(request.architectureAsString());
+                }
+                if (request.hasInitialCapacity()) {
+                    builder.initialCapacity(request.initialCapacity());
+                }
+                if (request.maximumCapacity() != null) {
+                    builder.maximumCapacity(request.maximumCapacity());
+                }
+                if (request.autoStartConfiguration() != null) {
+                    builder.autoStartConfiguration(request.autoStartConfiguration());
+                }
+                if (request.autoStopConfiguration() != null) {
+                    builder.autoStopConfiguration(request.autoStopConfiguration());
+                }
+                if (request.networkConfiguration() != null) {
+                    builder.networkConfiguration(request.networkConfiguration());
+                }
+                if (request.imageConfiguration() != null) {
+                    builder.imageConfiguration(imageConfiguration(request.imageConfiguration()));
+                }
+                if (request.hasWorkerTypeSpecifications()) {
+                    builder.workerTypeSpecifications(workerTypeSpecifications(request.workerTypeSpecifications()));
+                }
+                if (request.monitoringConfiguration() != null) {
+                    builder.monitoringConfiguration(request.monitoringConfiguration());
+                }
+                if (request.hasRuntimeConfiguration()) {
+                    builder.runtimeConfiguration(request.runtimeConfiguration());
+                }
+                if (request.interactiveConfiguration() != null) {
+                    builder.interactiveConfiguration(request.interactiveConfiguration());
+                }
+                if (request.schedulerConfiguration() != null) {
+                    builder.schedulerConfiguration(request.schedulerConfiguration());
+                }
+                application.application = builder.updatedAt(Instant.ofEpochMilli(clock.millis())).build();
+                return UpdateApplicationResponse.builder().application(application.toApplication()).build();
+            }
+        });
+    }
+
+    @Override
+    public DeleteApplicationResponse deleteApplication(final DeleteApplicationRequest request) {
+        return serve("DeleteApplication", request, () -> {
+            synchronized (this) {
+                final FakeApplication application = find(request.applicationId());
+                if (application.state == ApplicationState.TERMINATED) {
+                    throw notFound(application.applicationId);
+                }
+                requireNotTransitioning(application, "delete");
+                if (application.state == ApplicationState.STARTED) {
+                    application.transition(ApplicationState.STOPPING, clock.millis(), ApplicationState.TERMINATED);
+                } else {
+                    application.transition(ApplicationState.TERMINATED, clock.millis());
+                }
+                return DeleteApplicationResponse.builder().build();
+            }
+        });
+    }
+
+    @Override
+    public StartApplicationResponse startApplication(final StartApplicationRequest request) {
+        return serve("StartApplication", request, () -> {
+            synchronized (this) {
+                final FakeApplication application = find(request.applicationId());
+                requireNotTransitioning(application, "start");
+                if (application.state == ApplicationState.TERMINATED) {
+                    throw validation(String.format("Application %s is terminated", application.applicationId));
+                }
+                if (application.state != ApplicationState.STARTED) {
+                    application.transition(ApplicationState.STARTING, clock.millis(), ApplicationState.STARTED);
+                }
+                return StartApplicationResponse.builder().build();
+            }
+        });
+    }
+
+    @Override
+    public StopApplicationResponse stopApplication(final StopApplicationRequest request) {
+        return serve("StopApplication", request, () -> {
+            synchronized (this) {
+                final FakeApplication application = find(request.applicationId());
+                requireNotTransitioning(application, "stop");
+                if (application.state == ApplicationState.STARTED) {
+                    application.transition(ApplicationState.STOPPING, clock.millis(), ApplicationState.STOPPED);
+                }
+                return StopApplicationResponse.builder().build();
+            }
+        });
+    }
+
+    @Override
+    public ListApplicationsResponse listApplications(final ListApplicationsRequest request) {
+        return serve("ListApplications", request, () -> {
+            synchronized (this) {
+                final int pageSize = request.maxResults() == null ? MAX_PAGE_SIZE : request.maxResults();
+                if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+                    throw validation("maxResults must be between 1 and " + MAX_PAGE_SIZE);
+                }
+                final int offset = offsetOf(request.nextToken());
+                final long now = clock.millis();
+                final List<ApplicationSummary> matching = new ArrayList<>();
+                for (final FakeApplication application : applications.values()) {
+                    application.advance(now);
+                    if (!request.hasStates() || request.states().contains(application.state)) {
+                        matching.add(application.toSummary());
+                    }
+                }
+                final int end = Math.min(matching.size(), offset + pageSize);
+                return ListApplicationsResponse.builder()
+                    .applications(offset < end ? new ArrayList<>(matching.subList(offset, end)) : Collections.emptyList())
+                    .nextToken(end < matching.size() ? TOKEN_PREFIX + end : null)
+                    .build();
+            }
+        });
+    }
+
+    @Override
+    public TagResourceResponse tagResource(final TagResourceRequest request) {
+        return serve("TagResource", request, () -> {
+            synchronized (this) {
+                findByArn(request.resourceArn()).tags.putAll(request.tags());
+                return TagResourceResponse.builder().build();
+            }
+        });
+    }
+
+    @Override
+    public UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        return serve("UntagResource", request, () -> {
+            synchronized (this) {
+                findByArn(request.resourceArn()).tags.keySet().removeAll(request.tagKeys());
+                return UntagResourceResponse.builder().build();
+            }
+        });
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        return serve("ListTagsForResource", request, () -> {
+            synchronized (this) {
+                return ListTagsForResourceResponse.builder()
+                    .tags(new HashMap<>(findByArn(request.resourceArn()).tags))
+                    .build();
+            }
+        });
+    }
+
+    /**
+     * Counts the call, makes it take the call latency, throttles it beyond the call rate, injects the faults drawn for
+     * it and then makes it.
+     */
+    private <ResponseT> ResponseT serve(final String operation, final AwsRequest request, final Supplier<ResponseT> call) {
+        calls.computeIfAbsent(operation, key -> new AtomicInteger()).incrementAndGet();
+        try {
+            final Duration latency = callLatency;
+            if (!latency.isZero()) {
+                try {
+                    Thread.sleep(latency.toMillis());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            final int limit = maxCallsPerSecond;
+            if (limit > 0) {
+                synchronized (recentCalls) {
+                    final long now = clock.millis();
+                    while (!recentCalls.isEmpty() && recentCalls.peekFirst() <= now - 1000) {
+                        recentCalls.pollFirst();
+                    }
+                    if (recentCalls.size() >= limit) {
+                        throw throttling(operation);
+                    }
+                    recentCalls.addLast(now);
+                }
+            }
+            faults.inject(operation, request);
+            return call.get();
+        } catch (final EmrServerlessException e) {
+            final String errorCode = e.awsErrorDetails() == null ? e.getClass().getSimpleName() : e.awsErrorDetails().errorCode();
+            failedCalls.computeIfAbsent(operation, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(errorCode, key -> new AtomicInteger())
+                .incrementAndGet();
+            throw e;
+        }
+    }
+
+    private FakeApplication newApplication(final Application.Builder builder, final Map<String, String> tags) {
+        final String applicationId = String.format("00f%013d", ++nextApplication);
+        final String arn = String.format("arn:aws:emr-serverless:%s:%s:/applications/%s", REGION, ACCOUNT_ID, applicationId);
+        final Instant now = Instant.ofEpochMilli(clock.millis());
+        final FakeApplication application = new FakeApplication(applicationId, arn,
+            builder.applicationId(applicationId).arn(arn).createdAt(now).updatedAt(now).build(), tags, clock.millis());
+        applications.put(applicationId, application);
+        applicationIdsByArn.put(arn, applicationId);
+        return application;
+    }
+
+    private FakeApplication find(final String applicationId) {
+        final FakeApplication application = applicationId == null ? null : applications.get(applicationId);
+        if (application == null) {
+            throw notFound(applicationId);
+        }
+        return application.advance(clock.millis());
+    }
+
+    private FakeApplication findByArn(final String arn) {
+        final String applicationId = arn == null ? null : applicationIdsByArn.get(arn);
+        if (applicationId == null) {
+            throw ResourceNotFoundException.builder()
+                .message(String.format("Resource %s not found", arn))
+                .statusCode(404)
+                .awsErrorDetails(errorDetails("ResourceNotFoundException", "Resource not found"))
+                .build();
+        }
+        return find(applicationId);
+    }
+
+    private static void requireNotTransitioning(final FakeApplication application, final String action) {
+        if (application.state == ApplicationState.CREATING
+            || application.state == ApplicationState.STARTING
+            || application.state == ApplicationState.STOPPING) {
+            throw ConflictException.builder()
+                .message(String.format("Cannot %s application %s in state %s", action, application.applicationId, application.state))
+                .statusCode(409)
+                .awsErrorDetails(errorDetails("ConflictException", "Application is transitioning"))
+                .build();
+        }
+    }
+
+    private static int offsetOf(final String nextToken) {
+        if (nextToken == null) {
+            return 0;
+        }
+        try {
+            if (nextToken.startsWith(TOKEN_PREFIX)) {
+                return Integer.parseInt(nextToken.substring(TOKEN_PREFIX.length()));
+            }
+        } catch (final NumberFormatException e) {
+            // falls through to the validation failure
+        }
+        throw validation("Invalid nextToken " + nextToken);
+    }
+
+    private static ImageConfiguration imageConfiguration(final ImageConfigurationInput imageConfiguration) {
+        return imageConfiguration == null ? null : ImageConfiguration.builder()
+            .imageUri(imageConfiguration.imageUri())
+            .resolvedImageDigest("sha256:" + Integer.toHexString(String.valueOf(imageConfiguration.imageUri()).hashCode()))
+            .build();
+    }
+
+    private static Map<String, WorkerTypeSpecification> workerTypeSpecifications(
+        final Map<String, WorkerTypeSpecificationInput> workerTypeSpecifications) {
+        if (workerTypeSpecifications == null) {
+            return null;
+        }
+        final Map<String, WorkerTypeSpecification> specifications = new HashMap<>();
+        workerTypeSpecifications.forEach((workerType, specification) -> specifications.put(workerType,
+            WorkerTypeSpecification.builder().imageConfiguration(imageConfiguration(specification.imageConfiguration())).build()));
+        return specifications;
+    }
+
+    private static ResourceNotFoundException notFound(final String applicationId) {
+        return ResourceNotFoundException.builder()
+            .message(String.format("Application %s does not exist", applicationId))
+            .statusCode(404)
+            .awsErrorDetails(errorDetails("ResourceNotFoundException", "Application does not exist"))
+            .build();
+    }
+
+    private static ValidationException validation(final String message) {
+        return ValidationException.builder()
+            .message(message)
+            .statusCode(400)
+            .awsErrorDetails(errorDetails("ValidationException", message))
+            .build();
+    }
+
+    static EmrServerlessException throttling(final String operation) {
+        return EmrServerlessException.builder()
+            .message(String.format("Rate exceeded for %s", operation))
+            .statusCode(429)
+            .awsErrorDetails(errorDetails("ThrottlingException", "Rate exceeded"))
+            .build();
+    }
+
+    static AwsErrorDetails errorDetails(final String errorCode, final String errorMessage) {
+        return AwsErrorDetails.builder()
+            .errorCode(errorCode)
+            .errorMessage(errorMessage)
+            .serviceName(SERVICE_NAME)
+            .build();
+    }
+
+    /**
+     * Application with its state machine, guarded by the lock of the fake.
+     */
+    private final class FakeApplication {
+
+        private final String applicationId;
+        private final String arn;
+        private final Map<String, String> tags;
+        private final Deque<ApplicationState> pendingStates = new ArrayDeque<>();
+        private Application application;
+        private ApplicationState state = ApplicationState.CREATED;
+        private long stateSince;
+
+        private FakeApplication(final String applicationId, final String arn, final Application application,
+                                final Map<String, String> tags, final long now) {
+            this.applicationId = applicationId;
+            this.arn = arn;
+            this.application = application;
+            this.tags = new HashMap<>(tags);
+            this.stateSince = now;
+        }
+
+        /**
+         * Moves to the given state now, and from there through the next states as their latencies pass.
+         */
+        private void transition(final ApplicationState newState, final long now, final ApplicationState... nextStates) {
+            state = newState;
+            stateSince = now;
+            pendingStates.clear();
+            Collections.addAll(pendingStates, nextStates);
+            advance(now);
+        }
+
+        private FakeApplication advance(final long now) {
+            while (!pendingStates.isEmpty()) {
+                final long latency = transitionLatencies.getOrDefault(state, Duration.ZERO).toMillis();
+                if (now - stateSince < latency) {
+                    break;
+                }
+                stateSince += latency;
+                state = pendingStates.pollFirst();
+            }
+            return this;
+        }
+
+        private Application toApplication() {
+            return application.toBuilder()
+                .state(state)
+                .tags(new HashMap<>(tags))
+                .build();
+        }
+
+        private ApplicationSummary toSummary() {
+            return ApplicationSummary.builder()
+                .id(applicationId)
+                .arn(arn)
+                .name(application.name())
+                .releaseLabel(application.releaseLabel())
+                .type(application.type())
+                .architecture(application.architectureAsString())
+                .state(state)
+                .createdAt(application.createdAt())
+                .updatedAt(application.updatedAt())
+                .build();
+        }
+    }
+
+    /**
+     * Async client interface of the fake, completes every call on a thread of its own.
+     */
+    private final class Async implements EmrServerlessAsyncClient {
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public CompletableFuture<CreateApplicationResponse> createApplication(final CreateApplicationRequest request) {
+            return supply(() -> FakeEmrServerless.this.createApplication(request));
+        }
+
+        @Override
+        public CompletableFuture<GetApplicationResponse> getApplication(final GetApplicationRequest request) {
+            return supply(() -> FakeEmrServerless.this.getApplication(request));
+        }
+
+        @Override
+        public CompletableFuture<UpdateApplicationResponse> updateApplication(final UpdateApplicationRequest request) {
+            return supply(() -> FakeEmrServerless.this.updateApplication(request));
+        }
+
+        @Override
+        public CompletableFuture<DeleteApplicationResponse> deleteApplication(final DeleteApplicationRequest request) {
+            return supply(() -> FakeEmrServerless.this.deleteApplication(request));
+        }
+
+        @Override
+        public CompletableFuture<StartApplicationResponse> startApplication(final StartApplicationRequest request) {
+            return supply(() -> FakeEmrServerless.this.startApplication(request));
+        }
+
+        @Override
+        public CompletableFuture<StopApplicationResponse> stopApplication(final StopApplicationRequest request) {
+            return supply(() -> FakeEmrServerless.this.stopApplication(request));
+        }
+
+        @Override
+        public CompletableFuture<ListApplicationsResponse> listApplications(final ListApplicationsRequest request) {
+            return supply(() -> FakeEmrServerless.this.listApplications(request));
+        }
+
+        @Override
+        public CompletableFuture<TagResourceResponse> tagResource(final TagResourceRequest request) {
+            return supply(() -> FakeEmrServerless.this.tagResource(request));
+        }
+
+        @Override
+        public CompletableFuture<UntagResourceResponse> untagResource(final UntagResourceRequest request) {
+            return supply(() -> FakeEmrServerless.this.untagResource(request));
+        }
+
+        @Override
+        public CompletableFuture<ListTagsForResourceResponse> listTagsForResource(final ListTagsForResourceRequest request) {
+            return supply(() -> FakeEmrServerless.this.listTagsForResource(request));
+        }
+
+        private <ResponseT> CompletableFuture<ResponseT> supply(final Supplier<ResponseT> call) {
+            return CompletableFuture.supplyAsync(call, asyncExecutor);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationSummary;
+import software.amazon.awssdk.services.emrserverless.model.ConflictException;
+import software.amazon.awssdk.services.emrserverless.model.CreateApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.CreateApplicationResponse;
+import software.amazon.awssdk.services.emrserverless.model.DeleteApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.EmrServerlessException;
+import software.amazon.awssdk.services.emrserverless.model.GetApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.ListApplicationsRequest;
+import software.amazon.awssdk.services.emrserverless.model.ListApplicationsResponse;
+import software.amazon.awssdk.services.emrserverless.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.emrserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.emrserverless.model.StartApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.TagResourceRequest;
+import software.amazon.awssdk.services.emrserverless.model.UntagResourceRequest;
+import software.amazon.awssdk.services.emrserverless.model.UpdateApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.ValidationException;
+
+public class FakeEmrServerlessTest {
+
+    private final AtomicLong millis = new AtomicLong();
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+    };
+
+    private final FakeEmrServerless emrServerless = new FakeEmrServerless(clock)
+        .withTransitionLatency(ApplicationState.CREATING, Duration.ofSeconds(10))
+        .withTransitionLatency(ApplicationState.STARTING, Duration.ofSeconds(5))
+        .withTransitionLatency(ApplicationState.STOPPING, Duration.ofSeconds(5));
+
+    @Test
+    public void createApplication_TransitionsFromCreatingToCreated() {
+        final String applicationId = create("application", "token").applicationId();
+
+        assertThat(state(applicationId)).isEqualTo(ApplicationState.CREATING);
+        millis.addAndGet(9_999);
+        assertThat(state(applicationId)).isEqualTo(ApplicationState.CREATING);
+        millis.addAndGet(1);
+        assertThat(state(applicationId)).isEqualTo(ApplicationState.CREATED);
+        assertThat(emrServerless.callCount("CreateApplication")).isEqualTo(1);
+        assertThat(emrServerless.callCount("GetApplication")).isEqualTo(3);
+    }
+
+    @Test
+    public void createApplication_IsIdempotentPerClientToken() {
+        final String applicationId = create("application", "token").applicationId();
+
+        assertThat(create("application", "token").applicationId()).isEqualTo(applicationId);
+        assertThat(create("application", "other-token").applicationId()).isNotEqualTo(applicationId);
+    }
+
+    @Test
+    public void createApplication_KeepsTags() {
+        final String arn = emrServerless.createApplication(createRequest("application", null).toBuilder()
+            .tags(ImmutableMap.of("key", "value"))
+            .build()).arn();
+
+        assertThat(emrServerless.listTagsForResource(ListTagsForResourceRequest.builder().resourceArn(arn).build()).tags())
+            .isEqualTo(ImmutableMap.of("key", "value"));
+    }
+
+    @Test
+    public void mutations_ConflictWhileTransitioning() {
+        final String applicationId = create("application", null).applicationId();
+
+        assertThatThrownBy(() -> emrServerless.updateApplication(UpdateApplicationRequest.builder()
+            .applicationId(applicationId).releaseLabel("emr-7.0.0").build()))
+            .isInstanceOf(ConflictException.class);
+        assertThatThrownBy(() -> emrServerless.deleteApplication(DeleteApplicationRequest.builder()
+            .applicationId(applicationId).build()))
+            .isInstanceOf(ConflictException.class);
+
+        millis.addAndGet(10_000);
+        emrServerless.updateApplication(UpdateApplicationRequest.builder().applicationId(applicationId).releaseLabel("emr-7.0.0").build());
+
+        assertThat(emrServerless.application(applicationId).releaseLabel()).isEqualTo("emr-7.0.0");
+    }
+
+    @Test
+    public void updateApplication_FailsWhileStarted() {
+        final String applicationId = emrServerless.seedApplication("application", ApplicationState.STARTED);
+
+        assertThatThrownBy(() -> emrServerless.updateApplication(UpdateApplicationRequest.builder()
+            .applicationId(applicationId).releaseLabel("emr-7.0.0").build()))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    public void deleteApplication_TerminatesStoppedAndStopsStartedFirst() {
+        final String created = emrServerless.seedApplication("created", ApplicationState.CREATED);
+        final String started = emrServerless.seedApplication("started", ApplicationState.STOPPED);
+        emrServerless.startApplication(StartApplicationRequest.builder().applicationId(started).build());
+        millis.addAndGet(5_000);
+        assertThat(state(started)).isEqualTo(ApplicationState.STARTED);
+
+        emrServerless.deleteApplication(DeleteApplicationRequest.builder().applicationId(created).build());
+        emrServerless.deleteApplication(DeleteApplicationRequest.builder().applicationId(started).build());
+
+        assertThat(state(created)).isEqualTo(ApplicationState.TERMINATED);
+        assertThat(state(started)).isEqualTo(ApplicationState.STOPPING);
+        millis.addAndGet(5_000);
+        assertThat(state(started)).isEqualTo(ApplicationState.TERMINATED);
+        assertThatThrownBy(() -> emrServerless.deleteApplication(DeleteApplicationRequest.builder().applicationId(created).build()))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void getApplication_NotFoundForUnknownApplication() {
+        assertThatThrownBy(() -> state("00f0000000000000"))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void listApplications_PagesThroughMatchingApplications() {
+        for (int index = 0; index < 7; index++) {
+            emrServerless.seedApplication("application-" + index, index == 3 ? ApplicationState.TERMINATED : ApplicationState.CREATED);
+        }
+
+        final List<String> names = new ArrayList<>();
+        int pages = 0;
+        String nextToken = null;
+        do {
+            final ListApplicationsResponse page = emrServerless.listApplications(ListApplicationsRequest.builder()
+                .states(BaseHandlerStd.ACTIVE_APPLICATION_STATES)
+                .maxResults(2)
+                .nextToken(nextToken)
+                .build());
+            page.applications().stream().map(ApplicationSummary::name).forEach(names::add);
+            nextToken = page.nextToken();
+            pages++;
+        } while (nextToken != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(names).containsExactly("application-0", "application-1", "application-2", "application-4",
+            "application-5", "application-6");
+        assertThatThrownBy(() -> emrServerless.listApplications(ListApplicationsRequest.builder().nextToken("invalid").build()))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    public void tags_AddedAndRemovedByArn() {
+        final String arn = emrServerless.application(emrServerless.seedApplication("application", ApplicationState.CREATED)).arn();
+
+        emrServerless.tagResource(TagResourceRequest.builder().resourceArn(arn).tags(ImmutableMap.of("a", "1", "b", "2")).build());
+        emrServerless.untagResource(UntagResourceRequest.builder().resourceArn(arn).tagKeys("a").build());
+
+        assertThat(emrServerless.listTagsForResource(ListTagsForResourceRequest.builder().resourceArn(arn).build()).tags())
+            .isEqualTo(ImmutableMap.of("b", "2"));
+        assertThatThrownBy(() -> emrServerless.tagResource(TagResourceRequest.builder()
+            .resourceArn("arn:aws:emr-serverless:us-east-1:123456789012:/applications/unknown")
+            .tags(ImmutableMap.of("a", "1"))
+            .build()))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void calls_ThrottledBeyondCallRate() {
+        final String applicationId = emrServerless.withMaxCallsPerSecond(2).seedApplication("application", ApplicationState.CREATED);
+
+        state(applicationId);
+        state(applicationId);
+
+        assertThatThrownBy(() -> state(applicationId))
+            .isInstanceOfSatisfying(EmrServerlessException.class, e -> {
+                assertThat(e.statusCode()).isEqualTo(429);
+                assertThat(ThrottlingRetry.isThrottling(e)).isTrue();
+            });
+        millis.addAndGet(1_000);
+        assertThat(state(applicationId)).isEqualTo(ApplicationState.CREATED);
+        assertThat(emrServerless.callCount("GetApplication")).isEqualTo(4);
+        assertThat(emrServerless.failedCallCounts("GetApplication")).isEqualTo(ImmutableMap.of("ThrottlingException", 1));
+    }
+
+    @Test
+    public void faults_FailCallsBeforeTheyReachApplications() {
+        final String applicationId = emrServerless.seedApplication("application", ApplicationState.CREATED);
+        emrServerless.withFaults(new FaultInjector(0).failNext("UpdateApplication", FaultInjector.Fault.CONFLICT, 1));
+
+        assertThatThrownBy(() -> emrServerless.updateApplication(UpdateApplicationRequest.builder()
+            .applicationId(applicationId).releaseLabel("emr-7.0.0").build()))
+            .isInstanceOf(ConflictException.class);
+        assertThat(emrServerless.application(applicationId).releaseLabel()).isEqualTo("emr-6.9.0");
+        assertThat(emrServerless.failedCallCounts("UpdateApplication")).isEqualTo(ImmutableMap.of("ConflictException", 1));
+
+        emrServerless.updateApplication(UpdateApplicationRequest.builder().applicationId(applicationId).releaseLabel("emr-7.0.0").build());
+        assertThat(emrServerless.application(applicationId).releaseLabel()).isEqualTo("emr-7.0.0");
+    }
+
+    @Test
+    public void asyncClient_ServesSameApplications() {
+        final String applicationId = emrServerless.seedApplication("application", ApplicationState.CREATED);
+
+        assertThat(emrServerless.asyncClient().getApplication(GetApplicationRequest.builder().applicationId(applicationId).build())
+            .join().application().name()).isEqualTo("application");
+        assertThatThrownBy(() -> emrServerless.asyncClient().getApplication(GetApplicationRequest.builder()
+            .applicationId("00f0000000000000").build()).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private CreateApplicationResponse create(final String name, final String clientToken) {
+        return emrServerless.createApplication(createRequest(name, clientToken));
+    }
+
+    private static CreateApplicationRequest createRequest(final String name, final String clientToken) {
+        return CreateApplicationRequest.builder()
+            .name(name)
+            .type("Spark")
+            .releaseLabel("emr-6.9.0")
+            .clientToken(clientToken)
+            .build();
+    }
+
+    private ApplicationState state(final String applicationId) {
+        return emrServerless.getApplication(GetApplicationRequest.builder().applicationId(applicationId).build())
+            .application().state();
+    }
+}
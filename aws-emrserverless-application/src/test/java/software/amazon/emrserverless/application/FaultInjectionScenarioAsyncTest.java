@@ -0,0 +1,12 @@
+package software.amazon.emrserverless.application;
+
+/**
+ * Runs every FaultInjectionScenarioTest scenario with the handlers invoking operations on the async client.
+ */
+public class FaultInjectionScenarioAsyncTest extends FaultInjectionScenarioTest {
+
+    @Override
+    protected BaseHandlerStd.ExecutionMode executionMode() {
+        return BaseHandlerStd.ExecutionMode.ASYNC;
+    }
+}
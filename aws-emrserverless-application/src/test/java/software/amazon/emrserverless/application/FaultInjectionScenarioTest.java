@@ -0,0 +1,390 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.DelayFactory;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.WaitStrategy;
+
+/**
+ * End to end success rate and time to success of the handlers per retry policy, with faults injected into the
+ * in-memory EMR Serverless.
+ *
+ * Each scenario runs the same requests under every {@link RetryPolicy}, on the same seeded faults. The handlers are
+ * invoked as CloudFormation invokes them: IN_PROGRESS events are invoked again with their callback context, and
+ * listings are continued with their nextToken. Waits are simulated rather than slept: backoff of the throttling
+ * retry, latency spikes and callback delays advance the scenario time, on which the time to success of a request is
+ * measured from its first invocation to its last.
+ */
+public class FaultInjectionScenarioTest extends AbstractTestBase {
+
+    private static final int REQUESTS = 50;
+    private static final int MAX_INVOCATIONS = 50;
+    private static final long SEED = 20260418L;
+
+    /**
+     * Retries a handler makes: attempts of the throttling retry within a call, and retries handleError schedules on
+     * the retry budget of the CallbackContext.
+     */
+    enum RetryPolicy {
+        NO_RETRIES(1, 0),
+        THROTTLING_RETRY_ONLY(ThrottlingRetry.DEFAULT_MAX_ATTEMPTS, 0),
+        HANDLER_RETRY_ONLY(1, new CallbackContext().getRetryAttempts()),
+        DEFAULT(ThrottlingRetry.DEFAULT_MAX_ATTEMPTS, new CallbackContext().getRetryAttempts());
+
+        private final int throttlingAttempts;
+        private final int retryAttempts;
+
+        RetryPolicy(final int throttlingAttempts, final int retryAttempts) {
+            this.throttlingAttempts = throttlingAttempts;
+            this.retryAttempts = retryAttempts;
+        }
+    }
+
+    private final AtomicLong waitedNanos = new AtomicLong();
+
+    private FakeEmrServerless emrServerless;
+
+    @BeforeEach
+    public void setup() {
+        StateTransitionTimes.clear();
+    }
+
+    @AfterEach
+    public void tear_down() {
+        if (emrServerless != null) {
+            emrServerless.close();
+        }
+        CircuitBreaker.clear();
+        StateTransitionTimes.clear();
+    }
+
+    @Test
+    public void read_ScriptedThrottling() {
+        final Map<RetryPolicy, ScenarioResult> results = measure(
+            faults -> { },
+            faults -> faults.failNext("GetApplication", FaultInjector.Fault.THROTTLING, 2),
+            ReadHandler::new,
+            this::readRequest);
+
+        // Throttling is only retried within the call, the handler fails once those retries are exhausted
+        assertThat(results.get(RetryPolicy.NO_RETRIES).successRate()).as("%s", results).isZero();
+        assertThat(results.get(RetryPolicy.THROTTLING_RETRY_ONLY).successRate()).as("%s", results).isEqualTo(1.0);
+        assertThat(results.get(RetryPolicy.HANDLER_RETRY_ONLY).successRate()).as("%s", results).isZero();
+        assertThat(results.get(RetryPolicy.DEFAULT).successRate()).as("%s", results).isEqualTo(1.0);
+        assertThat(results.get(RetryPolicy.DEFAULT).percentileMillis(50)).as("%s", results)
+            .isLessThan(Duration.ofSeconds(1).toMillis());
+    }
+
+    @Test
+    public void create_ProbabilisticServerErrors() {
+        final Map<RetryPolicy, ScenarioResult> results = measure(
+            faults -> faults
+                .failWithProbability("CreateApplication", FaultInjector.Fault.INTERNAL_SERVER, 0.1)
+                .failWithProbability("GetApplication", FaultInjector.Fault.INTERNAL_SERVER, 0.1),
+            faults -> { },
+            CreateHandler::new,
+            this::createRequest);
+
+        // Server errors aren't throttling, only the retries of the handler recover from them
+        assertThat(results.get(RetryPolicy.NO_RETRIES).successRate()).as("%s", results).isLessThan(1.0);
+        assertThat(results.get(RetryPolicy.THROTTLING_RETRY_ONLY).successRate()).as("%s", results)
+            .isEqualTo(results.get(RetryPolicy.NO_RETRIES).successRate());
+        assertThat(results.get(RetryPolicy.DEFAULT).successRate()).as("%s", results)
+            .isGreaterThanOrEqualTo(0.95)
+            .isGreaterThan(results.get(RetryPolicy.NO_RETRIES).successRate());
+    }
+
+    @Test
+    public void update_ScriptedConflicts() {
+        final Map<RetryPolicy, ScenarioResult> results = measure(
+            faults -> { },
+            faults -> faults.failNext("UpdateApplication", FaultInjector.Fault.CONFLICT, 1),
+            UpdateHandler::new,
+            this::updateRequest);
+
+        assertThat(results.get(RetryPolicy.NO_RETRIES).successRate()).as("%s", results).isZero();
+        assertThat(results.get(RetryPolicy.THROTTLING_RETRY_ONLY).successRate()).as("%s", results).isZero();
+        assertThat(results.get(RetryPolicy.HANDLER_RETRY_ONLY).successRate()).as("%s", results).isEqualTo(1.0);
+        assertThat(results.get(RetryPolicy.DEFAULT).successRate()).as("%s", results).isEqualTo(1.0);
+        assertThat(results.get(RetryPolicy.DEFAULT).percentileMillis(50)).as("%s", results)
+            .isGreaterThanOrEqualTo(TimeUnit.SECONDS.toMillis(1));
+    }
+
+    @Test
+    public void read_LatencySpikes() {
+        final Duration spike = Duration.ofSeconds(3);
+        final Map<RetryPolicy, ScenarioResult> results = measure(
+            faults -> faults.delayWithProbability("GetApplication", spike, 0.2),
+            faults -> { },
+            ReadHandler::new,
+            this::readRequest);
+
+        // Slow calls still succeed, the spikes only show in the tail of the time to success
+        for (final RetryPolicy policy : RetryPolicy.values()) {
+            assertThat(results.get(policy).successRate()).as("%s", results).isEqualTo(1.0);
+            assertThat(results.get(policy).percentileMillis(50)).as("%s", results).isLessThan(spike.toMillis());
+            assertThat(results.get(policy).percentileMillis(100)).as("%s", results).isGreaterThanOrEqualTo(spike.toMillis());
+        }
+    }
+
+    @Test
+    public void list_PartialPaginationFailures() {
+        final int applications = 40;
+        final Map<RetryPolicy, ScenarioResult> results = measure(
+            faults -> faults.failFollowingPages(FaultInjector.Fault.INTERNAL_SERVER, 0.1),
+            faults -> { },
+            () -> new ListHandler(2, applications, Duration.ofMinutes(1), Clock.systemUTC()),
+            request -> listRequest(request, applications));
+
+        // A failed prefetch ends the page early, the listing goes on from its nextToken and only fails if the first
+        // page of a continuation fails without a retry
+        assertThat(results.get(RetryPolicy.NO_RETRIES).successRate()).as("%s", results).isLessThan(1.0);
+        assertThat(results.get(RetryPolicy.DEFAULT).successRate()).as("%s", results)
+            .isGreaterThanOrEqualTo(0.9)
+            .isGreaterThan(results.get(RetryPolicy.NO_RETRIES).successRate());
+    }
+
+    @Override
+    protected Map<Exception, BaseHandlerException> getCFNExceptionMapping() {
+        return ImmutableMap.of();
+    }
+
+    /**
+     * Runs the requests under every retry policy, each on a new in-memory EMR Serverless with the same seeded faults.
+     *
+     * @param faults      faults of the whole run, e.g. probabilistic ones
+     * @param script      faults scripted before every request
+     * @param handlers    new handler per invocation, as every invocation starts afresh
+     * @param requestOf   request of the given index, with its application seeded
+     * @return result per retry policy
+     */
+    private Map<RetryPolicy, ScenarioResult> measure(final Consumer<FaultInjector> faults,
+                                                     final Consumer<FaultInjector> script,
+                                                     final Supplier<BaseHandlerStd> handlers,
+                                                     final IntFunction<ScenarioRequest> requestOf) {
+        final Map<RetryPolicy, ScenarioResult> results = new EnumMap<>(RetryPolicy.class);
+        for (final RetryPolicy policy : RetryPolicy.values()) {
+            CircuitBreaker.clear();
+            StateTransitionTimes.clear();
+            if (emrServerless != null) {
+                emrServerless.close();
+            }
+            final FaultInjector faultInjector = new FaultInjector(SEED, this::sleep);
+            faults.accept(faultInjector);
+            emrServerless = new FakeEmrServerless().withFaults(faultInjector);
+            final ThrottlingRetry throttlingRetry = throttlingRetry(policy);
+
+            final ScenarioResult result = new ScenarioResult();
+            for (int index = 0; index < REQUESTS; index++) {
+                final ScenarioRequest request = requestOf.apply(index);
+                script.accept(faultInjector);
+                final long start = scenarioNanos();
+                if (complete(request, handlers, policy, throttlingRetry)) {
+                    result.succeeded(TimeUnit.NANOSECONDS.toMillis(scenarioNanos() - start));
+                } else {
+                    result.failed();
+                }
+            }
+            results.put(policy, result);
+        }
+        return results;
+    }
+
+    // Invokes the handler until the request and its continuations succeed, fail or run out of invocations
+    private boolean complete(final ScenarioRequest scenarioRequest,
+                             final Supplier<BaseHandlerStd> handlers,
+                             final RetryPolicy policy,
+                             final ThrottlingRetry throttlingRetry) {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS,
+            DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY, WaitStrategy.scheduleForCallbackStrategy());
+        ResourceHandlerRequest<ResourceModel> request = scenarioRequest.request;
+        CallbackContext callbackContext = newCallbackContext(policy);
+        final Set<String> listedApplicationIds = new HashSet<>();
+        for (int invocation = 0; invocation < MAX_INVOCATIONS; invocation++) {
+            final BaseHandlerStd handler = withExecutionMode(handlers.get(), proxy, emrServerless.asyncClient());
+            handler.throttlingRetry = throttlingRetry;
+            final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, callbackContext, MOCK_PROXY(proxy, emrServerless), logger);
+            if (response.getStatus() == OperationStatus.IN_PROGRESS) {
+                advance(Duration.ofSeconds(response.getCallbackDelaySeconds()));
+                callbackContext = response.getCallbackContext();
+                continue;
+            }
+            if (response.getStatus() != OperationStatus.SUCCESS) {
+                return false;
+            }
+            if (scenarioRequest.listedApplications == 0) {
+                return true;
+            }
+            response.getResourceModels().forEach(model -> listedApplicationIds.add(model.getApplicationId()));
+            if (response.getNextToken() == null) {
+                return listedApplicationIds.size() == scenarioRequest.listedApplications;
+            }
+            request = request.toBuilder().nextToken(response.getNextToken()).build();
+            callbackContext = newCallbackContext(policy);
+        }
+        return false;
+    }
+
+    private ScenarioRequest readRequest(final int index) {
+        final String applicationId = emrServerless.seedApplication("application-" + index, ApplicationState.STARTED);
+        return new ScenarioRequest(ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().applicationId(applicationId).build())
+            .build(), 0);
+    }
+
+    private ScenarioRequest createRequest(final int index) {
+        return new ScenarioRequest(ResourceHandlerRequest.<ResourceModel>builder()
+            .clientRequestToken("create-" + index)
+            .desiredResourceState(model(null, null, "emr-6.9.0", index))
+            .build(), 0);
+    }
+
+    private ScenarioRequest updateRequest(final int index) {
+        final String applicationId = emrServerless.seedApplication("application-" + index, ApplicationState.CREATED);
+        final ResourceModel previous = model(applicationId, emrServerless.application(applicationId).arn(), "emr-6.9.0", index);
+        return new ScenarioRequest(ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(previous.toBuilder().releaseLabel("emr-7.0.0").build())
+            .previousResourceState(previous)
+            .build(), 0);
+    }
+
+    // A whole listing of the applications, seeded along with the first request
+    private ScenarioRequest listRequest(final int index, final int applications) {
+        if (index == 0) {
+            for (int application = 0; application < applications; application++) {
+                emrServerless.seedApplication("application-" + application, ApplicationState.STARTED);
+            }
+        }
+        return new ScenarioRequest(ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .build(), applications);
+    }
+
+    private static ResourceModel model(final String applicationId, final String arn, final String releaseLabel, final int index) {
+        return ResourceModel.builder()
+            .applicationId(applicationId)
+            .arn(arn)
+            .name("application-" + index)
+            .type("Spark")
+            .releaseLabel(releaseLabel)
+            .build();
+    }
+
+    private static CallbackContext newCallbackContext(final RetryPolicy policy) {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setRetryAttempts(policy.retryAttempts);
+        return callbackContext;
+    }
+
+    // Throttling retry with the default backoff and bucket, waiting on the scenario time
+    private ThrottlingRetry throttlingRetry(final RetryPolicy policy) {
+        final Random jitter = new Random(SEED);
+        return new ThrottlingRetry(
+            new TokenBucket(ThrottlingRetry.DEFAULT_BUCKET_CAPACITY, ThrottlingRetry.DEFAULT_BUCKET_TOKENS_PER_SECOND, this::scenarioNanos),
+            policy.throttlingAttempts, ThrottlingRetry.DEFAULT_BASE_DELAY, ThrottlingRetry.DEFAULT_MAX_DELAY,
+            ThrottlingRetry.DEFAULT_MAX_TOKEN_WAIT, jitter::nextDouble, this::sleep, (task, millis) -> {
+                sleep(millis);
+                task.run();
+            });
+    }
+
+    // Time of the scenario: the time actually spent, plus the waits simulated so far
+    private long scenarioNanos() {
+        return System.nanoTime() + waitedNanos.get();
+    }
+
+    private void sleep(final long millis) {
+        advance(Duration.ofMillis(millis));
+    }
+
+    private void advance(final Duration wait) {
+        waitedNanos.addAndGet(wait.toNanos());
+    }
+
+    private static final class ScenarioRequest {
+
+        private final ResourceHandlerRequest<ResourceModel> request;
+        private final int listedApplications;
+
+        /**
+         * @param request            first request to the handler
+         * @param listedApplications applications a listing must return across its continuations, 0 if it isn't a
+         *                           listing
+         */
+        private ScenarioRequest(final ResourceHandlerRequest<ResourceModel> request, final int listedApplications) {
+            this.request = request;
+            this.listedApplications = listedApplications;
+        }
+    }
+
+    /**
+     * Outcomes of the requests of a scenario under a retry policy.
+     */
+    private static final class ScenarioResult {
+
+        private final List<Long> timesToSuccessMillis = new ArrayList<>();
+        private int requests;
+
+        void succeeded(final long timeToSuccessMillis) {
+            requests++;
+            timesToSuccessMillis.add(timeToSuccessMillis);
+        }
+
+        void failed() {
+            requests++;
+        }
+
+        double successRate() {
+            return requests == 0 ? 0 : (double) timesToSuccessMillis.size() / requests;
+        }
+
+        /**
+         * @param percentile percentile between 1 and 100, by the nearest rank
+         * @return time to success of the successful requests at the percentile, 0 if none succeeded
+         */
+        long percentileMillis(final int percentile) {
+            if (timesToSuccessMillis.isEmpty()) {
+                return 0;
+            }
+            final List<Long> sorted = new ArrayList<>(timesToSuccessMillis);
+            Collections.sort(sorted);
+            final int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+            return sorted.get(Math.max(rank, 1) - 1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("successRate=%.3f p50=%dms p99=%dms max=%dms", successRate(), percentileMillis(50),
+                percentileMillis(99), percentileMillis(100));
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package software.amazon.emrserverless.application;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.services.emrserverless.model.ConflictException;
+import software.amazon.awssdk.services.emrserverless.model.EmrServerlessException;
+import software.amazon.awssdk.services.emrserverless.model.InternalServerException;
+import software.amazon.awssdk.services.emrserverless.model.ListApplicationsRequest;
+
+/**
+ * Faults {@link FakeEmrServerless} injects into its calls, see {@link FakeEmrServerless#withFaults}.
+ *
+ * Faults are either scripted, failing the next calls of an operation in the given order, or probabilistic, failing or
+ * delaying each matching call with a probability drawn from a seeded random, so a run of a scenario is repeatable.
+ * Scripted faults are injected first. Latency spikes are waited on the sleeper before the call is served, and failures
+ * are raised before the call reaches the applications, so a failed call never changes them. Every injected fault is
+ * counted per operation.
+ */
+final class FaultInjector {
+
+    /**
+     * Wildcard operation of a probabilistic fault, matching calls of every operation.
+     */
+    static final String ANY_OPERATION = "*";
+
+    /**
+     * Failure injected into a call, raised as the service raises it.
+     */
+    enum Fault {
+        THROTTLING {
+            @Override
+            EmrServerlessException toException(final String operation) {
+                return FakeEmrServerless.throttling(operation);
+            }
+        },
+        INTERNAL_SERVER {
+            @Override
+            EmrServerlessException toException(final String operation) {
+                return InternalServerException.builder()
+                    .message(String.format("Injected internal error of %s", operation))
+                    .statusCode(500)
+                    .awsErrorDetails(FakeEmrServerless.errorDetails("InternalServerException", "Internal error"))
+                    .build();
+            }
+        },
+        CONFLICT {
+            @Override
+            EmrServerlessException toException(final String operation) {
+                return ConflictException.builder()
+                    .message(String.format("Injected conflict of %s", operation))
+                    .statusCode(409)
+                    .awsErrorDetails(FakeEmrServerless.errorDetails("ConflictException", "Application is transitioning"))
+                    .build();
+            }
+        };
+
+        abstract EmrServerlessException toException(String operation);
+    }
+
+    private final Random random;
+    private final ThrottlingRetry.Sleeper sleeper;
+    private final Map<String, Deque<Fault>> scripts = new HashMap<>();
+    private final List<Rule> rules = new ArrayList<>();
+    private final Map<String, Integer> injected = new HashMap<>();
+
+    FaultInjector(final long seed) {
+        this(seed, Thread::sleep);
+    }
+
+    /**
+     * @param seed    seed of the random the probabilistic faults are drawn from
+     * @param sleeper waits out the latency spikes, e.g. on a simulated clock
+     */
+    FaultInjector(final long seed, final ThrottlingRetry.Sleeper sleeper) {
+        this.random = new Random(seed);
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Scripts the next calls of the operation to fail with the fault, after the faults scripted before.
+     *
+     * @param operation name of the operation, e.g. GetApplication
+     * @param fault     fault of the calls
+     * @param calls     number of calls failing
+     * @return this injector
+     */
+    synchronized FaultInjector failNext(final String operation, final Fault fault, final int calls) {
+        final Deque<Fault> script = scripts.computeIfAbsent(operation, key -> new ArrayDeque<>());
+        for (int call = 0; call < calls; call++) {
+            script.addLast(fault);
+        }
+        return this;
+    }
+
+    /**
+     * @param operation   name of the operation, or {@link #ANY_OPERATION}
+     * @param fault       fault of the calls
+     * @param probability probability of each call of the operation to fail, between 0 and 1
+     * @return this injector
+     */
+    synchronized FaultInjector failWithProbability(final String operation, final Fault fault, final double probability) {
+        rules.add(new Rule(operation, request -> true, fault, Duration.ZERO, probability));
+        return this;
+    }
+
+    /**
+     * @param operation   name of the operation, or {@link #ANY_OPERATION}
+     * @param spike       latency added to the call
+     * @param probability probability of each call of the operation to be delayed, between 0 and 1
+     * @return this injector
+     */
+    synchronized FaultInjector delayWithProbability(final String operation, final Duration spike, final double probability) {
+        rules.add(new Rule(operation, request -> true, null, spike, probability));
+        return this;
+    }
+
+    /**
+     * Fails ListApplications calls for pages after the first, those with a nextToken, so a listing breaks off after
+     * having returned some of its pages.
+     *
+     * @param fault       fault of the calls
+     * @param probability probability of each call for a following page to fail, between 0 and 1
+     * @return this injector
+     */
+    synchronized FaultInjector failFollowingPages(final Fault fault, final double probability) {
+        rules.add(new Rule("ListApplications",
+            request -> request instanceof ListApplicationsRequest && ((ListApplicationsRequest) request).nextToken() != null,
+            fault, Duration.ZERO, probability));
+        return this;
+    }
+
+    /**
+     * @param operation name of the operation
+     * @return faults injected into calls of the operation so far, latency spikes included
+     */
+    synchronized int injectedCount(final String operation) {
+        return injected.getOrDefault(operation, 0);
+    }
+
+    /**
+     * @return faults injected so far per operation, sorted by operation
+     */
+    synchronized Map<String, Integer> injectedCounts() {
+        return new TreeMap<>(injected);
+    }
+
+    /**
+     * Waits out the latency spikes drawn for the call and raises the fault drawn for it, if any.
+     *
+     * @param operation name of the operation called
+     * @param request   request of the call
+     * @throws EmrServerlessException the fault injected into the call
+     */
+    void inject(final String operation, final AwsRequest request) {
+        long spikeMillis = 0;
+        Fault fault;
+        synchronized (this) {
+            final Deque<Fault> script = scripts.get(operation);
+            fault = script == null ? null : script.pollFirst();
+            if (fault != null) {
+                injected.merge(operation, 1, Integer::sum);
+            }
+            for (final Rule rule : rules) {
+                // Every matching rule draws, so the draws of a call don't depend on the outcome of earlier rules
+                if (!rule.matches(operation, request) || random.nextDouble() >= rule.probability
+                    || (rule.fault != null && fault != null)) {
+                    continue;
+                }
+                spikeMillis += rule.spike.toMillis();
+                if (rule.fault != null) {
+                    fault = rule.fault;
+                }
+                injected.merge(operation, 1, Integer::sum);
+            }
+        }
+        if (spikeMillis > 0) {
+            try {
+                sleeper.sleep(spikeMillis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (fault != null) {
+            throw fault.toException(operation);
+        }
+    }
+
+    private static final class Rule {
+
+        private final String operation;
+        private final Predicate<AwsRequest> request;
+        private final Fault fault;
+        private final Duration spike;
+        private final double probability;
+
+        private Rule(final String operation,
+                     final Predicate<AwsRequest> request,
+                     final Fault fault,
+                     final Duration spike,
+                     final double probability) {
+            this.operation = operation;
+            this.request = request;
+            this.fault = fault;
+            this.spike = spike;
+            this.probability = probability;
+        }
+
+        private boolean matches(final String calledOperation, final AwsRequest calledRequest) {
+            return (ANY_OPERATION.equals(operation) || operation.equals(calledOperation)) && request.test(calledRequest);
+        }
+    }
+}
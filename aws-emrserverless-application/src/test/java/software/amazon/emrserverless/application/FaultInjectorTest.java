@@ -0,0 +1,100 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import software.amazon.awssdk.services.emrserverless.model.ConflictException;
+import software.amazon.awssdk.services.emrserverless.model.EmrServerlessException;
+import software.amazon.awssdk.services.emrserverless.model.GetApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.InternalServerException;
+import software.amazon.awssdk.services.emrserverless.model.ListApplicationsRequest;
+
+public class FaultInjectorTest {
+
+    private static final GetApplicationRequest GET_APPLICATION = GetApplicationRequest.builder().applicationId("application").build();
+
+    private final List<Long> sleeps = new ArrayList<>();
+
+    @Test
+    public void failNext_FailsScriptedCallsInOrder() {
+        final FaultInjector faults = new FaultInjector(0, sleeps::add)
+            .failNext("GetApplication", FaultInjector.Fault.THROTTLING, 1)
+            .failNext("GetApplication", FaultInjector.Fault.INTERNAL_SERVER, 1);
+
+        assertThatThrownBy(() -> faults.inject("GetApplication", GET_APPLICATION))
+            .isInstanceOfSatisfying(EmrServerlessException.class, e -> assertThat(ThrottlingRetry.isThrottling(e)).isTrue());
+        faults.inject("UpdateApplication", GET_APPLICATION);
+        assertThatThrownBy(() -> faults.inject("GetApplication", GET_APPLICATION))
+            .isInstanceOf(InternalServerException.class);
+        faults.inject("GetApplication", GET_APPLICATION);
+
+        assertThat(faults.injectedCounts()).isEqualTo(ImmutableMap.of("GetApplication", 2));
+    }
+
+    @Test
+    public void failWithProbability_FailsEveryOrNoCall() {
+        final FaultInjector faults = new FaultInjector(0, sleeps::add)
+            .failWithProbability("UpdateApplication", FaultInjector.Fault.CONFLICT, 1)
+            .failWithProbability(FaultInjector.ANY_OPERATION, FaultInjector.Fault.INTERNAL_SERVER, 0);
+
+        for (int call = 0; call < 10; call++) {
+            assertThatThrownBy(() -> faults.inject("UpdateApplication", GET_APPLICATION)).isInstanceOf(ConflictException.class);
+            faults.inject("GetApplication", GET_APPLICATION);
+        }
+
+        assertThat(faults.injectedCount("UpdateApplication")).isEqualTo(10);
+        assertThat(faults.injectedCount("GetApplication")).isZero();
+    }
+
+    @Test
+    public void failWithProbability_RepeatsForSameSeed() {
+        assertThat(outcomes(new FaultInjector(42, sleeps::add))).isEqualTo(outcomes(new FaultInjector(42, sleeps::add)));
+    }
+
+    @Test
+    public void delayWithProbability_SleepsSpikeBeforeCall() {
+        final FaultInjector faults = new FaultInjector(0, sleeps::add)
+            .delayWithProbability("GetApplication", Duration.ofSeconds(2), 1)
+            .failNext("GetApplication", FaultInjector.Fault.THROTTLING, 1);
+
+        assertThatThrownBy(() -> faults.inject("GetApplication", GET_APPLICATION))
+            .isInstanceOfSatisfying(EmrServerlessException.class, e -> assertThat(ThrottlingRetry.isThrottling(e)).isTrue());
+        faults.inject("GetApplication", GET_APPLICATION);
+
+        assertThat(sleeps).containsExactly(2_000L, 2_000L);
+    }
+
+    @Test
+    public void failFollowingPages_LeavesFirstPage() {
+        final FaultInjector faults = new FaultInjector(0, sleeps::add)
+            .failFollowingPages(FaultInjector.Fault.INTERNAL_SERVER, 1);
+
+        faults.inject("ListApplications", ListApplicationsRequest.builder().build());
+        assertThatThrownBy(() -> faults.inject("ListApplications", ListApplicationsRequest.builder().nextToken("page-2").build()))
+            .isInstanceOf(InternalServerException.class);
+        assertThat(faults.injectedCount("ListApplications")).isEqualTo(1);
+    }
+
+    // Which of 100 calls fail with a probability of a half
+    private static List<Boolean> outcomes(final FaultInjector faults) {
+        faults.failWithProbability("GetApplication", FaultInjector.Fault.INTERNAL_SERVER, 0.5);
+        final List<Boolean> outcomes = new ArrayList<>();
+        for (int call = 0; call < 100; call++) {
+            try {
+                faults.inject("GetApplication", GET_APPLICATION);
+                outcomes.add(true);
+            } catch (final InternalServerException e) {
+                outcomes.add(false);
+            }
+        }
+        return outcomes;
+    }
+}
@@ -0,0 +1,12 @@
+package software.amazon.emrserverless.application;
+
+/**
+ * Runs every HandlerFlowTest case with the handlers invoking operations on the async client.
+ */
+public class HandlerFlowAsyncTest extends HandlerFlowTest {
+
+    @Override
+    protected BaseHandlerStd.ExecutionMode executionMode() {
+        return BaseHandlerStd.ExecutionMode.ASYNC;
+    }
+}
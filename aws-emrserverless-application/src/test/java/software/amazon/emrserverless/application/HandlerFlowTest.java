@@ -0,0 +1,204 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import software.amazon.awssdk.services.emrserverless.model.Application;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Create, Read, Update, List and Delete flows of the handlers through their public entry point against the in-memory
+ * EMR Serverless instead of client mocks, invoking the handler again on every callback as CloudFormation does.
+ */
+public class HandlerFlowTest {
+
+    private static final Credentials CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+    private static final LoggerProxy LOGGER = new LoggerProxy();
+    private static final int MAX_INVOCATIONS = 20;
+    private static final Map<String, String> STACK_TAGS = ImmutableMap.of("stack-tag", "stack-value");
+    private static final Map<String, String> RESOURCE_TAGS = ImmutableMap.of("kept", "value", "removed", "value");
+
+    private FakeEmrServerless emrServerless;
+    private AmazonWebServicesClientProxy proxy;
+
+    @BeforeEach
+    public void setup() {
+        CircuitBreaker.clear();
+        StateTransitionTimes.clear();
+        emrServerless = new FakeEmrServerless().install();
+        proxy = new AmazonWebServicesClientProxy(LOGGER, CREDENTIALS, () -> Duration.ofMinutes(10).toMillis());
+    }
+
+    @AfterEach
+    public void tear_down() {
+        FakeEmrServerless.uninstall();
+        emrServerless.close();
+    }
+
+    @Test
+    public void create_CreatesApplicationWithTags() {
+        final ProgressEvent<ResourceModel, CallbackContext> created = create("application");
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final Application application = emrServerless.application(created.getResourceModel().getApplicationId());
+        assertThat(application.state()).isEqualTo(ApplicationState.CREATED);
+        assertThat(application.tags()).isEqualTo(tags(STACK_TAGS, RESOURCE_TAGS));
+        assertThat(created.getResourceModel().getArn()).isEqualTo(application.arn());
+        assertThat(emrServerless.callCount("CreateApplication")).isEqualTo(1);
+    }
+
+    @Test
+    public void create_ReusesApplicationOfSameClientRequestToken() {
+        final ResourceHandlerRequest<ResourceModel> request = createRequest("application");
+
+        final String applicationId = run(new CreateHandler(), request).getResourceModel().getApplicationId();
+
+        assertThat(run(new CreateHandler(), request).getResourceModel().getApplicationId()).isEqualTo(applicationId);
+    }
+
+    @Test
+    public void read_ReturnsCreatedApplication() {
+        final ResourceModel created = create("application").getResourceModel();
+
+        final ProgressEvent<ResourceModel, CallbackContext> read = run(new ReadHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+            .awsAccountId(FakeEmrServerless.ACCOUNT_ID)
+            .desiredResourceState(ResourceModel.builder().applicationId(created.getApplicationId()).build())
+            .build());
+
+        assertThat(read.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(read.getResourceModel().getName()).isEqualTo("application");
+        assertThat(read.getResourceModel().getReleaseLabel()).isEqualTo("emr-6.9.0");
+    }
+
+    @Test
+    public void update_UpdatesApplicationAndTags() {
+        final ResourceModel created = create("application").getResourceModel();
+        final ResourceModel desired = model("application", "emr-7.0.0", ImmutableMap.of("kept", "value", "added", "value"))
+            .toBuilder()
+            .applicationId(created.getApplicationId())
+            .arn(created.getArn())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> updated = run(new UpdateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+            .awsAccountId(FakeEmrServerless.ACCOUNT_ID)
+            .clientRequestToken("update-token")
+            .desiredResourceState(desired)
+            .previousResourceState(created)
+            .desiredResourceTags(tags(STACK_TAGS, ImmutableMap.of("kept", "value", "added", "value")))
+            .previousResourceTags(STACK_TAGS)
+            .build());
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final Application application = emrServerless.application(created.getApplicationId());
+        assertThat(application.releaseLabel()).isEqualTo("emr-7.0.0");
+        assertThat(application.tags()).isEqualTo(tags(STACK_TAGS, ImmutableMap.of("kept", "value", "added", "value")));
+    }
+
+    @Test
+    public void list_PagesThroughActiveApplications() {
+        for (int index = 0; index < 5; index++) {
+            emrServerless.seedApplication("application-" + index, index == 2 ? ApplicationState.TERMINATED : ApplicationState.STARTED);
+        }
+
+        final ProgressEvent<ResourceModel, CallbackContext> listed = run(new ListHandler(2, 10, Duration.ofMinutes(1), Clock.systemUTC()),
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(FakeEmrServerless.ACCOUNT_ID)
+                .desiredResourceState(ResourceModel.builder().build())
+                .build());
+
+        assertThat(listed.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(listed.getResourceModels()).hasSize(4);
+        assertThat(listed.getNextToken()).isNull();
+        assertThat(emrServerless.callCount("ListApplications")).isEqualTo(2);
+    }
+
+    @Test
+    public void delete_TerminatesApplicationOnce() {
+        final ResourceModel created = create("application").getResourceModel();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .awsAccountId(FakeEmrServerless.ACCOUNT_ID)
+            .desiredResourceState(created)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = run(new DeleteHandler(), request);
+        final ProgressEvent<ResourceModel, CallbackContext> deletedAgain = run(new DeleteHandler(), request);
+
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(emrServerless.application(created.getApplicationId()).state()).isEqualTo(ApplicationState.TERMINATED);
+        assertThat(deletedAgain.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(deletedAgain.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(emrServerless.callCount("DeleteApplication")).isEqualTo(1);
+    }
+
+    /**
+     * Execution mode of the handlers under test, overridden by the async variant.
+     */
+    protected BaseHandlerStd.ExecutionMode executionMode() {
+        return BaseHandlerStd.ExecutionMode.SYNC;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> create(final String name) {
+        return run(new CreateHandler(), createRequest(name));
+    }
+
+    private ResourceHandlerRequest<ResourceModel> createRequest(final String name) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .awsAccountId(FakeEmrServerless.ACCOUNT_ID)
+            .clientRequestToken("create-" + name)
+            .desiredResourceState(model(name, "emr-6.9.0", RESOURCE_TAGS))
+            .desiredResourceTags(STACK_TAGS)
+            .build();
+    }
+
+    // Invokes the handler until it completes, with the callback context of the previous invocation
+    private ProgressEvent<ResourceModel, CallbackContext> run(final BaseHandlerStd handler,
+                                                              final ResourceHandlerRequest<ResourceModel> request) {
+        handler.executionMode = executionMode();
+        CallbackContext callbackContext = null;
+        for (int invocation = 0; invocation < MAX_INVOCATIONS; invocation++) {
+            final ProgressEvent<ResourceModel, CallbackContext> event = handler.handleRequest(proxy, request, callbackContext, LOGGER);
+            if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+                return event;
+            }
+            callbackContext = event.getCallbackContext();
+        }
+        throw new AssertionError("Handler still in progress after " + MAX_INVOCATIONS + " invocations");
+    }
+
+    private static ResourceModel model(final String name, final String releaseLabel, final Map<String, String> tags) {
+        final Set<Tag> modelTags = tags.entrySet().stream()
+            .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+            .collect(Collectors.toSet());
+        return ResourceModel.builder()
+            .name(name)
+            .type("Spark")
+            .releaseLabel(releaseLabel)
+            .tags(modelTags)
+            .build();
+    }
+
+    private static Map<String, String> tags(final Map<String, String> stackTags, final Map<String, String> resourceTags) {
+        final Map<String, String> tags = new HashMap<>(stackTags);
+        tags.putAll(resourceTags);
+        return tags;
+    }
+}
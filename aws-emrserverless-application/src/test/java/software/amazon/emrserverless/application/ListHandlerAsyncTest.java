@@ -0,0 +1,12 @@
+package software.amazon.emrserverless.application;
+
+/**
+ * Runs every ListHandlerTest case with the handler invoking operations on the async client.
+ */
+public class ListHandlerAsyncTest extends ListHandlerTest {
+
+    @Override
+    protected BaseHandlerStd.ExecutionMode executionMode() {
+        return BaseHandlerStd.ExecutionMode.ASYNC;
+    }
+}
@@ -8,8 +8,13 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,12 +23,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.google.common.collect.ImmutableMap;
 
 import software.amazon.awssdk.services.emrserverless.EmrServerlessClient;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationSummary;
+import software.amazon.awssdk.services.emrserverless.model.GetApplicationRequest;
 import software.amazon.awssdk.services.emrserverless.model.ListApplicationsRequest;
 import software.amazon.awssdk.services.emrserverless.model.ListApplicationsResponse;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
@@ -57,7 +66,7 @@ public class ListHandlerTest extends AbstractTestBase {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         sdkClient = mock(EmrServerlessClient.class);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
-        this.handler = new ListHandler();
+        this.handler = withExecutionMode(new ListHandler(), proxy, MOCK_ASYNC_CLIENT(sdkClient));
     }
 
     @Test
@@ -113,7 +122,7 @@ public class ListHandlerTest extends AbstractTestBase {
 
     @ParameterizedTest
     @MethodSource("exceptionArgumentsProvider")
-    public void handleRequest_exception(Exception sdkException, BaseHandlerException cfnException) {
+    public void handleRequest_exception(Exception sdkException, BaseHandlerException cfnException, int attempts) {
 
         when(sdkClient.listApplications(any(ListApplicationsRequest.class))).thenThrow(sdkException);
 
@@ -123,14 +132,12 @@ public class ListHandlerTest extends AbstractTestBase {
             .nextToken(NEXT_TOKEN_1)
             .build();
 
+        final AmazonWebServicesClientProxy callbackProxy = callbackProxy();
         final ProgressEvent<ResourceModel, CallbackContext> response =
-            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            handleUntilDone(handler, callbackProxy, request, MOCK_PROXY(callbackProxy, sdkClient));
 
         assertThat(response).isNotNull();
-        int times = BaseHandlerStd.RETRYABLE_EXCEPTIONS.contains(sdkException.getClass())
-            ? new CallbackContext().getRetryAttempts() + 1
-            : 1;
-        verify(sdkClient, times(times)).listApplications(any(ListApplicationsRequest.class));
+        verify(sdkClient, times(attempts)).listApplications(any(ListApplicationsRequest.class));
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getCallbackContext()).isNotNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -140,6 +147,185 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).containsSubsequence(cfnException.getMessage());
     }
 
+    @Test
+    public void handleRequest_MultiPage_FillsResultBudget() {
+        when(sdkClient.listApplications(any(ListApplicationsRequest.class)))
+            .thenReturn(listPage("token-1", "app-1"), listPage("token-2", "app-2"), listPage("token-3", "app-3"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = multiPageHandler(3, Duration.ofMinutes(1))
+            .handleRequest(proxy, listRequest(NEXT_TOKEN_1), new CallbackContext(), proxyClient, logger);
+
+        final ArgumentCaptor<ListApplicationsRequest> listRequests = ArgumentCaptor.forClass(ListApplicationsRequest.class);
+        verify(sdkClient, times(3)).listApplications(listRequests.capture());
+        assertThat(listRequests.getAllValues()).extracting(ListApplicationsRequest::nextToken)
+            .containsExactly(NEXT_TOKEN_1, "token-1", "token-2");
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(applicationIds(response)).containsExactly("app-1", "app-2", "app-3");
+        assertThat(response.getNextToken()).isEqualTo("token-3");
+    }
+
+    @Test
+    public void handleRequest_MultiPage_StopsAtLastPage() {
+        when(sdkClient.listApplications(any(ListApplicationsRequest.class)))
+            .thenReturn(listPage("token-1", "app-1"), listPage(null, "app-2"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = multiPageHandler(10, Duration.ofMinutes(1))
+            .handleRequest(proxy, listRequest(null), new CallbackContext(), proxyClient, logger);
+
+        verify(sdkClient, times(2)).listApplications(any(ListApplicationsRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(applicationIds(response)).containsExactly("app-1", "app-2");
+        assertThat(response.getNextToken()).isNull();
+    }
+
+    @Test
+    public void handleRequest_MultiPage_StopsAtTimeBudget() {
+        when(sdkClient.listApplications(any(ListApplicationsRequest.class)))
+            .thenReturn(listPage("token-1", "app-1"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = multiPageHandler(10, Duration.ZERO)
+            .handleRequest(proxy, listRequest(null), new CallbackContext(), proxyClient, logger);
+
+        verify(sdkClient).listApplications(any(ListApplicationsRequest.class));
+        assertThat(applicationIds(response)).containsExactly("app-1");
+        assertThat(response.getNextToken()).isEqualTo("token-1");
+    }
+
+    @Test
+    public void handleRequest_MultiPage_ResumableAfterPageFailure() {
+        when(sdkClient.listApplications(any(ListApplicationsRequest.class)))
+            .thenReturn(listPage("token-1", "app-1"))
+            .thenThrow(INTERNAL_SERVER_EXCEPTION);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = multiPageHandler(10, Duration.ofMinutes(1))
+            .handleRequest(proxy, listRequest(null), new CallbackContext(), proxyClient, logger);
+
+        verify(sdkClient, times(2)).listApplications(any(ListApplicationsRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(applicationIds(response)).containsExactly("app-1");
+        assertThat(response.getNextToken()).isEqualTo("token-1");
+    }
+
+    @Test
+    public void handleRequest_RequestsDefaultPageSize() {
+        when(sdkClient.listApplications(any(ListApplicationsRequest.class))).thenReturn(getListApplicationsResponse());
+
+        handler.handleRequest(proxy, listRequest(null), new CallbackContext(), proxyClient, logger);
+
+        final ArgumentCaptor<ListApplicationsRequest> listRequest = ArgumentCaptor.forClass(ListApplicationsRequest.class);
+        verify(sdkClient).listApplications(listRequest.capture());
+        assertThat(listRequest.getValue().maxResults()).isEqualTo(ListHandler.DEFAULT_MAX_RESULTS);
+    }
+
+    @Test
+    public void handleRequest_MultiPage_SizesPagesToResultBudget() {
+        when(sdkClient.listApplications(any(ListApplicationsRequest.class)))
+            .thenReturn(listPage("token-1", "app-1", "app-2"), listPage("token-2", "app-3", "app-4"), listPage("token-3", "app-5"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            withExecutionMode(new ListHandler(2, 5, Duration.ofMinutes(1), Clock.systemUTC()), proxy, MOCK_ASYNC_CLIENT(sdkClient))
+                .handleRequest(proxy, listRequest(null), new CallbackContext(), proxyClient, logger);
+
+        final ArgumentCaptor<ListApplicationsRequest> listRequests = ArgumentCaptor.forClass(ListApplicationsRequest.class);
+        verify(sdkClient, times(3)).listApplications(listRequests.capture());
+        assertThat(listRequests.getAllValues()).extracting(ListApplicationsRequest::maxResults)
+            .containsExactly(2, 2, 1);
+        assertThat(applicationIds(response)).containsExactly("app-1", "app-2", "app-3", "app-4", "app-5");
+        assertThat(response.getNextToken()).isEqualTo("token-3");
+    }
+
+    @Test
+    public void parseBudget_FallsBackToNoBudget() {
+        assertThat(ListHandler.parseBudget(" 500 ")).isEqualTo(500);
+        assertThat(ListHandler.parseBudget("-1")).isZero();
+        assertThat(ListHandler.parseBudget("PT30S")).isZero();
+        assertThat(ListHandler.parseBudget(null)).isZero();
+    }
+
+    @Test
+    public void handleRequest_Hydrated_FullResourceModels() {
+        when(sdkClient.listApplications(any(ListApplicationsRequest.class)))
+            .thenReturn(listPage("token-1", "app-1", "app-2", "app-3"));
+        when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+            .thenAnswer(invocation -> {
+                final String applicationId = invocation.<GetApplicationRequest>getArgument(0).applicationId();
+                if ("app-2".equals(applicationId)) {
+                    throw NOT_FOUND_EXCEPTION;
+                }
+                return getApplicationResponse(getApplication(applicationId, ApplicationState.STARTED));
+            });
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            withExecutionMode(new ListHandler(ListHandler.DEFAULT_MAX_RESULTS, 0, Duration.ofMinutes(1), Clock.systemUTC(), 2),
+                proxy, MOCK_ASYNC_CLIENT(sdkClient))
+                .handleRequest(proxy, listRequest(null), new CallbackContext(), proxyClient, logger);
+
+        verify(sdkClient, times(3)).getApplication(any(GetApplicationRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).containsExactly(
+            Translator.translateFromReadResponse(getApplicationResponse(getApplication("app-1", ApplicationState.STARTED))),
+            Translator.translateFromReadResponse(getApplicationResponse(getApplication("app-3", ApplicationState.STARTED))));
+        assertThat(response.getNextToken()).isEqualTo("token-1");
+    }
+
+    @Test
+    public void handleRequest_HydratedWithoutTimeBudget_RetriesThrottledReads() {
+        final AtomicInteger reads = new AtomicInteger();
+        when(sdkClient.listApplications(any(ListApplicationsRequest.class)))
+            .thenReturn(listPage(null, "app-1", "app-2"));
+        when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+            .thenAnswer(invocation -> {
+                if (reads.incrementAndGet() == 1) {
+                    throw THROTTLING_EXCEPTION;
+                }
+                return getApplicationResponse(getApplication(invocation.<GetApplicationRequest>getArgument(0).applicationId(),
+                    ApplicationState.STARTED));
+            });
+        final ListHandler hydratingHandler = withExecutionMode(new ListHandler(ListHandler.DEFAULT_MAX_RESULTS, 0, Duration.ZERO,
+            Clock.systemUTC(), 2), proxy, MOCK_ASYNC_CLIENT(sdkClient));
+        hydratingHandler.throttlingRetry = noWaitThrottlingRetry(2);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            hydratingHandler.handleRequest(proxy, listRequest(null), new CallbackContext(), proxyClient, logger);
+
+        // Without a time budget the first page is hydrated within the default hydration time budget
+        verify(sdkClient, times(3)).getApplication(any(GetApplicationRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).containsExactly(
+            Translator.translateFromReadResponse(getApplicationResponse(getApplication("app-1", ApplicationState.STARTED))),
+            Translator.translateFromReadResponse(getApplicationResponse(getApplication("app-2", ApplicationState.STARTED))));
+    }
+
+    private ListHandler multiPageHandler(final int resultBudget, final Duration timeBudget) {
+        return withExecutionMode(new ListHandler(ListHandler.DEFAULT_MAX_RESULTS, resultBudget, timeBudget, Clock.systemUTC()), proxy, MOCK_ASYNC_CLIENT(sdkClient));
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> listRequest(final String nextToken) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .nextToken(nextToken)
+            .build();
+    }
+
+    private static ListApplicationsResponse listPage(final String nextToken, final String... applicationIds) {
+        return ListApplicationsResponse.builder()
+            .applications(Arrays.stream(applicationIds)
+                .map(applicationId -> ApplicationSummary.builder()
+                    .id(applicationId)
+                    .arn(APPLICATION_ARN)
+                    .name(APPLICATION_NAME)
+                    .build())
+                .collect(Collectors.toList()))
+            .nextToken(nextToken)
+            .build();
+    }
+
+    private static List<String> applicationIds(final ProgressEvent<ResourceModel, CallbackContext> response) {
+        return response.getResourceModels().stream()
+            .map(ResourceModel::getApplicationId)
+            .collect(Collectors.toList());
+    }
+
     /**
      * Returns service exceptions to CFN exceptions map for all the valid exceptions that can be thrown by ListApplications API.
      * @return Map
@@ -153,4 +339,9 @@ public class ListHandlerTest extends AbstractTestBase {
                 LIST_OPERATION, INTERNAL_SERVER_EXCEPTION))
             .build();
     }
+
+    @Override
+    protected Map<Exception, Integer> getRetriedExceptionAttempts() {
+        return ImmutableMap.of(INTERNAL_SERVER_EXCEPTION, 3);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,383 @@
+package software.amazon.emrserverless.application;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Load test of the handlers against the in-memory EMR Serverless, simulating many stack operations at once, e.g. a
+ * StackSet rolling out applications to many stacks.
+ *
+ * Every simulated stack creates an application, lists the applications, updates the application and its tags and
+ * deletes it. Each handler operation is invoked again on every callback until it completes, callback delays are not
+ * waited for. Stacks run concurrently on a fixed number of threads, spread over a number of accounts, which have a
+ * throttling token bucket each. The report is a JSON object holding, per handler operation, the p50 and p99 latency
+ * and the failure rate, per API operation the calls and failed calls by error code, and as retries the failed calls
+ * of the error codes the handlers retry.
+ *
+ * Run with: mvn -Ploadtest integration-test -Dloadtest.stacks=500 -Dloadtest.concurrency=64, the report is written
+ * to target/load-test-result.json.
+ */
+public final class LoadTestDriver {
+
+    /**
+     * Error codes of the failed calls the handlers retry, see {@link ErrorClassificationTable}.
+     */
+    static final Set<String> RETRIED_ERROR_CODES = ImmutableSet.of("ThrottlingException", "ConflictException",
+        "InternalServerException");
+
+    static final String DEFAULT_REPORT = "target/load-test-result.json";
+
+    private static final Credentials CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+    private static final Duration REMAINING_TIME = Duration.ofMinutes(15);
+    private static final int MAX_INVOCATIONS = 100;
+    private static final List<String> API_OPERATIONS = Arrays.asList("CreateApplication", "GetApplication",
+        "UpdateApplication", "DeleteApplication", "ListApplications", "TagResource", "UntagResource");
+
+    /**
+     * Handler operations of a stack, in the order they run.
+     */
+    enum Operation {
+        CREATE,
+        LIST,
+        UPDATE,
+        DELETE
+    }
+
+    /**
+     * Shape of the load, read from the loadtest.* system properties.
+     */
+    static final class Config {
+        final int stacks;
+        final int concurrency;
+        final int accounts;
+        final Duration callLatency;
+        final Duration creatingLatency;
+        final int maxCallsPerSecond;
+        final BaseHandlerStd.ExecutionMode executionMode;
+
+        /**
+         * @param stacks            simulated stacks, each running all operations on an application of its own
+         * @param concurrency       stacks in progress at the same time
+         * @param accounts          accounts the stacks are spread over
+         * @param callLatency       time every API call takes
+         * @param creatingLatency   time a created application stays CREATING
+         * @param maxCallsPerSecond API calls served within any second before calls are throttled, 0 for no throttling
+         * @param executionMode     client the handlers invoke operations on
+         */
+        Config(final int stacks, final int concurrency, final int accounts, final Duration callLatency,
+               final Duration creatingLatency, final int maxCallsPerSecond, final BaseHandlerStd.ExecutionMode executionMode) {
+            this.stacks = stacks;
+            this.concurrency = concurrency;
+            this.accounts = accounts;
+            this.callLatency = callLatency;
+            this.creatingLatency = creatingLatency;
+            this.maxCallsPerSecond = maxCallsPerSecond;
+            this.executionMode = executionMode;
+        }
+
+        static Config fromSystemProperties() {
+            return new Config(
+                Integer.getInteger("loadtest.stacks", 100),
+                Integer.getInteger("loadtest.concurrency", 16),
+                Integer.getInteger("loadtest.accounts", 1),
+                Duration.ofMillis(Long.getLong("loadtest.callLatencyMillis", 20L)),
+                Duration.ofMillis(Long.getLong("loadtest.creatingLatencyMillis", 0L)),
+                Integer.getInteger("loadtest.maxCallsPerSecond", 0),
+                BaseHandlerStd.ExecutionMode.valueOf(System.getProperty("loadtest.executionMode", "SYNC").toUpperCase(Locale.ROOT)));
+        }
+    }
+
+    private final Config config;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+    LoadTestDriver(final Config config) {
+        this.config = config;
+        for (final Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    /**
+     * Writes the report to the file of the first argument, {@link #DEFAULT_REPORT} without arguments.
+     */
+    public static void main(final String[] args) throws Exception {
+        final String report = new LoadTestDriver(Config.fromSystemProperties()).run();
+        final Path output = Paths.get(args.length > 0 ? args[0] : DEFAULT_REPORT);
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        Files.write(output, report.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Runs all stacks and returns the report.
+     *
+     * @return report as a JSON object
+     */
+    String run() throws InterruptedException {
+        CircuitBreaker.clear();
+        StateTransitionTimes.clear();
+        final FakeEmrServerless emrServerless = new FakeEmrServerless()
+            .withCallLatency(config.callLatency)
+            .withTransitionLatency(ApplicationState.CREATING, config.creatingLatency)
+            .withMaxCallsPerSecond(config.maxCallsPerSecond)
+            .install();
+        final ExecutorService executor = Executors.newFixedThreadPool(config.concurrency);
+        final long start = System.nanoTime();
+        try {
+            final List<Future<?>> stacks = new ArrayList<>(config.stacks);
+            for (int stack = 0; stack < config.stacks; stack++) {
+                final int index = stack;
+                stacks.add(executor.submit(() -> runStack(index)));
+            }
+            for (final Future<?> stack : stacks) {
+                try {
+                    stack.get();
+                } catch (final ExecutionException e) {
+                    throw new IllegalStateException("Stack failed unexpectedly", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            FakeEmrServerless.uninstall();
+            emrServerless.close();
+        }
+        return report(emrServerless, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void runStack(final int stack) {
+        final String accountId = String.format("%012d", stack % config.accounts);
+        final Map<String, String> stackTags = ImmutableMap.of("aws:cloudformation:stack-name", "stack-" + stack);
+        final ProgressEvent<ResourceModel, CallbackContext> created = invoke(Operation.CREATE, CreateHandler::new,
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(accountId)
+                .clientRequestToken("stack-" + stack + "-create")
+                .desiredResourceState(model("application-" + stack, "emr-6.9.0", "team", "analytics"))
+                .desiredResourceTags(stackTags)
+                .build());
+        if (created.getStatus() != OperationStatus.SUCCESS) {
+            return;
+        }
+        final ResourceModel application = created.getResourceModel();
+        invoke(Operation.LIST, ListHandler::new, ResourceHandlerRequest.<ResourceModel>builder()
+            .awsAccountId(accountId)
+            .desiredResourceState(ResourceModel.builder().build())
+            .build());
+        invoke(Operation.UPDATE, UpdateHandler::new, ResourceHandlerRequest.<ResourceModel>builder()
+            .awsAccountId(accountId)
+            .clientRequestToken("stack-" + stack + "-update")
+            .desiredResourceState(model("application-" + stack, "emr-7.0.0", "owner", "platform").toBuilder()
+                .applicationId(application.getApplicationId())
+                .arn(application.getArn())
+                .build())
+            .previousResourceState(application)
+            .desiredResourceTags(ImmutableMap.<String, String>builder().putAll(stackTags).put("owner", "platform").build())
+            .previousResourceTags(ImmutableMap.<String, String>builder().putAll(stackTags).put("team", "analytics").build())
+            .build());
+        invoke(Operation.DELETE, DeleteHandler::new, ResourceHandlerRequest.<ResourceModel>builder()
+            .awsAccountId(accountId)
+            .clientRequestToken("stack-" + stack + "-delete")
+            .desiredResourceState(application)
+            .build());
+    }
+
+    // Invokes a new handler until the operation completes, as CloudFormation does on every callback
+    private ProgressEvent<ResourceModel, CallbackContext> invoke(final Operation operation,
+                                                                 final Supplier<? extends BaseHandlerStd> handlers,
+                                                                 final ResourceHandlerRequest<ResourceModel> request) {
+        final BaseHandlerStd handler = handlers.get();
+        handler.executionMode = config.executionMode;
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(), CREDENTIALS,
+            () -> REMAINING_TIME.toMillis());
+        final long start = System.nanoTime();
+        CallbackContext callbackContext = null;
+        ProgressEvent<ResourceModel, CallbackContext> event = null;
+        int invocations = 0;
+        String errorCode = null;
+        try {
+            do {
+                event = handler.handleRequest(proxy, request, callbackContext, new LoggerProxy());
+                callbackContext = event.getCallbackContext();
+                invocations++;
+            } while (event.getStatus() == OperationStatus.IN_PROGRESS && invocations < MAX_INVOCATIONS);
+            if (event.getStatus() != OperationStatus.SUCCESS) {
+                errorCode = event.getErrorCode() == null ? String.valueOf(event.getStatus()) : event.getErrorCode().name();
+            }
+        } catch (final RuntimeException e) {
+            errorCode = e.getClass().getSimpleName();
+            event = ProgressEvent.<ResourceModel, CallbackContext>builder().status(OperationStatus.FAILED).build();
+        }
+        stats.get(operation).record(System.nanoTime() - start, invocations, errorCode);
+        return event;
+    }
+
+    private String report(final FakeEmrServerless emrServerless, final Duration elapsed) {
+        final JsonWriter json = new JsonWriter();
+        json.beginObject();
+        json.name("config").beginObject()
+            .field("stacks", config.stacks)
+            .field("concurrency", config.concurrency)
+            .field("accounts", config.accounts)
+            .field("callLatencyMillis", config.callLatency.toMillis())
+            .field("creatingLatencyMillis", config.creatingLatency.toMillis())
+            .field("maxCallsPerSecond", config.maxCallsPerSecond)
+            .field("executionMode", config.executionMode.name())
+            .endObject();
+        json.field("elapsedMillis", elapsed.toMillis());
+        json.name("handlers").beginObject();
+        stats.forEach((operation, operationStats) -> operationStats.write(json.name(operation.name())));
+        json.endObject();
+        long retries = 0;
+        json.name("apiCalls").beginObject();
+        for (final String apiOperation : API_OPERATIONS) {
+            final Map<String, Integer> failed = emrServerless.failedCallCounts(apiOperation);
+            json.name(apiOperation).beginObject()
+                .field("calls", emrServerless.callCount(apiOperation))
+                .name("failed").beginObject();
+            failed.forEach(json::field);
+            json.endObject().endObject();
+            retries += failed.entrySet().stream()
+                .filter(entry -> RETRIED_ERROR_CODES.contains(entry.getKey()))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        }
+        json.endObject();
+        json.field("retries", retries);
+        json.endObject();
+        return json.toString();
+    }
+
+    private static ResourceModel model(final String name, final String releaseLabel, final String tagKey, final String tagValue) {
+        return ResourceModel.builder()
+            .name(name)
+            .type("Spark")
+            .releaseLabel(releaseLabel)
+            .tags(ImmutableSet.of(Tag.builder().key(tagKey).value(tagValue).build()))
+            .build();
+    }
+
+    /**
+     * Outcomes of a handler operation across all stacks.
+     */
+    private static final class OperationStats {
+        private final List<Long> latencies = new ArrayList<>();
+        private final Map<String, Integer> failures = new TreeMap<>();
+        private long invocations;
+
+        synchronized void record(final long latencyNanos, final int operationInvocations, final String errorCode) {
+            latencies.add(latencyNanos);
+            invocations += operationInvocations;
+            if (errorCode != null) {
+                failures.merge(errorCode, 1, Integer::sum);
+            }
+        }
+
+        synchronized void write(final JsonWriter json) {
+            final long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            final int failed = failures.values().stream().mapToInt(Integer::intValue).sum();
+            json.beginObject()
+                .field("count", sorted.length)
+                .field("invocations", invocations)
+                .field("p50Millis", millis(percentile(sorted, 0.50)))
+                .field("p99Millis", millis(percentile(sorted, 0.99)))
+                .field("maxMillis", millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]))
+                .field("failureRate", sorted.length == 0 ? 0.0 : (double) failed / sorted.length)
+                .name("failures").beginObject();
+            failures.forEach(json::field);
+            json.endObject().endObject();
+        }
+
+        // Nearest rank percentile
+        private static long percentile(final long[] sorted, final double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            final int rank = (int) Math.ceil(percentile * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+
+        private static double millis(final long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Minimal writer of the report, names are plain identifiers and values numbers or enum names.
+     */
+    static final class JsonWriter {
+        private final StringBuilder json = new StringBuilder(1024);
+        private boolean first = true;
+
+        JsonWriter beginObject() {
+            separate();
+            json.append('{');
+            first = true;
+            return this;
+        }
+
+        JsonWriter endObject() {
+            json.append('}');
+            first = false;
+            return this;
+        }
+
+        JsonWriter name(final String name) {
+            separate();
+            json.append('"').append(name).append("\":");
+            first = true;
+            return this;
+        }
+
+        JsonWriter field(final String name, final Object value) {
+            name(name);
+            first = false;
+            if (value instanceof Double) {
+                json.append(String.format(Locale.ROOT, "%.3f", (Double) value));
+            } else if (value instanceof Number) {
+                json.append(value);
+            } else {
+                json.append('"').append(value).append('"');
+            }
+            return this;
+        }
+
+        private void separate() {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+        }
+
+        @Override
+        public String toString() {
+            return json.toString();
+        }
+    }
+}
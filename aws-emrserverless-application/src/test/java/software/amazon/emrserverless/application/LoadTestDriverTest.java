@@ -0,0 +1,64 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class LoadTestDriverTest {
+
+    private static final Pattern RETRIES = Pattern.compile("\"retries\":(\\d+)}$");
+
+    @AfterEach
+    public void tear_down() {
+        CircuitBreaker.clear();
+        StateTransitionTimes.clear();
+    }
+
+    @Test
+    public void run_ReportsEveryOperationOfEveryStack() throws InterruptedException {
+        final String report = new LoadTestDriver(new LoadTestDriver.Config(8, 4, 2, Duration.ZERO, Duration.ZERO, 0,
+            BaseHandlerStd.ExecutionMode.SYNC)).run();
+
+        assertThat(report)
+            .startsWith("{\"config\":{\"stacks\":8,\"concurrency\":4,\"accounts\":2,")
+            .contains("\"CREATE\":{\"count\":8,")
+            .contains("\"LIST\":{\"count\":8,")
+            .contains("\"UPDATE\":{\"count\":8,")
+            .contains("\"DELETE\":{\"count\":8,")
+            .doesNotContain("\"failureRate\":1.000")
+            .contains("\"CreateApplication\":{\"calls\":8,\"failed\":{}}")
+            .contains("\"UpdateApplication\":{\"calls\":8,\"failed\":{}}")
+            .contains("\"DeleteApplication\":{\"calls\":8,\"failed\":{}}")
+            .endsWith("\"retries\":0}");
+    }
+
+    @Test
+    public void run_CountsRetriesOfThrottledCalls() throws InterruptedException {
+        final String report = new LoadTestDriver(new LoadTestDriver.Config(8, 8, 1, Duration.ZERO, Duration.ZERO, 20,
+            BaseHandlerStd.ExecutionMode.ASYNC)).run();
+
+        final Matcher retries = RETRIES.matcher(report);
+        assertThat(retries.find()).as(report).isTrue();
+        assertThat(Integer.parseInt(retries.group(1))).isPositive();
+        assertThat(report).contains("\"ThrottlingException\":");
+    }
+
+    @Test
+    public void jsonWriter_SeparatesFieldsAndNestedObjects() {
+        final LoadTestDriver.JsonWriter json = new LoadTestDriver.JsonWriter();
+
+        json.beginObject()
+            .field("count", 2)
+            .name("nested").beginObject().field("rate", 0.5).field("mode", "SYNC").endObject()
+            .name("empty").beginObject().endObject()
+            .field("total", 3L)
+            .endObject();
+
+        assertThat(json.toString()).isEqualTo("{\"count\":2,\"nested\":{\"rate\":0.500,\"mode\":\"SYNC\"},\"empty\":{},\"total\":3}");
+    }
+}
@@ -0,0 +1,134 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.emrserverless.model.Application;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+public class LogSerializerTest {
+
+    private static final String SECRET = "s3cr3t-value";
+
+    @Test
+    public void serialize_RedactsRuntimeConfigurationProperties() {
+        final LogSerializer serializer = new LogSerializer(LogSerializer.DEFAULT_MAX_ITEMS, LogSerializer.DEFAULT_MAX_LENGTH);
+
+        final String model = serializer.serialize(resourceModel(3, 2));
+        final String application = serializer.serialize(application(3, 2));
+
+        assertThat(model).doesNotContain(SECRET).doesNotContain("spark.hadoop.secret")
+            .contains("runtimeConfiguration=[{classification=spark-defaults, properties=(3 redacted), "
+                + "configurations=[{classification=nested, properties=(1 redacted)}]}]");
+        assertThat(application).doesNotContain(SECRET).doesNotContain("spark.hadoop.secret")
+            .startsWith("Application{applicationId=00f0abcdefghijkl, name=application")
+            .contains("state=CREATING")
+            .contains("properties=(3 redacted)");
+    }
+
+    @Test
+    public void serialize_RedactsRequestModels() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .clientRequestToken("token")
+            .desiredResourceState(resourceModel(2, 1))
+            .previousResourceState(ResourceModel.builder().applicationId("00f0abcdefghijkl").build())
+            .build();
+
+        assertThat(LogSerializer.of(request))
+            .doesNotContain(SECRET)
+            .startsWith("Request{clientRequestToken=token, desiredResourceState=ResourceModel{applicationId=00f0abcdefghijkl")
+            .endsWith("previousResourceState=ResourceModel{applicationId=00f0abcdefghijkl}}");
+    }
+
+    @Test
+    public void serialize_TruncatesLongCollections() {
+        final LogSerializer serializer = new LogSerializer(2, LogSerializer.DEFAULT_MAX_LENGTH);
+
+        assertThat(serializer.serialize(resourceModel(1, 5))).contains("tags=[tag-", ", ...(3 more)]");
+        assertThat(serializer.serialize(application(1, 5))).contains("tags=[tag-", ", ...(3 more)]");
+        assertThat(new LogSerializer(0, LogSerializer.DEFAULT_MAX_LENGTH).serialize(resourceModel(1, 5)))
+            .contains("tags=[...(5 more)]");
+    }
+
+    @Test
+    public void serialize_TruncatesAtMaximumLength() {
+        final LogSerializer serializer = new LogSerializer(1000, 100);
+
+        final String serialized = serializer.serialize(resourceModel(200, 200));
+
+        assertThat(serialized).hasSize(100 + "...(truncated)".length()).endsWith("...(truncated)");
+    }
+
+    @Test
+    public void serialize_ReusesBufferAcrossCalls() {
+        final LogSerializer serializer = new LogSerializer(LogSerializer.DEFAULT_MAX_ITEMS, LogSerializer.DEFAULT_MAX_LENGTH);
+        final ResourceModel model = resourceModel(20, 20);
+
+        final String first = serializer.serialize(model);
+        serializer.serialize(application(20, 20));
+
+        assertThat(serializer.serialize(model)).isEqualTo(first);
+        assertThat(serializer.serialize((ResourceModel) null)).isEqualTo("null");
+    }
+
+    private static ResourceModel resourceModel(final int propertyCount, final int tagCount) {
+        final Set<Tag> tags = new HashSet<>();
+        for (int index = 0; index < tagCount; index++) {
+            tags.add(Tag.builder().key("tag-" + index).value("value-" + index).build());
+        }
+        final Set<ConfigurationObject> nested = new HashSet<>();
+        nested.add(ConfigurationObject.builder()
+            .classification("nested")
+            .properties(properties(1))
+            .build());
+        final Set<ConfigurationObject> runtimeConfiguration = new HashSet<>();
+        runtimeConfiguration.add(ConfigurationObject.builder()
+            .classification("spark-defaults")
+            .properties(properties(propertyCount))
+            .configurations(nested)
+            .build());
+        return ResourceModel.builder()
+            .applicationId("00f0abcdefghijkl")
+            .arn("arn:aws:emr-serverless:us-east-1:123456789012:/applications/00f0abcdefghijkl")
+            .name("application")
+            .type("Spark")
+            .releaseLabel("emr-6.9.0")
+            .runtimeConfiguration(runtimeConfiguration)
+            .tags(tags)
+            .build();
+    }
+
+    private static Application application(final int propertyCount, final int tagCount) {
+        final Map<String, String> tags = new HashMap<>();
+        for (int index = 0; index < tagCount; index++) {
+            tags.put("tag-" + index, "value-" + index);
+        }
+        return Application.builder()
+            .applicationId("00f0abcdefghijkl")
+            .name("application")
+            .type("Spark")
+            .releaseLabel("emr-6.9.0")
+            .state(ApplicationState.CREATING)
+            .runtimeConfiguration(software.amazon.awssdk.services.emrserverless.model.Configuration.builder()
+                .classification("spark-defaults")
+                .properties(properties(propertyCount))
+                .build())
+            .tags(tags)
+            .build();
+    }
+
+    private static Map<String, String> properties(final int count) {
+        final Map<String, String> properties = new HashMap<>();
+        for (int index = 0; index < count; index++) {
+            properties.put("spark.hadoop.secret" + index, SECRET);
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,12 @@
+package software.amazon.emrserverless.application;
+
+/**
+ * Runs every ReadHandlerTest case with the handler invoking operations on the async client.
+ */
+public class ReadHandlerAsyncTest extends ReadHandlerTest {
+
+    @Override
+    protected BaseHandlerStd.ExecutionMode executionMode() {
+        return BaseHandlerStd.ExecutionMode.ASYNC;
+    }
+}
@@ -53,7 +53,7 @@ public class ReadHandlerTest extends AbstractTestBase {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         sdkClient = mock(EmrServerlessClient.class);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
-        handler = new ReadHandler();
+        handler = withExecutionMode(new ReadHandler(), proxy, MOCK_ASYNC_CLIENT(sdkClient));
     }
 
     @Test
@@ -107,9 +107,92 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
     }
 
+    @Test
+    public void handleRequest_retriesThrottledRead() {
+        //Setup
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                    .applicationId(APPLICATION_ID)
+                    .build())
+            .build();
+        handler.throttlingRetry = noWaitThrottlingRetry(3);
+        when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+                .thenThrow(THROTTLING_EXCEPTION)
+                .thenThrow(THROTTLING_EXCEPTION)
+                .thenReturn(getApplicationResponse(getApplication(APPLICATION_ID, ApplicationState.CREATED)));
+
+        //Invoke
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        //Verify & Assert
+        verify(sdkClient, times(3)).getApplication(any(GetApplicationRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(getResourceModel(APPLICATION_ID));
+    }
+
+    @Test
+    public void handleRequest_throttledUntilRetriesAreExhausted() {
+        //Setup
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                    .applicationId(APPLICATION_ID)
+                    .build())
+            .build();
+        handler.throttlingRetry = noWaitThrottlingRetry(2);
+        when(sdkClient.getApplication(any(GetApplicationRequest.class))).thenThrow(THROTTLING_EXCEPTION);
+
+        //Invoke
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        //Verify & Assert
+        // Only the throttling retry retries the call, the handler fails once it gave up
+        verify(sdkClient, times(2)).getApplication(any(GetApplicationRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+    }
+
+    @Test
+    public void handleRequest_RetriesFromCallbackWhileCircuitIsOpen() {
+        //Setup
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                    .applicationId(APPLICATION_ID)
+                    .build())
+            .build();
+        final CircuitBreaker getApplicationCircuit = CircuitBreaker.forOperation(READ_OPERATION);
+        for (int call = 0; call < CircuitBreaker.DEFAULT_MINIMUM_CALLS; call++) {
+            getApplicationCircuit.onFailure(INTERNAL_SERVER_EXCEPTION);
+        }
+
+        //Invoke
+        final ProgressEvent<ResourceModel, CallbackContext> deferred =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        //Verify & Assert
+        verify(sdkClient, never()).getApplication(any(GetApplicationRequest.class));
+        assertThat(deferred.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(deferred.getCallbackDelaySeconds())
+                .isBetween(1, (int) CircuitBreaker.DEFAULT_OPEN_DURATION.getSeconds());
+        assertThat(deferred.getCallbackContext().getRetryAttempts()).isEqualTo(new CallbackContext().getRetryAttempts());
+
+        // Once the circuit lets calls through, the callback makes the read
+        CircuitBreaker.clear();
+        when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+                .thenReturn(getApplicationResponse(getApplication(APPLICATION_ID, ApplicationState.CREATED)));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, deferred.getCallbackContext(), proxyClient, logger);
+
+        verify(sdkClient).getApplication(any(GetApplicationRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(getResourceModel(APPLICATION_ID));
+    }
+
     @ParameterizedTest
     @MethodSource("exceptionArgumentsProvider")
-    public void handleRequest_exception(Exception sdkException, BaseHandlerException cfnException) {
+    public void handleRequest_exception(Exception sdkException, BaseHandlerException cfnException, int attempts) {
         //Setup
         final ResourceModel inputModel = ResourceModel.builder()
                 .applicationId(APPLICATION_ID)
@@ -120,14 +203,12 @@ public class ReadHandlerTest extends AbstractTestBase {
         when(sdkClient.getApplication(any(GetApplicationRequest.class))).thenThrow(sdkException);
 
         //Invoke
+        final AmazonWebServicesClientProxy callbackProxy = callbackProxy();
         final ProgressEvent<ResourceModel, CallbackContext> response =
-                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+                handleUntilDone(handler, callbackProxy, request, MOCK_PROXY(callbackProxy, sdkClient));
 
         //Verify & Assert
-        int times = BaseHandlerStd.RETRYABLE_EXCEPTIONS.contains(sdkException.getClass())
-                ? new CallbackContext().getRetryAttempts() + 1
-                : 1;
-        verify(sdkClient, times(times)).getApplication(any(GetApplicationRequest.class));
+        verify(sdkClient, times(attempts)).getApplication(any(GetApplicationRequest.class));
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -137,6 +218,14 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
     }
 
+    @Test
+    public void parseExecutionMode_FallsBackToSync() {
+        assertThat(BaseHandlerStd.parseExecutionMode(" async ")).isEqualTo(BaseHandlerStd.ExecutionMode.ASYNC);
+        assertThat(BaseHandlerStd.parseExecutionMode("SYNC")).isEqualTo(BaseHandlerStd.ExecutionMode.SYNC);
+        assertThat(BaseHandlerStd.parseExecutionMode(null)).isEqualTo(BaseHandlerStd.ExecutionMode.SYNC);
+        assertThat(BaseHandlerStd.parseExecutionMode("parallel")).isEqualTo(BaseHandlerStd.ExecutionMode.SYNC);
+    }
+
     /**
      * Returns service exceptions to CFN exceptions map for all the valid exceptions that can be thrown by GetApplication API.
      *
@@ -153,4 +242,9 @@ public class ReadHandlerTest extends AbstractTestBase {
                 READ_OPERATION, INTERNAL_SERVER_EXCEPTION))
             .build();
     }
+
+    @Override
+    protected Map<Exception, Integer> getRetriedExceptionAttempts() {
+        return ImmutableMap.of(INTERNAL_SERVER_EXCEPTION, 6);
+    }
 }
\ No newline at end of file
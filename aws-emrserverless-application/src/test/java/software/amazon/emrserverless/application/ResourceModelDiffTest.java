@@ -0,0 +1,67 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+
+public class ResourceModelDiffTest extends AbstractTestBase {
+
+    @Test
+    public void changedProperties_NoneForEqualModels() {
+        assertThat(ResourceModelDiff.changedProperties(getResourceModel(APPLICATION_ID), getResourceModel(APPLICATION_ID)))
+                .isEmpty();
+        assertThat(ResourceModelDiff.hasMutableChanges(getResourceModel(APPLICATION_ID), getResourceModel(APPLICATION_ID)))
+                .isFalse();
+    }
+
+    @Test
+    public void changedProperties_AllWithoutPreviousModel() {
+        assertThat(ResourceModelDiff.changedProperties(null, getResourceModel(APPLICATION_ID)))
+                .containsExactlyElementsOf(ResourceModelDiff.MUTABLE_PROPERTIES.keySet());
+        assertThat(ResourceModelDiff.hasMutableChanges(null, getResourceModel(APPLICATION_ID))).isTrue();
+    }
+
+    @Test
+    public void changedProperties_IgnoresTagsAndNonMutableProperties() {
+        final ResourceModel desiredModel = getResourceModel(APPLICATION_ID, ImmutableMap.of("key", "value"));
+        desiredModel.setName("other-name");
+        desiredModel.setType("HIVE");
+        desiredModel.setArn("other-arn");
+
+        assertThat(ResourceModelDiff.changedProperties(getResourceModel(APPLICATION_ID), desiredModel)).isEmpty();
+    }
+
+    @Test
+    public void changedProperties_DetectsChangedSections() {
+        final ResourceModel desiredModel = getResourceModel(APPLICATION_ID, APPLICATION_TAGS, "emr-7.0.0");
+        desiredModel.setMaximumCapacity(MaximumAllowedResources.builder().cpu("1 vCPU").build());
+        desiredModel.setAutoStopConfiguration(null);
+
+        assertThat(ResourceModelDiff.changedProperties(getResourceModel(APPLICATION_ID), desiredModel))
+                .containsExactly("ReleaseLabel", "MaximumCapacity", "AutoStopConfiguration");
+    }
+
+    @Test
+    public void changedProperties_TreatsEmptyAsAbsent() {
+        final ResourceModel previousModel = getResourceModel(APPLICATION_ID);
+        previousModel.setRuntimeConfiguration(null);
+        previousModel.setWorkerTypeSpecifications(null);
+        final ResourceModel desiredModel = getResourceModel(APPLICATION_ID);
+        desiredModel.setRuntimeConfiguration(Collections.emptySet());
+        desiredModel.setWorkerTypeSpecifications(Collections.emptyMap());
+
+        assertThat(ResourceModelDiff.changedProperties(previousModel, desiredModel)).isEmpty();
+    }
+
+    @Override
+    protected Map<Exception, BaseHandlerException> getCFNExceptionMapping() {
+        return Collections.emptyMap();
+    }
+}
@@ -0,0 +1,104 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StateTransitionTimesTest {
+
+    private static final String CREATING = "CREATING";
+    private static final String CREATED = "CREATED";
+    private static final String TRANSITION = StateTransitionTimes.transition(CREATING, CREATED);
+
+    @BeforeEach
+    public void setup() {
+        StateTransitionTimes.clear();
+    }
+
+    @Test
+    public void observe_RecordsTransitionOnStateChange() {
+        final CallbackContext callbackContext = new CallbackContext();
+
+        StateTransitionTimes.observe(callbackContext, CREATING, 1_000L);
+        StateTransitionTimes.observe(callbackContext, CREATING, 5_000L);
+        StateTransitionTimes.observe(callbackContext, CREATED, 21_000L);
+
+        assertThat(callbackContext.getObservedApplicationState()).isEqualTo(CREATED);
+        assertThat(callbackContext.getObservedStateSince()).isEqualTo(21_000L);
+        assertThat(callbackContext.getStateTransitionHistograms()).containsOnlyKeys(TRANSITION);
+        assertThat(callbackContext.getStateTransitionHistograms().get(TRANSITION).get(StateTransitionTimes.bucketOf(20_000L)))
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void expected_InterpolatesMedian() {
+        final CallbackContext callbackContext = new CallbackContext();
+
+        StateTransitionTimes.record(callbackContext, TRANSITION, 20_000L);
+        StateTransitionTimes.record(callbackContext, TRANSITION, 20_000L);
+
+        // Both samples in the 16-32 seconds bucket, the median is the middle of it
+        assertThat(StateTransitionTimes.expected(callbackContext, TRANSITION)).contains(Duration.ofSeconds(24));
+    }
+
+    @Test
+    public void expected_SurvivesInCallbackContextWithoutContainerCache() {
+        final CallbackContext callbackContext = new CallbackContext();
+        StateTransitionTimes.record(callbackContext, TRANSITION, 20_000L);
+
+        StateTransitionTimes.clear();
+
+        assertThat(StateTransitionTimes.expected(callbackContext, TRANSITION)).contains(Duration.ofSeconds(24));
+    }
+
+    @Test
+    public void expected_SharedAcrossOperationsThroughContainerCache() {
+        StateTransitionTimes.record(new CallbackContext(), TRANSITION, 20_000L);
+
+        assertThat(StateTransitionTimes.expected(new CallbackContext(), TRANSITION)).contains(Duration.ofSeconds(24));
+    }
+
+    @Test
+    public void expected_EmptyWithoutSamples() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setStateTransitionHistograms(Collections.singletonMap(TRANSITION, Collections.emptyList()));
+
+        assertThat(StateTransitionTimes.expected(callbackContext, TRANSITION)).isEmpty();
+    }
+
+    @Test
+    public void expectedRemaining_SubtractsTimeAlreadySpent() {
+        final CallbackContext callbackContext = new CallbackContext();
+        StateTransitionTimes.record(callbackContext, TRANSITION, 20_000L);
+        StateTransitionTimes.observe(callbackContext, CREATING, 100_000L);
+
+        assertThat(StateTransitionTimes.expectedRemaining(callbackContext, CREATED, 110_000L)).contains(Duration.ofSeconds(14));
+        assertThat(StateTransitionTimes.expectedRemaining(callbackContext, CREATED, 130_000L)).isEmpty();
+        assertThat(StateTransitionTimes.expectedRemaining(new CallbackContext(), CREATED, 110_000L)).isEmpty();
+    }
+
+    @Test
+    public void bucketOf_ClampsToLastBucket() {
+        assertThat(StateTransitionTimes.bucketOf(-1L)).isEqualTo(0);
+        assertThat(StateTransitionTimes.bucketOf(1_999L)).isEqualTo(0);
+        assertThat(StateTransitionTimes.bucketOf(2_000L)).isEqualTo(1);
+        assertThat(StateTransitionTimes.bucketOf(Duration.ofHours(1).toMillis()))
+                .isEqualTo(StateTransitionTimes.BUCKET_COUNT - 1);
+    }
+
+    @Test
+    public void record_HalvesCountsOnceFull() {
+        final CallbackContext callbackContext = new CallbackContext();
+
+        for (int i = 0; i < 300; i++) {
+            StateTransitionTimes.record(callbackContext, TRANSITION, 20_000L);
+        }
+
+        assertThat(callbackContext.getStateTransitionHistograms().get(TRANSITION).get(StateTransitionTimes.bucketOf(20_000L)))
+                .isLessThanOrEqualTo(256);
+    }
+}
@@ -0,0 +1,119 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.emrserverless.model.Application;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
+import software.amazon.awssdk.services.emrserverless.model.GetApplicationRequest;
+import software.amazon.awssdk.services.emrserverless.model.GetApplicationResponse;
+import software.amazon.cloudformation.proxy.Logger;
+
+public class StructuredLoggerTest {
+
+    private final List<String> lines = new ArrayList<>();
+    private final Logger capturingLogger = lines::add;
+
+    @Test
+    public void log_WritesSingleLineJson() {
+        final StructuredLogger logger = new StructuredLogger(capturingLogger, StructuredLogger.Level.INFO, 100);
+
+        logger.info("getApplication.read", fields -> fields.field("applicationId", "app-1")
+            .field("attempt", 2)
+            .field("stabilized", true)
+            .field("state", null)
+            .field("message", "line\n\"quoted\"\\"));
+
+        assertThat(lines).containsExactly("{\"level\":\"INFO\",\"event\":\"getApplication.read\",\"applicationId\":\"app-1\","
+            + "\"attempt\":2,\"stabilized\":true,\"state\":null,\"message\":\"line\\n\\\"quoted\\\"\\\\\"}");
+    }
+
+    @Test
+    public void log_SkipsFieldsBelowLevel() {
+        final StructuredLogger logger = new StructuredLogger(capturingLogger, StructuredLogger.Level.INFO, 100);
+        final AtomicInteger evaluations = new AtomicInteger();
+
+        logger.debug("getApplication.response", fields -> evaluations.incrementAndGet());
+        logger.warn("hydration.timedOut", fields -> evaluations.incrementAndGet());
+
+        assertThat(evaluations).hasValue(1);
+        assertThat(lines).hasSize(1);
+        assertThat(logger.isEnabled(StructuredLogger.Level.DEBUG)).isFalse();
+        assertThat(logger.isEnabled(StructuredLogger.Level.ERROR)).isTrue();
+        assertThat(new StructuredLogger(null, StructuredLogger.Level.DEBUG, 100).isEnabled(StructuredLogger.Level.ERROR)).isFalse();
+    }
+
+    @Test
+    public void log_TruncatesLongFields() {
+        final StructuredLogger logger = new StructuredLogger(capturingLogger, StructuredLogger.Level.DEBUG, 5);
+
+        logger.debug("list.request", fields -> fields.field("request", "0123456789"));
+
+        assertThat(lines).containsExactly("{\"level\":\"DEBUG\",\"event\":\"list.request\",\"request\":\"01234...(5 more chars)\"}");
+    }
+
+    @Test
+    public void parseLevel_FallsBackToDefault() {
+        assertThat(StructuredLogger.parseLevel("debug")).isEqualTo(StructuredLogger.Level.DEBUG);
+        assertThat(StructuredLogger.parseLevel(" ERROR ")).isEqualTo(StructuredLogger.Level.ERROR);
+        assertThat(StructuredLogger.parseLevel("verbose")).isEqualTo(StructuredLogger.DEFAULT_LEVEL);
+        assertThat(StructuredLogger.parseLevel(null)).isEqualTo(StructuredLogger.DEFAULT_LEVEL);
+    }
+
+    /**
+     * A stabilization poll at INFO never builds the fields of its DEBUG request and response lines, their allocations
+     * are measured by StructuredLoggerBenchmark.
+     */
+    @Test
+    public void log_SkipsRequestAndResponseOfStabilizationPollAtInfo() {
+        final StructuredLogger logger = new StructuredLogger(capturingLogger, StructuredLogger.Level.INFO,
+            StructuredLogger.DEFAULT_MAX_FIELD_LENGTH);
+        final GetApplicationRequest request = GetApplicationRequest.builder().applicationId("00f0abcdefghijkl").build();
+        final GetApplicationResponse response = GetApplicationResponse.builder().application(application()).build();
+        final AtomicInteger debugEvaluations = new AtomicInteger();
+
+        logger.debug("getApplication.request", fields -> {
+            debugEvaluations.incrementAndGet();
+            fields.field("request", request);
+        });
+        logger.debug("getApplication.response", fields -> {
+            debugEvaluations.incrementAndGet();
+            fields.field("response", response);
+        });
+        logger.info("getApplication.read", fields -> fields.field("applicationId", request.applicationId())
+            .field("state", response.application().stateAsString()));
+
+        assertThat(debugEvaluations).hasValue(0);
+        assertThat(lines).containsExactly(
+            "{\"level\":\"INFO\",\"event\":\"getApplication.read\",\"applicationId\":\"00f0abcdefghijkl\",\"state\":\"CREATING\"}");
+    }
+
+    private static Application application() {
+        final Map<String, String> properties = new HashMap<>();
+        final Map<String, String> tags = new HashMap<>();
+        for (int index = 0; index < 20; index++) {
+            properties.put("spark.executor.property" + index, "value-" + index);
+            tags.put("tag-" + index, "value-" + index);
+        }
+        return Application.builder()
+            .applicationId("00f0abcdefghijkl")
+            .arn("arn:aws:emr-serverless:us-east-1:123456789012:/applications/00f0abcdefghijkl")
+            .name("application")
+            .type("Spark")
+            .releaseLabel("emr-6.9.0")
+            .state(ApplicationState.CREATING)
+            .runtimeConfiguration(software.amazon.awssdk.services.emrserverless.model.Configuration.builder()
+                .classification("spark-defaults")
+                .properties(properties)
+                .build())
+            .tags(tags)
+            .build();
+    }
+}
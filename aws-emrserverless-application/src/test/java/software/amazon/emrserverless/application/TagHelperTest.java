@@ -0,0 +1,104 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+public class TagHelperTest {
+
+    /**
+     * Random tag maps checked per property, drawn from a small key and value space so that additions, redefinitions,
+     * removals and unchanged tags all occur.
+     */
+    private static final int SAMPLES = 2_000;
+    private static final int MAX_TAGS = 50;
+
+    @Test
+    public void diff_AddsRedefinesAndRemoves() {
+        final TagHelper.TagDiff diff = TagHelper.diff(
+            ImmutableMap.of("kept", "value", "redefined", "old", "removed", "value"),
+            ImmutableMap.of("kept", "value", "redefined", "new", "added", "value"));
+
+        assertThat(diff.getTagsToAdd()).isEqualTo(ImmutableMap.of("redefined", "new", "added", "value"));
+        assertThat(diff.getTagsToRemove()).containsOnly("removed");
+        assertThat(diff.isEmpty()).isFalse();
+    }
+
+    @Test
+    public void diff_TreatsAbsentMapsAsEmpty() {
+        assertThat(TagHelper.diff(null, null).isEmpty()).isTrue();
+        assertThat(TagHelper.diff(null, ImmutableMap.of("added", "value")).getTagsToAdd()).isEqualTo(ImmutableMap.of("added", "value"));
+        assertThat(TagHelper.diff(ImmutableMap.of("removed", "value"), null).getTagsToRemove()).containsOnly("removed");
+    }
+
+    @Test
+    public void diff_MatchesStreamDiffForRandomTags() {
+        final Random random = new Random(20240518L);
+        for (int sample = 0; sample < SAMPLES; sample++) {
+            final Map<String, String> previousTags = randomTags(random);
+            final Map<String, String> desiredTags = randomTags(random);
+
+            final TagHelper.TagDiff diff = TagHelper.diff(previousTags, desiredTags);
+
+            assertThat(diff.getTagsToAdd()).as("tags to add, previous %s, desired %s", previousTags, desiredTags)
+                .isEqualTo(TagHelper.generateTagsToAdd(previousTags, desiredTags));
+            assertThat(diff.getTagsToRemove()).as("tags to remove, previous %s, desired %s", previousTags, desiredTags)
+                .isEqualTo(TagHelper.generateTagsToRemove(previousTags, desiredTags));
+        }
+    }
+
+    @Test
+    public void diff_OfEqualTagsIsEmpty() {
+        final Random random = new Random(7L);
+        for (int sample = 0; sample < SAMPLES; sample++) {
+            final Map<String, String> tags = randomTags(random);
+
+            assertThat(TagHelper.diff(tags, new HashMap<>(tags)).isEmpty()).isTrue();
+        }
+    }
+
+    @Test
+    public void generateTagsForCreate_MatchesMergedTagsForRandomTags() {
+        final Random random = new Random(42L);
+        for (int sample = 0; sample < SAMPLES; sample++) {
+            final Map<String, String> stackTags = randomTags(random);
+            final Map<String, String> modelTags = randomTags(random);
+            final Set<Tag> modelTagSet = new HashSet<>(TagHelper.convertToSet(modelTags));
+            if (random.nextBoolean()) {
+                modelTagSet.add(Tag.builder().key("valueless").build());
+            }
+            final ResourceModel model = ResourceModel.builder().tags(modelTagSet).build();
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceTags(random.nextInt(10) == 0 ? null : stackTags)
+                .desiredResourceState(model)
+                .build();
+
+            final Map<String, String> merged = new HashMap<>();
+            if (request.getDesiredResourceTags() != null) {
+                merged.putAll(request.getDesiredResourceTags());
+            }
+            merged.putAll(TagHelper.convertToMap(model.getTags()));
+
+            assertThat(TagHelper.generateTagsForCreate(model, request)).isEqualTo(merged);
+        }
+    }
+
+    private static Map<String, String> randomTags(final Random random) {
+        final int size = random.nextInt(MAX_TAGS + 1);
+        final Map<String, String> tags = new HashMap<>();
+        for (int index = 0; index < size; index++) {
+            tags.put("key-" + random.nextInt(MAX_TAGS * 2), "value-" + random.nextInt(3));
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,214 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.emrserverless.model.EmrServerlessException;
+import software.amazon.awssdk.services.emrserverless.model.ValidationException;
+
+public class ThrottlingRetryTest {
+
+    private static final EmrServerlessException TOO_MANY_REQUESTS = EmrServerlessException.builder()
+        .message("rate exceeded").statusCode(429).build();
+    private static final EmrServerlessException THROTTLING_ERROR_CODE = EmrServerlessException.builder()
+        .message("rate exceeded")
+        .statusCode(400)
+        .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+        .build();
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final List<Long> sleeps = new ArrayList<>();
+    private final List<Long> scheduled = new ArrayList<>();
+
+    @Test
+    public void isThrottling_StatusCodeAndErrorCode() {
+        assertThat(ThrottlingRetry.isThrottling(TOO_MANY_REQUESTS)).isTrue();
+        assertThat(ThrottlingRetry.isThrottling(THROTTLING_ERROR_CODE)).isTrue();
+        assertThat(ThrottlingRetry.isThrottling(new CompletionException(TOO_MANY_REQUESTS))).isTrue();
+        assertThat(ThrottlingRetry.isThrottling(ValidationException.builder().message("invalid").statusCode(400).build())).isFalse();
+        assertThat(ThrottlingRetry.isThrottling(new IllegalStateException())).isFalse();
+        assertThat(ThrottlingRetry.isThrottling(null)).isFalse();
+    }
+
+    @Test
+    public void backoff_FullJitterCappedExponential() {
+        assertThat(retry(bucket(), 10, 1.0).backoff(1)).isEqualTo(100);
+        assertThat(retry(bucket(), 10, 1.0).backoff(3)).isEqualTo(400);
+        assertThat(retry(bucket(), 10, 1.0).backoff(10)).isEqualTo(1_000);
+        assertThat(retry(bucket(), 10, 0.5).backoff(3)).isEqualTo(200);
+        assertThat(retry(bucket(), 10, 0.0).backoff(3)).isZero();
+    }
+
+    @Test
+    public void call_RetriesThrottledCalls() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        final String response = retry(bucket(), 4, 1.0).call(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw TOO_MANY_REQUESTS;
+            }
+            return "response";
+        });
+
+        assertThat(response).isEqualTo("response");
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(sleeps).containsExactly(100L, 200L);
+    }
+
+    @Test
+    public void call_ThrowsOnceAttemptsAreExhausted() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry(bucket(), 3, 0.0).call(() -> {
+            calls.incrementAndGet();
+            throw THROTTLING_ERROR_CODE;
+        })).isSameAs(THROTTLING_ERROR_CODE);
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void call_DoesNotRetryOtherFailures() {
+        final AtomicInteger calls = new AtomicInteger();
+        final ValidationException validationException = ValidationException.builder().message("invalid").build();
+
+        assertThatThrownBy(() -> retry(bucket(), 3, 0.0).call(() -> {
+            calls.incrementAndGet();
+            throw validationException;
+        })).isSameAs(validationException);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    public void call_ThrottlingDrainsSharedBucket() {
+        final TokenBucket bucket = bucket();
+        final AtomicInteger calls = new AtomicInteger();
+
+        retry(bucket, 2, 0.0).call(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw TOO_MANY_REQUESTS;
+            }
+            return "response";
+        });
+
+        // The retry waited for a token of the drained bucket, so does every other caller sharing it
+        assertThat(sleeps).contains(TimeUnit.NANOSECONDS.toMillis(TimeUnit.SECONDS.toNanos(1) / 10) + 1);
+        assertThat(bucket.availableTokens()).isLessThan(1);
+    }
+
+    @Test
+    public void callAsync_RetriesThrottledCalls() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        final String response = retry(bucket(), 4, 1.0).callAsync(() -> calls.incrementAndGet() < 3
+            ? failed(TOO_MANY_REQUESTS)
+            : CompletableFuture.completedFuture("response")).join();
+
+        assertThat(response).isEqualTo("response");
+        assertThat(calls.get()).isEqualTo(3);
+        // The backoffs were scheduled rather than slept
+        assertThat(scheduled).containsExactly(100L, 200L);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    public void callAsync_FailsOnceAttemptsAreExhausted() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry(bucket(), 3, 0.0).callAsync(() -> {
+            calls.incrementAndGet();
+            return failed(THROTTLING_ERROR_CODE);
+        }).join()).isInstanceOf(CompletionException.class).hasCause(THROTTLING_ERROR_CODE);
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void callAsync_DoesNotRetryOtherFailures() {
+        final AtomicInteger calls = new AtomicInteger();
+        final ValidationException validationException = ValidationException.builder().message("invalid").build();
+
+        assertThatThrownBy(() -> retry(bucket(), 3, 0.0).callAsync(() -> {
+            calls.incrementAndGet();
+            throw validationException;
+        }).join()).isInstanceOf(CompletionException.class).hasCause(validationException);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(scheduled).isEmpty();
+    }
+
+    @Test
+    public void callAsync_SchedulesTokenWaitOfDrainedBucket() {
+        final TokenBucket bucket = bucket();
+        final AtomicInteger calls = new AtomicInteger();
+
+        retry(bucket, 2, 0.0).callAsync(() -> calls.incrementAndGet() == 1
+            ? failed(TOO_MANY_REQUESTS)
+            : CompletableFuture.completedFuture("response")).join();
+
+        // The retry waited for a token of the drained bucket without blocking the caller
+        assertThat(scheduled).contains(TimeUnit.NANOSECONDS.toMillis(TimeUnit.SECONDS.toNanos(1) / 10) + 1);
+        assertThat(sleeps).isEmpty();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void startAsync_DrainsBucketWithoutRetrying() {
+        final TokenBucket bucket = bucket();
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry(bucket, 4, 0.0).startAsync(() -> {
+            calls.incrementAndGet();
+            return failed(TOO_MANY_REQUESTS);
+        }).join()).isInstanceOf(CompletionException.class).hasCause(TOO_MANY_REQUESTS);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(bucket.availableTokens()).isLessThan(1);
+    }
+
+    @Test
+    public void forAccount_SharesBucketPerAccount() {
+        final AtomicInteger calls = new AtomicInteger();
+        final ThrottlingRetry first = ThrottlingRetry.forAccount("111111111111");
+        final ThrottlingRetry second = ThrottlingRetry.forAccount("111111111111");
+
+        first.startAsync(() -> failed(TOO_MANY_REQUESTS)).handle((response, e) -> null).join();
+
+        // The bucket the first retry drained paces the second one of the same account
+        final long start = System.nanoTime();
+        second.call(calls::incrementAndGet);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30));
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    private TokenBucket bucket() {
+        return new TokenBucket(10, 10, nanoTime::get);
+    }
+
+    private ThrottlingRetry retry(final TokenBucket bucket, final int maxAttempts, final double jitter) {
+        return new ThrottlingRetry(bucket, maxAttempts, Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofSeconds(2),
+            () -> jitter, millis -> {
+                sleeps.add(millis);
+                nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+            }, (task, millis) -> {
+                scheduled.add(millis);
+                nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+                task.run();
+            });
+    }
+
+    private static <T> CompletableFuture<T> failed(final Throwable failure) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(failure);
+        return future;
+    }
+}
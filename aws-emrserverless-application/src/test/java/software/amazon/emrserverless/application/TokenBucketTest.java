@@ -0,0 +1,76 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class TokenBucketTest {
+
+    private static final long MAX_WAIT_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long ONE_TOKEN_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    public void reserve_NoWaitWithinCapacity() {
+        final TokenBucket bucket = new TokenBucket(3, 2, nanoTime::get);
+
+        assertThat(bucket.reserve(MAX_WAIT_NANOS)).isZero();
+        assertThat(bucket.reserve(MAX_WAIT_NANOS)).isZero();
+        assertThat(bucket.reserve(MAX_WAIT_NANOS)).isZero();
+        assertThat(bucket.availableTokens()).isZero();
+    }
+
+    @Test
+    public void reserve_QueuesCallersAtRefillRate() {
+        final TokenBucket bucket = new TokenBucket(1, 2, nanoTime::get);
+
+        assertThat(bucket.reserve(MAX_WAIT_NANOS)).isZero();
+        assertThat(bucket.reserve(MAX_WAIT_NANOS)).isEqualTo(ONE_TOKEN_NANOS);
+        assertThat(bucket.reserve(MAX_WAIT_NANOS)).isEqualTo(2 * ONE_TOKEN_NANOS);
+    }
+
+    @Test
+    public void reserve_RefillsUpToCapacity() {
+        final TokenBucket bucket = new TokenBucket(2, 2, nanoTime::get);
+        bucket.reserve(MAX_WAIT_NANOS);
+        bucket.reserve(MAX_WAIT_NANOS);
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        assertThat(bucket.availableTokens()).isEqualTo(2);
+    }
+
+    @Test
+    public void reserve_CallsAfterMaxWaitWithoutToken() {
+        final TokenBucket bucket = new TokenBucket(1, 2, nanoTime::get);
+        bucket.reserve(MAX_WAIT_NANOS);
+
+        assertThat(bucket.reserve(ONE_TOKEN_NANOS / 2)).isEqualTo(ONE_TOKEN_NANOS / 2);
+        // The caller that gave up didn't reserve, the next one still waits for a single token
+        assertThat(bucket.reserve(MAX_WAIT_NANOS)).isEqualTo(ONE_TOKEN_NANOS);
+    }
+
+    @Test
+    public void drain_SlowsDownToRefillRate() {
+        final TokenBucket bucket = new TokenBucket(10, 2, nanoTime::get);
+
+        bucket.drain();
+
+        assertThat(bucket.reserve(MAX_WAIT_NANOS)).isEqualTo(ONE_TOKEN_NANOS);
+    }
+
+    @Test
+    public void drain_KeepsReservations() {
+        final TokenBucket bucket = new TokenBucket(1, 2, nanoTime::get);
+        bucket.reserve(MAX_WAIT_NANOS);
+        bucket.reserve(MAX_WAIT_NANOS);
+
+        bucket.drain();
+
+        assertThat(bucket.reserve(MAX_WAIT_NANOS)).isEqualTo(2 * ONE_TOKEN_NANOS);
+    }
+}
@@ -0,0 +1,231 @@
+package software.amazon.emrserverless.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.services.emrserverless.model.ApplicationSummary;
+import software.amazon.awssdk.services.emrserverless.model.ListApplicationsResponse;
+import software.amazon.awssdk.services.emrserverless.model.UpdateApplicationRequest;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class TranslatorTest extends AbstractTestBase {
+
+    private static final String SCHEMA_FILE = "/aws-emrserverless-application.json";
+    private static final Set<String> ALWAYS_SENT_MEMBERS = ImmutableSet.of("applicationId", "clientToken");
+    // Schema properties UpdateApplication can't change: create-only, read-only and Tags, handled by the tag operations
+    private static final Set<String> NOT_UPDATABLE_PROPERTIES = ImmutableSet.of("Name", "Type", "Arn", "ApplicationId", "Tags");
+    private static final String CLIENT_TOKEN = "client-token";
+
+    /**
+     * Modification of every mutable schema property, each changes only its own property of the default model.
+     */
+    private static final Map<String, Consumer<ResourceModel>> PROPERTY_CHANGES =
+            ImmutableMap.<String, Consumer<ResourceModel>>builder()
+                    .put("Architecture", model -> model.setArchitecture("ARM64"))
+                    .put("ReleaseLabel", model -> model.setReleaseLabel("emr-7.0.0"))
+                    .put("InitialCapacity", model -> model.setInitialCapacity(Sets.newHashSet(InitialCapacityConfigKeyValuePair.builder()
+                            .key("DRIVER")
+                            .value(InitialCapacityConfig.builder()
+                                    .workerCount(1L)
+                                    .workerConfiguration(WorkerConfiguration.builder().cpu("1 vCPU").memory("4 GB").build())
+                                    .build())
+                            .build())))
+                    .put("MaximumCapacity", model -> model.setMaximumCapacity(MaximumAllowedResources.builder()
+                            .cpu("400 vCPU").memory("3000 GB").build()))
+                    .put("AutoStartConfiguration", model -> model.setAutoStartConfiguration(AutoStartConfiguration.builder()
+                            .enabled(Boolean.TRUE).build()))
+                    .put("AutoStopConfiguration", model -> model.setAutoStopConfiguration(AutoStopConfiguration.builder()
+                            .enabled(Boolean.TRUE).idleTimeoutMinutes(5).build()))
+                    .put("ImageConfiguration", model -> model.setImageConfiguration(ImageConfigurationInput.builder()
+                            .imageUri("other image uri").build()))
+                    .put("MonitoringConfiguration", model -> model.setMonitoringConfiguration(MonitoringConfiguration.builder()
+                            .s3MonitoringConfiguration(S3MonitoringConfiguration.builder().logUri("s3://other").build())
+                            .build()))
+                    .put("RuntimeConfiguration", model -> model.setRuntimeConfiguration(Sets.newHashSet(ConfigurationObject.builder()
+                            .classification("spark-defaults")
+                            .properties(ImmutableMap.of("spark.driver.cores", "2"))
+                            .build())))
+                    .put("InteractiveConfiguration", model -> model.setInteractiveConfiguration(InteractiveConfiguration.builder()
+                            .studioEnabled(Boolean.TRUE).livyEndpointEnabled(Boolean.FALSE).build()))
+                    .put("NetworkConfiguration", model -> model.setNetworkConfiguration(NetworkConfiguration.builder()
+                            .subnetIds(ImmutableSet.of("subnet-4")).securityGroupIds(ImmutableSet.of("sg-6")).build()))
+                    .put("WorkerTypeSpecifications", model -> model.setWorkerTypeSpecifications(ImmutableMap.of(
+                            "DRIVER", WorkerTypeSpecificationInput.builder()
+                                    .imageConfiguration(ImageConfigurationInput.builder().imageUri("driver image uri").build())
+                                    .build())))
+                    .put("SchedulerConfiguration", model -> model.setSchedulerConfiguration(SchedulerConfiguration.builder()
+                            .queueTimeoutMinutes(60).maxConcurrentRuns(5).build()))
+                    .build();
+
+    @Test
+    public void schemaProperties_AllClassifiedForUpdate() throws IOException {
+        final JsonNode schema = readSchema();
+        final Set<String> schemaProperties = new HashSet<>();
+        schema.get("properties").fieldNames().forEachRemaining(schemaProperties::add);
+
+        final Set<String> classified = new HashSet<>(ResourceModelDiff.MUTABLE_PROPERTIES.keySet());
+        classified.addAll(NOT_UPDATABLE_PROPERTIES);
+        assertThat(classified).containsExactlyInAnyOrderElementsOf(schemaProperties);
+        assertThat(ResourceModelDiff.MUTABLE_PROPERTIES.keySet()).doesNotContainAnyElementsOf(NOT_UPDATABLE_PROPERTIES);
+        assertThat(NOT_UPDATABLE_PROPERTIES)
+                .containsAll(propertyNames(schema.get("createOnlyProperties")))
+                .containsAll(propertyNames(schema.get("readOnlyProperties")));
+    }
+
+    @Test
+    public void updateRequestSections_CoverEveryMutableProperty() {
+        assertThat(Translator.UPDATE_REQUEST_SECTIONS.keySet())
+                .containsExactlyElementsOf(ResourceModelDiff.MUTABLE_PROPERTIES.keySet());
+        assertThat(PROPERTY_CHANGES.keySet())
+                .containsExactlyInAnyOrderElementsOf(ResourceModelDiff.MUTABLE_PROPERTIES.keySet());
+        // Every section has a member of the same name in the service request
+        final Set<String> members = UpdateApplicationRequest.builder().build().sdkFields().stream()
+                .map(SdkField::memberName)
+                .collect(Collectors.toSet());
+        assertThat(members).containsAll(ResourceModelDiff.MUTABLE_PROPERTIES.keySet().stream()
+                .map(StringUtils::uncapitalize)
+                .collect(Collectors.toSet()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("propertyChanges")
+    public void translateToUpdateRequest_OnlyChangedSection(final String property, final Consumer<ResourceModel> change) {
+        final ResourceModel desiredModel = getResourceModel(APPLICATION_ID);
+        change.accept(desiredModel);
+
+        final UpdateApplicationRequest updateRequest = Translator.translateToUpdateRequest(desiredModel,
+                request(getResourceModel(APPLICATION_ID), desiredModel));
+
+        assertThat(ResourceModelDiff.changedProperties(getResourceModel(APPLICATION_ID), desiredModel)).containsExactly(property);
+        assertThat(setMembers(updateRequest)).containsExactlyInAnyOrder("applicationId", "clientToken",
+                StringUtils.uncapitalize(property));
+    }
+
+    @Test
+    public void translateToUpdateRequest_NoSectionsForUnchangedModel() {
+        final UpdateApplicationRequest updateRequest = Translator.translateToUpdateRequest(getResourceModel(APPLICATION_ID),
+                request(getResourceModel(APPLICATION_ID), getResourceModel(APPLICATION_ID)));
+
+        assertThat(setMembers(updateRequest)).containsExactlyInAnyOrderElementsOf(ALWAYS_SENT_MEMBERS);
+        assertThat(updateRequest.applicationId()).isEqualTo(APPLICATION_ID);
+        assertThat(updateRequest.clientToken()).isEqualTo(CLIENT_TOKEN);
+    }
+
+    @Test
+    public void translateToUpdateRequest_AllSectionsWithoutPreviousState() {
+        final UpdateApplicationRequest updateRequest = Translator.translateToUpdateRequest(getResourceModel(APPLICATION_ID),
+                request(null, getResourceModel(APPLICATION_ID)));
+
+        final Set<String> expected = ResourceModelDiff.MUTABLE_PROPERTIES.keySet().stream()
+                .map(StringUtils::uncapitalize)
+                .collect(Collectors.toSet());
+        expected.addAll(ALWAYS_SENT_MEMBERS);
+        assertThat(setMembers(updateRequest)).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    public void translateToUpdateRequest_SendsChangedSectionsTranslated() {
+        final ResourceModel desiredModel = getResourceModel(APPLICATION_ID);
+        PROPERTY_CHANGES.get("MaximumCapacity").accept(desiredModel);
+        PROPERTY_CHANGES.get("AutoStopConfiguration").accept(desiredModel);
+
+        final UpdateApplicationRequest updateRequest = Translator.translateToUpdateRequest(desiredModel,
+                request(getResourceModel(APPLICATION_ID), desiredModel));
+
+        assertThat(updateRequest.maximumCapacity().cpu()).isEqualTo("400 vCPU");
+        assertThat(updateRequest.maximumCapacity().memory()).isEqualTo("3000 GB");
+        assertThat(updateRequest.autoStopConfiguration().enabled()).isTrue();
+        assertThat(updateRequest.autoStopConfiguration().idleTimeoutMinutes()).isEqualTo(5);
+        assertThat(updateRequest.releaseLabel()).isNull();
+        assertThat(updateRequest.hasInitialCapacity()).isFalse();
+        assertThat(updateRequest.hasRuntimeConfiguration()).isFalse();
+    }
+
+    @Test
+    public void translateFromListResponse_AppendsInPageOrder() {
+        final ListApplicationsResponse page = ListApplicationsResponse.builder()
+                .applications(ApplicationSummary.builder().id("app-2").arn("arn-2").name("name-2").build(),
+                        ApplicationSummary.builder().id("app-3").arn("arn-3").name("name-3").build())
+                .build();
+        final List<ResourceModel> resourceModels = new ArrayList<>();
+        resourceModels.add(ResourceModel.builder().applicationId("app-1").build());
+
+        Translator.translateFromListResponse(page, resourceModels);
+
+        assertThat(resourceModels).extracting(ResourceModel::getApplicationId).containsExactly("app-1", "app-2", "app-3");
+        assertThat(resourceModels.subList(1, 3)).isEqualTo(Translator.translateFromListResponse(page));
+    }
+
+    public Stream<Arguments> propertyChanges() {
+        return PROPERTY_CHANGES.entrySet().stream()
+                .map(entry -> Arguments.of(entry.getKey(), entry.getValue()));
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel previousModel,
+                                                                 final ResourceModel desiredModel) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(CLIENT_TOKEN)
+                .previousResourceState(previousModel)
+                .desiredResourceState(desiredModel)
+                .build();
+    }
+
+    // Unset list and map members are auto constructed empty by the SDK and not sent
+    private static Set<String> setMembers(final UpdateApplicationRequest updateRequest) {
+        return updateRequest.sdkFields().stream()
+                .filter(field -> {
+                    final Object value = field.getValueOrDefault(updateRequest);
+                    return value != null && !(value instanceof SdkAutoConstructList) && !(value instanceof SdkAutoConstructMap);
+                })
+                .map(SdkField::memberName)
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<String> propertyNames(final JsonNode propertyPointers) {
+        return StreamSupport.stream(propertyPointers.spliterator(), false)
+                .map(JsonNode::asText)
+                .map(pointer -> StringUtils.substringAfterLast(pointer, "/"))
+                .collect(Collectors.toSet());
+    }
+
+    private JsonNode readSchema() throws IOException {
+        try (InputStream schema = getClass().getResourceAsStream(SCHEMA_FILE)) {
+            return new ObjectMapper().readTree(schema);
+        }
+    }
+
+    @Override
+    protected Map<Exception, BaseHandlerException> getCFNExceptionMapping() {
+        return Collections.emptyMap();
+    }
+}
@@ -0,0 +1,12 @@
+package software.amazon.emrserverless.application;
+
+/**
+ * Runs every UpdateHandlerTest case with the handler invoking operations on the async client.
+ */
+public class UpdateHandlerAsyncTest extends UpdateHandlerTest {
+
+    @Override
+    protected BaseHandlerStd.ExecutionMode executionMode() {
+        return BaseHandlerStd.ExecutionMode.ASYNC;
+    }
+}
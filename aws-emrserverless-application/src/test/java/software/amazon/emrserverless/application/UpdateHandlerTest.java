@@ -3,6 +3,7 @@ package software.amazon.emrserverless.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -13,6 +14,7 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import com.google.common.collect.Sets;
@@ -23,18 +25,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.Arguments;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 
+import software.amazon.awssdk.services.emrserverless.EmrServerlessAsyncClient;
 import software.amazon.awssdk.services.emrserverless.EmrServerlessClient;
 import software.amazon.awssdk.services.emrserverless.model.Application;
 import software.amazon.awssdk.services.emrserverless.model.ApplicationState;
 import software.amazon.awssdk.services.emrserverless.model.AutoStartConfig;
 import software.amazon.awssdk.services.emrserverless.model.AutoStopConfig;
 import software.amazon.awssdk.services.emrserverless.model.Configuration;
+import software.amazon.awssdk.services.emrserverless.model.EmrServerlessException;
 import software.amazon.awssdk.services.emrserverless.model.GetApplicationRequest;
 import software.amazon.awssdk.services.emrserverless.model.GetApplicationResponse;
 import software.amazon.awssdk.services.emrserverless.model.InternalServerException;
@@ -84,14 +89,18 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Mock
     EmrServerlessClient sdkClient;
 
+    @Mock
+    EmrServerlessAsyncClient sdkAsyncClient;
+
     private UpdateHandler updateHandler;
 
     @BeforeEach
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         sdkClient = mock(EmrServerlessClient.class);
+        sdkAsyncClient = MOCK_ASYNC_CLIENT(sdkClient);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
-        updateHandler = new UpdateHandler();
+        updateHandler = withExecutionMode(new UpdateHandler(), proxy, sdkAsyncClient);
     }
 
     @Test
@@ -103,7 +112,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(sdkClient.updateApplication(any(UpdateApplicationRequest.class)))
                 .thenReturn(updateApplicationResponse);
         when(sdkClient.getApplication(any(GetApplicationRequest.class)))
-                .thenReturn(initialApplicationResponse)
                 .thenReturn(initialApplicationResponse)
                 .thenReturn(postUpdateApplicationResponse);
         when(sdkClient.tagResource(any(TagResourceRequest.class)))
@@ -123,7 +131,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(sdkClient).updateApplication(any(UpdateApplicationRequest.class));
         verify(sdkClient).tagResource(any(TagResourceRequest.class));
         verify(sdkClient).untagResource(any(UntagResourceRequest.class));
-        verify(sdkClient, times(3)).getApplication(any(GetApplicationRequest.class));
+        verify(sdkClient, times(2)).getApplication(any(GetApplicationRequest.class));
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isEqualTo(model);
@@ -180,7 +188,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(sdkClient.updateApplication(any(UpdateApplicationRequest.class)))
                 .thenReturn(updateApplicationResponse);
         when(sdkClient.getApplication(any(GetApplicationRequest.class)))
-                .thenReturn(initialApplicationResponse)
                 .thenReturn(initialApplicationResponse)
                 .thenReturn(postUpdateApplicationResponse);
         when(sdkClient.tagResource(any(TagResourceRequest.class)))
@@ -200,7 +207,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(sdkClient).updateApplication(any(UpdateApplicationRequest.class));
         verify(sdkClient).tagResource(any(TagResourceRequest.class));
         verify(sdkClient).untagResource(any(UntagResourceRequest.class));
-        verify(sdkClient, times(3)).getApplication(any(GetApplicationRequest.class));
+        verify(sdkClient, times(2)).getApplication(any(GetApplicationRequest.class));
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isEqualTo(model);
@@ -221,7 +228,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(sdkClient.updateApplication(any(UpdateApplicationRequest.class)))
                 .thenReturn(updateApplicationResponse);
         when(sdkClient.getApplication(any(GetApplicationRequest.class)))
-                .thenReturn(initialApplicationResponse)
                 .thenReturn(initialApplicationResponse)
                 .thenReturn(postUpdateApplicationResponse);
         final ResourceModel model = ResourceModel.builder()
@@ -240,7 +246,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(sdkClient).updateApplication(any(UpdateApplicationRequest.class));
         verify(sdkClient, never()).tagResource(any(TagResourceRequest.class));
         verify(sdkClient, never()).untagResource(any(UntagResourceRequest.class));
-        verify(sdkClient, times(3)).getApplication(any(GetApplicationRequest.class));
+        verify(sdkClient, times(2)).getApplication(any(GetApplicationRequest.class));
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isEqualTo(getResourceModel(APPLICATION_ID, Collections.emptyMap(), UPDATED_RELEASE_LABEL));
@@ -258,7 +264,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(sdkClient.updateApplication(any(UpdateApplicationRequest.class)))
                 .thenReturn(updateApplicationResponse);
         when(sdkClient.getApplication(any(GetApplicationRequest.class)))
-                .thenReturn(initialApplicationResponse)
                 .thenReturn(initialApplicationResponse)
                 .thenReturn(postUpdateApplicationResponse);
         final ResourceModel model = ResourceModel.builder()
@@ -276,7 +281,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(sdkClient).updateApplication(any(UpdateApplicationRequest.class));
         verify(sdkClient, never()).tagResource(any(TagResourceRequest.class));
         verify(sdkClient, never()).untagResource(any(UntagResourceRequest.class));
-        verify(sdkClient, times(3)).getApplication(any(GetApplicationRequest.class));
+        verify(sdkClient, times(2)).getApplication(any(GetApplicationRequest.class));
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isEqualTo(getResourceModel(APPLICATION_ID, Collections.emptyMap()));
@@ -295,7 +300,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(sdkClient.updateApplication(any(UpdateApplicationRequest.class)))
                 .thenReturn(updateApplicationResponse);
         when(sdkClient.getApplication(any(GetApplicationRequest.class)))
-                .thenReturn(initialApplicationResponse)
                 .thenReturn(initialApplicationResponse)
                 .thenReturn(postUpdateApplicationResponse);
         when(sdkClient.tagResource(any(TagResourceRequest.class)))
@@ -317,7 +321,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(sdkClient).updateApplication(any(UpdateApplicationRequest.class));
         verify(sdkClient).tagResource(any(TagResourceRequest.class));
         verify(sdkClient, never()).untagResource(any(UntagResourceRequest.class));
-        verify(sdkClient, times(3)).getApplication(any(GetApplicationRequest.class));
+        verify(sdkClient, times(2)).getApplication(any(GetApplicationRequest.class));
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isEqualTo(getResourceModel(APPLICATION_ID, DESIRED_APPLICATION_TAGS));
@@ -335,7 +339,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(sdkClient.updateApplication(any(UpdateApplicationRequest.class)))
                 .thenReturn(updateApplicationResponse);
         when(sdkClient.getApplication(any(GetApplicationRequest.class)))
-                .thenReturn(initialApplicationResponse)
                 .thenReturn(initialApplicationResponse)
                 .thenReturn(postUpdateApplicationResponse);
         when(sdkClient.untagResource(any(UntagResourceRequest.class)))
@@ -356,7 +359,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(sdkClient).updateApplication(any(UpdateApplicationRequest.class));
         verify(sdkClient, never()).tagResource(any(TagResourceRequest.class));
         verify(sdkClient).untagResource(any(UntagResourceRequest.class));
-        verify(sdkClient, times(3)).getApplication(any(GetApplicationRequest.class));
+        verify(sdkClient, times(2)).getApplication(any(GetApplicationRequest.class));
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isEqualTo(getResourceModel(APPLICATION_ID, Collections.emptyMap()));
@@ -367,7 +370,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
     @ParameterizedTest
     @MethodSource("exceptionArgumentsProvider")
-    public void handleRequest_exceptionInUpdateApplication(Exception sdkException, BaseHandlerException cfnException) {
+    public void handleRequest_exceptionInUpdateApplication(Exception sdkException, BaseHandlerException cfnException, int attempts) {
         GetApplicationResponse initialApplicationResponse = getApplicationResponse(getApplication(ApplicationState.CREATED, INITIAL_APPLICATION_TAGS));
         when(sdkClient.getApplication(any(GetApplicationRequest.class)))
                 .thenReturn(initialApplicationResponse);
@@ -382,12 +385,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final AmazonWebServicesClientProxy callbackProxy = callbackProxy();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handleUntilDone(updateHandler, callbackProxy, request, MOCK_PROXY(callbackProxy, sdkClient));
 
-        int times = BaseHandlerStd.RETRYABLE_EXCEPTIONS.contains(sdkException.getClass())
-            ? new CallbackContext().getRetryAttempts() + 1
-            : 1;
-        verify(sdkClient, times(times)).updateApplication(any(UpdateApplicationRequest.class));
+        verify(sdkClient, times(attempts)).updateApplication(any(UpdateApplicationRequest.class));
         assertThat(response).isNotNull();
         verify(sdkClient, never()).tagResource(any(TagResourceRequest.class));
         verify(sdkClient, never()).untagResource(any(UntagResourceRequest.class));
@@ -407,7 +409,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(sdkClient.updateApplication(any(UpdateApplicationRequest.class)))
                 .thenReturn(updateApplicationResponse);
         when(sdkClient.getApplication(any(GetApplicationRequest.class)))
-                .thenReturn(initialApplicationResponse)
                 .thenReturn(initialApplicationResponse)
                 .thenReturn(postUpdateApplicationResponse);
         when(sdkClient.untagResource(any(UntagResourceRequest.class)))
@@ -422,13 +423,15 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(model)
                 .desiredResourceTags(DESIRED_APPLICATION_TAGS)
                 .build();
-        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final AmazonWebServicesClientProxy callbackProxy = callbackProxy();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handleUntilDone(updateHandler, callbackProxy, request, MOCK_PROXY(callbackProxy, sdkClient));
 
         assertThat(response).isNotNull();
         verify(sdkClient).updateApplication(any(UpdateApplicationRequest.class));
         verify(sdkClient, never()).tagResource(any(TagResourceRequest.class));
         verify(sdkClient, times(6)).untagResource(any(UntagResourceRequest.class));
-        verify(sdkClient, times(2)).getApplication(any(GetApplicationRequest.class));
+        verify(sdkClient).getApplication(any(GetApplicationRequest.class));
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
@@ -443,7 +446,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(sdkClient.updateApplication(any(UpdateApplicationRequest.class)))
                 .thenReturn(updateApplicationResponse);
         when(sdkClient.getApplication(any(GetApplicationRequest.class)))
-                .thenReturn(initialApplicationResponse)
                 .thenReturn(initialApplicationResponse)
                 .thenReturn(postUpdateApplicationResponse);
         when(sdkClient.tagResource(any(TagResourceRequest.class)))
@@ -460,18 +462,215 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(model)
                 .desiredResourceTags(DESIRED_APPLICATION_TAGS)
                 .build();
-        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final AmazonWebServicesClientProxy callbackProxy = callbackProxy();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handleUntilDone(updateHandler, callbackProxy, request, MOCK_PROXY(callbackProxy, sdkClient));
 
         assertThat(response).isNotNull();
         verify(sdkClient).updateApplication(any(UpdateApplicationRequest.class));
         verify(sdkClient, times(6)).tagResource(any(TagResourceRequest.class));
         verify(sdkClient).untagResource(any(UntagResourceRequest.class));
-        verify(sdkClient, times(2)).getApplication(any(GetApplicationRequest.class));
+        verify(sdkClient).getApplication(any(GetApplicationRequest.class));
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
     }
 
+    @Test
+    public void handleRequest_SkipsUpdateApplicationForTagOnlyChange() {
+        GetApplicationResponse initialApplicationResponse = getApplicationResponse(getApplication(ApplicationState.CREATED, INITIAL_APPLICATION_TAGS));
+        GetApplicationResponse postUpdateApplicationResponse = getApplicationResponse(getApplication(ApplicationState.CREATED, DESIRED_APPLICATION_TAGS));
+
+        when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+                .thenReturn(initialApplicationResponse)
+                .thenReturn(postUpdateApplicationResponse);
+        when(sdkClient.tagResource(any(TagResourceRequest.class)))
+                .thenReturn(TagResourceResponse.builder().build());
+        when(sdkClient.untagResource(any(UntagResourceRequest.class)))
+                .thenReturn(UntagResourceResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(getResourceModel(APPLICATION_ID, INITIAL_APPLICATION_TAGS))
+                .desiredResourceState(getResourceModel(APPLICATION_ID, DESIRED_APPLICATION_TAGS))
+                .desiredResourceTags(DESIRED_APPLICATION_TAGS)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        verify(sdkClient, never()).updateApplication(any(UpdateApplicationRequest.class));
+        verify(sdkClient).tagResource(any(TagResourceRequest.class));
+        verify(sdkClient).untagResource(any(UntagResourceRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(getResourceModel(APPLICATION_ID, DESIRED_APPLICATION_TAGS));
+    }
+
+    @Test
+    public void handleRequest_TagDiffFromPreviousState() {
+        // Live tags aren't consulted when the previous state describes the application
+        GetApplicationResponse liveApplicationResponse = getApplicationResponse(getApplication(ApplicationState.CREATED, Collections.emptyMap()));
+        GetApplicationResponse postUpdateApplicationResponse = getApplicationResponse(getApplication(ApplicationState.CREATED, DESIRED_APPLICATION_TAGS));
+
+        when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+                .thenReturn(liveApplicationResponse)
+                .thenReturn(postUpdateApplicationResponse);
+        when(sdkClient.tagResource(any(TagResourceRequest.class)))
+                .thenReturn(TagResourceResponse.builder().build());
+        when(sdkClient.untagResource(any(UntagResourceRequest.class)))
+                .thenReturn(UntagResourceResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(getResourceModel(APPLICATION_ID, ImmutableMap.of("tag-key-1", "tag-value-1")))
+                .previousResourceTags(ImmutableMap.of("tag-key-2", "tag-value-2", "tag-key-3", "tag-value-3"))
+                .desiredResourceState(getResourceModel(APPLICATION_ID, DESIRED_APPLICATION_TAGS))
+                .desiredResourceTags(DESIRED_APPLICATION_TAGS)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        final ArgumentCaptor<UntagResourceRequest> untagRequest = ArgumentCaptor.forClass(UntagResourceRequest.class);
+        final ArgumentCaptor<TagResourceRequest> tagRequest = ArgumentCaptor.forClass(TagResourceRequest.class);
+        assertThat(response).isNotNull();
+        verify(sdkClient, never()).updateApplication(any(UpdateApplicationRequest.class));
+        verify(sdkClient).untagResource(untagRequest.capture());
+        verify(sdkClient).tagResource(tagRequest.capture());
+        assertThat(untagRequest.getValue().resourceArn()).isEqualTo(APPLICATION_ARN);
+        assertThat(untagRequest.getValue().tagKeys()).containsExactlyInAnyOrder("tag-key-1", "tag-key-2");
+        assertThat(tagRequest.getValue().tags()).containsOnlyKeys("tag-key-4", "tag-key-5");
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
+    @Test
+    public void handleRequest_TagDiffFallsBackToLiveTagsWhenPreviousStateIsStale() {
+        // The previous state carries an Arn the service rejects, the tags are diffed again against the live ones
+        GetApplicationResponse liveApplicationResponse = getApplicationResponse(getApplication(ApplicationState.CREATED, INITIAL_APPLICATION_TAGS));
+        GetApplicationResponse postUpdateApplicationResponse = getApplicationResponse(getApplication(ApplicationState.CREATED, DESIRED_APPLICATION_TAGS));
+
+        when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+                .thenReturn(liveApplicationResponse)
+                .thenReturn(liveApplicationResponse)
+                .thenReturn(postUpdateApplicationResponse);
+        when(sdkClient.untagResource(any(UntagResourceRequest.class)))
+                .thenThrow(VALIDATION_EXCEPTION)
+                .thenReturn(UntagResourceResponse.builder().build());
+        when(sdkClient.tagResource(any(TagResourceRequest.class)))
+                .thenReturn(TagResourceResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(getResourceModel(APPLICATION_ID, ImmutableMap.of("tag-key-6", "tag-value-6")).toBuilder()
+                        .arn("stale-arn")
+                        .build())
+                .desiredResourceState(getResourceModel(APPLICATION_ID, DESIRED_APPLICATION_TAGS))
+                .desiredResourceTags(DESIRED_APPLICATION_TAGS)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        final ArgumentCaptor<UntagResourceRequest> untagRequest = ArgumentCaptor.forClass(UntagResourceRequest.class);
+        final ArgumentCaptor<TagResourceRequest> tagRequest = ArgumentCaptor.forClass(TagResourceRequest.class);
+        assertThat(response).isNotNull();
+        verify(sdkClient, times(3)).getApplication(any(GetApplicationRequest.class));
+        verify(sdkClient, times(2)).untagResource(untagRequest.capture());
+        verify(sdkClient).tagResource(tagRequest.capture());
+        assertThat(untagRequest.getAllValues().get(0).resourceArn()).isEqualTo("stale-arn");
+        assertThat(untagRequest.getAllValues().get(0).tagKeys()).containsExactly("tag-key-6");
+        assertThat(untagRequest.getAllValues().get(1).resourceArn()).isEqualTo(APPLICATION_ARN);
+        assertThat(untagRequest.getAllValues().get(1).tagKeys()).containsExactlyInAnyOrder("tag-key-1", "tag-key-2");
+        assertThat(tagRequest.getValue().resourceArn()).isEqualTo(APPLICATION_ARN);
+        assertThat(tagRequest.getValue().tags()).containsOnlyKeys("tag-key-4", "tag-key-5");
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext().isTagsReadFromApplication()).isTrue();
+    }
+
+    @Test
+    public void handleRequest_SkipsAllCallsForUnchangedModel() {
+        GetApplicationResponse applicationResponse = getApplicationResponse(getApplication(ApplicationState.CREATED, INITIAL_APPLICATION_TAGS));
+
+        when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+                .thenReturn(applicationResponse);
+
+        final ResourceModel model = getResourceModel(APPLICATION_ID, INITIAL_APPLICATION_TAGS);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(getResourceModel(APPLICATION_ID, INITIAL_APPLICATION_TAGS))
+                .desiredResourceState(model)
+                .desiredResourceTags(INITIAL_APPLICATION_TAGS)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        verify(sdkClient, never()).updateApplication(any(UpdateApplicationRequest.class));
+        verify(sdkClient, never()).tagResource(any(TagResourceRequest.class));
+        verify(sdkClient, never()).untagResource(any(UntagResourceRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(model);
+    }
+
+    @Test
+    public void handleRequest_ConcurrentTagOperations() {
+        GetApplicationResponse postUpdateApplicationResponse = getApplicationResponse(getApplication(ApplicationState.CREATED, DESIRED_APPLICATION_TAGS));
+
+        when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+                .thenReturn(postUpdateApplicationResponse);
+        doReturn(CompletableFuture.completedFuture(TagResourceResponse.builder().build()))
+                .when(sdkAsyncClient).tagResource(any(TagResourceRequest.class));
+        doReturn(CompletableFuture.completedFuture(UntagResourceResponse.builder().build()))
+                .when(sdkAsyncClient).untagResource(any(UntagResourceRequest.class));
+
+        final UpdateHandler handler = concurrentTaggingHandler();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, tagOnlyRequest(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        verify(sdkAsyncClient).tagResource(any(TagResourceRequest.class));
+        verify(sdkAsyncClient).untagResource(any(UntagResourceRequest.class));
+        verify(sdkClient, never()).tagResource(any(TagResourceRequest.class));
+        verify(sdkClient, never()).untagResource(any(UntagResourceRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(getResourceModel(APPLICATION_ID, DESIRED_APPLICATION_TAGS));
+    }
+
+    @Test
+    public void handleRequest_ConcurrentTagOperationsUntagFailure() {
+        when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+                .thenReturn(getApplicationResponse(getApplication(ApplicationState.CREATED, INITIAL_APPLICATION_TAGS)));
+        doReturn(CompletableFuture.completedFuture(TagResourceResponse.builder().build()))
+                .when(sdkAsyncClient).tagResource(any(TagResourceRequest.class));
+        doReturn(failedFuture(EmrServerlessException.builder().message("untag failed").build()))
+                .when(sdkAsyncClient).untagResource(any(UntagResourceRequest.class));
+
+        final UpdateHandler handler = concurrentTaggingHandler();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, tagOnlyRequest(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        verify(sdkAsyncClient).tagResource(any(TagResourceRequest.class));
+        verify(sdkAsyncClient).untagResource(any(UntagResourceRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.GeneralServiceException);
+        assertThat(response.getMessage()).contains("'UntagResource'");
+    }
+
+    @Test
+    public void handleRequest_ConcurrentTagOperationsRetriesTagFailure() {
+        when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+                .thenReturn(getApplicationResponse(getApplication(ApplicationState.CREATED, INITIAL_APPLICATION_TAGS)));
+        doReturn(failedFuture(INTERNAL_SERVER_EXCEPTION))
+                .when(sdkAsyncClient).tagResource(any(TagResourceRequest.class));
+        doReturn(CompletableFuture.completedFuture(UntagResourceResponse.builder().build()))
+                .when(sdkAsyncClient).untagResource(any(UntagResourceRequest.class));
+
+        final UpdateHandler handler = concurrentTaggingHandler();
+        final AmazonWebServicesClientProxy callbackProxy = callbackProxy();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handleUntilDone(handler, callbackProxy, tagOnlyRequest(), MOCK_PROXY(callbackProxy, sdkClient));
+
+        assertThat(response).isNotNull();
+        verify(sdkAsyncClient, times(6)).tagResource(any(TagResourceRequest.class));
+        verify(sdkAsyncClient, times(6)).untagResource(any(UntagResourceRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+        assertThat(response.getMessage()).contains("'TagResource'");
+    }
+
     @Test
     public void handleRequest_PreCheckFailureForTerminatedApplication() {
         GetApplicationResponse initialApplicationResponse = getApplicationResponse(getApplication(ApplicationState.TERMINATED, INITIAL_APPLICATION_TAGS));
@@ -497,6 +696,33 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
     }
 
+    @Test
+    public void parseConcurrentTagOperations_OnlyTrueTurnsThemOn() {
+        assertThat(UpdateHandler.parseConcurrentTagOperations(" TRUE ")).isTrue();
+        assertThat(UpdateHandler.parseConcurrentTagOperations("false")).isFalse();
+        assertThat(UpdateHandler.parseConcurrentTagOperations("yes")).isFalse();
+        assertThat(UpdateHandler.parseConcurrentTagOperations(null)).isFalse();
+    }
+
+    private UpdateHandler concurrentTaggingHandler() {
+        return withExecutionMode(new UpdateHandler(true), proxy, sdkAsyncClient);
+    }
+
+    // Unchanged application, tags 1 and 2 are removed and tags 4 and 5 are added
+    private ResourceHandlerRequest<ResourceModel> tagOnlyRequest() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(getResourceModel(APPLICATION_ID, INITIAL_APPLICATION_TAGS))
+                .desiredResourceState(getResourceModel(APPLICATION_ID, DESIRED_APPLICATION_TAGS))
+                .desiredResourceTags(DESIRED_APPLICATION_TAGS)
+                .build();
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(final Exception exception) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(exception);
+        return future;
+    }
+
     private UpdateApplicationResponse updateApplicationResponse() {
         Application application = getApplication(APPLICATION_ID, ApplicationState.CREATED);
         return UpdateApplicationResponse.builder()
@@ -563,4 +789,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .build();
     }
 
+    @Override
+    protected Map<Exception, Integer> getRetriedExceptionAttempts() {
+        return ImmutableMap.of(INTERNAL_SERVER_EXCEPTION, 6);
+    }
+
 }
\ No newline at end of file